@@ -55,7 +55,8 @@ export default function Login() {
         // Store the token
         localStorage.setItem('hotelAuth', JSON.stringify({
           isAuthenticated: true,
-          token: response.data.token
+          token: response.data.token,
+          refreshToken: response.data.refreshToken
         }));
         
         // Notify success
@@ -17,7 +17,8 @@ apiClient.interceptors.request.use(
     // KHÔNG gửi token cho API login hoặc register
     if (
       !config.url.endsWith('/auth/login') &&
-      !config.url.endsWith('/auth/register')
+      !config.url.endsWith('/auth/register') &&
+      !config.url.endsWith('/auth/refresh')
     ) {
       const authData = localStorage.getItem('hotelAuth');
       if (authData) {
@@ -37,6 +38,26 @@ apiClient.interceptors.request.use(
   (error) => Promise.reject(error)
 );
 
+// Refresh in progress, shared by every request that got a 401 meanwhile. Refresh tokens rotate on each use,
+// so parallel refreshes with the same token would look like reuse and revoke the whole login.
+let pendingRefresh = null;
+
+const refreshAccessToken = (authData) => {
+  if (!pendingRefresh) {
+    pendingRefresh = axios
+      .post(`${apiClient.defaults.baseURL}/auth/refresh`, { refreshToken: authData.refreshToken })
+      .then(({ data }) => {
+        const { token, refreshToken } = data.result;
+        localStorage.setItem('hotelAuth', JSON.stringify({ ...authData, token, refreshToken }));
+        return token;
+      })
+      .finally(() => {
+        pendingRefresh = null;
+      });
+  }
+  return pendingRefresh;
+};
+
 // Response interceptor for handling common errors and transforming data
 apiClient.interceptors.response.use(
   (response) => {
@@ -60,10 +81,27 @@ apiClient.interceptors.response.use(
     // If not in the expected format, return as is
     return response;
   },
-  (error) => {
-    const { response } = error;
+  async (error) => {
+    const { response, config } = error;
 
     if (response && response.status === 401) {
+      // Access token expired - try once to renew it with the refresh token
+      const authData = JSON.parse(localStorage.getItem('hotelAuth') || '{}');
+      if (authData.refreshToken && config && !config._retried && !config.url.endsWith('/auth/refresh')) {
+        try {
+          // Another request may have renewed the token since this one was sent
+          const sent = config.headers['Authorization'];
+          const token = authData.token && sent !== `Bearer ${authData.token}`
+            ? authData.token
+            : await refreshAccessToken(authData);
+          config._retried = true;
+          config.headers['Authorization'] = `Bearer ${token}`;
+          return apiClient(config);
+        } catch (e) {
+          // Refresh token expired or revoked - fall through to login
+        }
+      }
+
       // Token expired or invalid - redirect to login
       localStorage.removeItem('hotelAuth');
       window.location.href = '/login';
@@ -80,7 +118,8 @@ export const api = {
   // Auth endpoints
   auth: {
     login: (credentials) => apiClient.post('/auth/login', credentials),
-    logout: () => apiClient.post('/auth/logout'),
+    logout: (tokens) => apiClient.post('/auth/logout', tokens),
+    refresh: (refreshToken) => apiClient.post('/auth/refresh', { refreshToken }),
     register: (userData) => apiClient.post('/auth/register', userData),
   },
 
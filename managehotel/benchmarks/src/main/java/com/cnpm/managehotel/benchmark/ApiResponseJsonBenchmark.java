@@ -0,0 +1,85 @@
+package com.cnpm.managehotel.benchmark;
+
+import com.cnpm.managehotel.constant.RoomStatus;
+import com.cnpm.managehotel.dto.RoomDTO;
+import com.cnpm.managehotel.dto.response.ApiResponse;
+import com.cnpm.managehotel.dto.response.BookingResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writing the controllers' {@link ApiResponse} envelope for a room list and a booking list of {@code size} entries,
+ * with an {@link ObjectMapper} configured like the one Spring MVC uses.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ApiResponseJsonBenchmark {
+
+    @Param({"100", "10000"})
+    int size;
+
+    ObjectMapper objectMapper;
+
+    ApiResponse<RoomDTO> rooms;
+
+    ApiResponse<BookingResponse> bookings;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        List<RoomDTO> roomList = new ArrayList<>(size);
+        List<BookingResponse> bookingList = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            roomList.add(RoomDTO.builder()
+                    .id((long) i)
+                    .roomNo(100 + i)
+                    .type(String.valueOf((char) ('A' + i % 3)))
+                    .price(500_000 + 100_000 * (i % 3))
+                    .maxNum(2 + i % 3)
+                    .status(RoomStatus.AVAILABLE)
+                    .listResult(List.of())
+                    .build());
+            bookingList.add(BookingResponse.builder()
+                    .id((long) i)
+                    .bookingCode("BK-" + (10_000_000 + i))
+                    .fullName("Guest " + i)
+                    .guestNum(2)
+                    .checkIn(new Date())
+                    .checkOut(Date.from(Instant.now().plus(2, ChronoUnit.DAYS)))
+                    .listResult(List.of())
+                    .build());
+        }
+
+        RoomDTO roomPage = new RoomDTO();
+        roomPage.setListResult(roomList);
+        rooms = ApiResponse.<RoomDTO>builder().result(roomPage).build();
+
+        BookingResponse bookingPage = new BookingResponse();
+        bookingPage.setListResult(bookingList);
+        bookings = ApiResponse.<BookingResponse>builder().result(bookingPage).build();
+    }
+
+    @Benchmark
+    public byte[] roomList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(rooms);
+    }
+
+    @Benchmark
+    public byte[] bookingList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(bookings);
+    }
+}
@@ -0,0 +1,80 @@
+package com.cnpm.managehotel.benchmark;
+
+import com.cnpm.managehotel.constant.RoomStatus;
+import com.cnpm.managehotel.entity.Booking;
+import com.cnpm.managehotel.entity.BookingDetail;
+import com.cnpm.managehotel.entity.Room;
+import com.cnpm.managehotel.service.impl.BookingServiceImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.MethodHandle;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The in-memory overlap check {@code BookingServiceImpl.save} runs over the rooms of a new booking, after their
+ * booking lines are loaded. Each room carries {@code bookingsPerRoom} past stays that end before the requested
+ * dates, so every line is compared and the check passes; the cost grows with a room's booking history.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AvailabilityCheckBenchmark {
+
+    @Param({"1", "4"})
+    int rooms;
+
+    @Param({"10", "1000"})
+    int bookingsPerRoom;
+
+    BookingServiceImpl bookingService;
+
+    MethodHandle areRoomsAvailable;
+
+    List<Room> candidates;
+
+    Date checkIn;
+
+    Date checkOut;
+
+    @Setup
+    public void setUp() {
+        bookingService = BenchmarkSupport.withoutCollaborators(BookingServiceImpl.class);
+        areRoomsAvailable = BenchmarkSupport.privateMethod(BookingServiceImpl.class, "areRoomsAvailable",
+                List.class, Date.class, Date.class);
+
+        Instant first = Instant.now().minus(3L * bookingsPerRoom, ChronoUnit.DAYS);
+        candidates = new ArrayList<>();
+        for (int r = 0; r < rooms; r++) {
+            Room room = new Room();
+            room.setId((long) r);
+            room.setRoomNo(100 + r);
+            room.setStatus(RoomStatus.AVAILABLE);
+            for (int b = 0; b < bookingsPerRoom; b++) {
+                Instant stay = first.plus(3L * b, ChronoUnit.DAYS);
+                Booking booking = new Booking();
+                booking.setCheckIn(Date.from(stay));
+                booking.setCheckOut(Date.from(stay.plus(2, ChronoUnit.DAYS)));
+                BookingDetail detail = new BookingDetail();
+                detail.setBooking(booking);
+                detail.setRoom(room);
+                room.getBookingDetails().add(detail);
+            }
+            candidates.add(room);
+        }
+        checkIn = Date.from(Instant.now().plus(1, ChronoUnit.DAYS));
+        checkOut = Date.from(Instant.now().plus(3, ChronoUnit.DAYS));
+    }
+
+    @Benchmark
+    public boolean areRoomsAvailable() throws Throwable {
+        return (boolean) areRoomsAvailable.invoke(bookingService, candidates, checkIn, checkOut);
+    }
+}
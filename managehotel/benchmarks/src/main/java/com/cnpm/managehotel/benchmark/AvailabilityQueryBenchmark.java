@@ -0,0 +1,235 @@
+package com.cnpm.managehotel.benchmark;
+
+import com.cnpm.managehotel.repository.RoomRepo;
+import org.flywaydb.core.Flyway;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the availability search before and after the stay dates were denormalized onto booking_detail.
+ * <ul>
+ *     <li>{@code legacyDateJoin}: the old {@code NOT IN} over booking_detail joined to booking, with DATE() on
+ *     check_in/check_out.</li>
+ *     <li>{@code stayDateProbe}: the {@code NOT EXISTS} range probe {@link RoomRepo#findAvailableRoomsBetween}
+ *     runs now.</li>
+ * </ul>
+ * Both are the SQL Hibernate renders, except that DATE(x) is written CAST(x AS DATE) so it also runs on H2.
+ *
+ * <p>The schema comes from the application's Flyway scripts. The first run fills an empty database with
+ * {@code rows} booking lines spread over {@code rooms} rooms. Later runs against the same database reuse the data.
+ * The default is a file-backed H2 database under {@code target/}. Pass {@code -p jdbcUrl=jdbc:mysql://...} to
+ * measure MySQL; the database must be empty or hold a dataset of the same size.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class AvailabilityQueryBenchmark {
+
+    static final String LEGACY_SQL = """
+            SELECT r.id, r.room_no, r.type, r.price, r.max_num, r.status FROM room r
+            WHERE r.status NOT IN ('MAINTAIN', 'DIRTY')
+            AND r.archived_at IS NULL
+            AND r.id NOT IN (
+               SELECT bd.room_id FROM booking_detail bd JOIN booking b ON b.id = bd.booking_id
+               WHERE CAST(b.check_out AS DATE) >= CAST(? AS DATE)
+               AND CAST(b.check_in AS DATE) < CAST(? AS DATE)
+            )
+            """;
+
+    static final String PROBE_SQL = """
+            SELECT r.id, r.room_no, r.type, r.price, r.max_num, r.status FROM room r
+            WHERE r.status <> 'MAINTAIN'
+            AND (r.status <> 'DIRTY' OR ? > ?)
+            AND r.archived_at IS NULL
+            AND NOT EXISTS (
+               SELECT 1 FROM booking_detail bd
+               WHERE bd.room_id = r.id
+               AND bd.stay_start < ?
+               AND bd.stay_end >= ?
+            )
+            """;
+
+    static final LocalDate FIRST_DAY = LocalDate.of(2000, 1, 1);
+    static final int BATCH = 10_000;
+
+    @Param("jdbc:h2:file:./target/availability-bench/hotel;MODE=MySQL;NON_KEYWORDS=USER")
+    String jdbcUrl;
+
+    @Param("sa")
+    String username;
+
+    @Param("")
+    String password;
+
+    @Param("5000000")
+    int rows;
+
+    @Param("2000")
+    int rooms;
+
+    Connection connection;
+
+    PreparedStatement legacy;
+
+    PreparedStatement probe;
+
+    int lastDay;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        Flyway.configure()
+                .dataSource(jdbcUrl, username, password)
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+
+        connection = DriverManager.getConnection(jdbcUrl, username, password);
+        long existing = count("booking_detail");
+        if (existing == 0) {
+            generate();
+        } else if (existing != rows) {
+            throw new IllegalStateException("booking_detail holds " + existing + " rows, expected 0 or " + rows);
+        }
+        lastDay = (int) ChronoUnit.DAYS.between(FIRST_DAY, lastStayEnd());
+
+        legacy = connection.prepareStatement(LEGACY_SQL);
+        probe = connection.prepareStatement(PROBE_SQL);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    /**
+     * A three-night search starting on a random day inside the generated history.
+     */
+    @State(Scope.Thread)
+    public static class Window {
+
+        final SplittableRandom random = new SplittableRandom(42);
+
+        LocalDate checkIn;
+
+        LocalDate checkOut;
+
+        @Setup(Level.Invocation)
+        public void next(AvailabilityQueryBenchmark benchmark) {
+            checkIn = FIRST_DAY.plusDays(random.nextInt(Math.max(1, benchmark.lastDay)));
+            checkOut = checkIn.plusDays(3);
+        }
+    }
+
+    @Benchmark
+    public int legacyDateJoin(Window window) throws SQLException {
+        legacy.setTimestamp(1, Timestamp.valueOf(window.checkIn.atStartOfDay()));
+        legacy.setTimestamp(2, Timestamp.valueOf(window.checkOut.atStartOfDay()));
+        return drain(legacy);
+    }
+
+    @Benchmark
+    public int stayDateProbe(Window window) throws SQLException {
+        probe.setObject(1, window.checkIn);
+        probe.setObject(2, LocalDate.now());
+        probe.setObject(3, window.checkOut);
+        probe.setObject(4, window.checkIn);
+        return drain(probe);
+    }
+
+    private static int drain(PreparedStatement statement) throws SQLException {
+        int count = 0;
+        try (ResultSet rs = statement.executeQuery()) {
+            while (rs.next()) {
+                count += rs.getInt(2);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Back-to-back stays of one to four nights per room with gaps of up to three days, one booking per line.
+     */
+    private void generate() throws SQLException {
+        connection.setAutoCommit(false);
+        try (PreparedStatement room = connection.prepareStatement(
+                "INSERT INTO room (id, room_no, type, price, max_num, status) VALUES (?, ?, 'A', 500000, 2, 'AVAILABLE')");
+             PreparedStatement booking = connection.prepareStatement(
+                     "INSERT INTO booking (id, booking_code, check_in, check_out, guest_num, is_paid) VALUES (?, ?, ?, ?, 2, ?)");
+             PreparedStatement detail = connection.prepareStatement(
+                     "INSERT INTO booking_detail (id, price, unit, is_foreign, extra_fee, booking_id, room_id, stay_start, stay_end) " +
+                             "VALUES (?, 500000, ?, FALSE, 0, ?, ?, ?, ?)")) {
+            for (int r = 1; r <= rooms; r++) {
+                room.setLong(1, r);
+                room.setInt(2, r);
+                room.addBatch();
+            }
+            room.executeBatch();
+
+            SplittableRandom random = new SplittableRandom(7);
+            LocalDate[] nextFree = new LocalDate[rooms];
+            for (long id = 1; id <= rows; id++) {
+                int r = (int) ((id - 1) % rooms);
+                LocalDate start = (nextFree[r] == null ? FIRST_DAY : nextFree[r]).plusDays(random.nextInt(4));
+                int nights = 1 + random.nextInt(4);
+                LocalDate end = start.plusDays(nights);
+                nextFree[r] = end;
+
+                booking.setLong(1, id);
+                booking.setString(2, "BM-" + id);
+                booking.setTimestamp(3, Timestamp.valueOf(start.atTime(14, 0)));
+                booking.setTimestamp(4, Timestamp.valueOf(end.atTime(12, 0)));
+                booking.setBoolean(5, end.isBefore(LocalDate.now()));
+                booking.addBatch();
+
+                detail.setLong(1, id);
+                detail.setInt(2, nights);
+                detail.setLong(3, id);
+                detail.setLong(4, r + 1);
+                detail.setObject(5, start);
+                detail.setObject(6, end);
+                detail.addBatch();
+
+                if (id % BATCH == 0 || id == rows) {
+                    booking.executeBatch();
+                    detail.executeBatch();
+                    connection.commit();
+                }
+            }
+        } finally {
+            connection.setAutoCommit(true);
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(jdbcUrl.startsWith("jdbc:mysql") ? "ANALYZE TABLE room, booking, booking_detail" : "ANALYZE");
+        }
+    }
+
+    private long count(String table) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT COUNT(*) FROM " + table)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    private LocalDate lastStayEnd() throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT MAX(stay_end) FROM booking_detail")) {
+            rs.next();
+            return rs.getObject(1, LocalDate.class);
+        }
+    }
+}
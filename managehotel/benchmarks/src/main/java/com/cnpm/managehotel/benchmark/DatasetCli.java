@@ -0,0 +1,56 @@
+package com.cnpm.managehotel.benchmark;
+
+import com.cnpm.managehotel.dataset.DatasetGenerator;
+import com.cnpm.managehotel.dataset.DatasetReport;
+import com.cnpm.managehotel.dataset.DatasetScale;
+import com.cnpm.managehotel.dataset.LoadMode;
+import org.flywaydb.core.Flyway;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Migrates a database and fills it with {@link DatasetGenerator} without starting the application:
+ * <pre>
+ * java -cp target/benchmarks.jar com.cnpm.managehotel.benchmark.DatasetCli \
+ *     --url=jdbc:mysql://localhost:3306/hotel_bench?rewriteBatchedStatements=true --username=root --password=... \
+ *     --scale=10 --years=3 --seed=42 --mode=batch
+ * </pre>
+ * Every option has a default; without {@code --url} the data goes to a file-backed H2 database under
+ * {@code target/dataset}, which the JMH suites can read with {@code -p jdbcUrl=...}.
+ */
+public final class DatasetCli {
+
+    static final String DEFAULT_URL = "jdbc:h2:file:./target/dataset/hotel;MODE=MySQL;NON_KEYWORDS=USER,VALUE";
+
+    private DatasetCli() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (!arg.startsWith("--") || eq < 0) {
+                System.err.println("usage: DatasetCli [--url=] [--username=] [--password=] [--scale=1] [--years=3] "
+                        + "[--seed=42] [--mode=batch|load_data]");
+                System.exit(2);
+            }
+            options.put(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+
+        String url = options.getOrDefault("url", DEFAULT_URL);
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(url,
+                options.getOrDefault("username", "sa"), options.getOrDefault("password", ""));
+        Flyway.configure().dataSource(dataSource).locations("classpath:db/migration").load().migrate();
+
+        DatasetReport report = new DatasetGenerator(dataSource,
+                DatasetScale.of(Double.parseDouble(options.getOrDefault("scale", "1")),
+                        Integer.parseInt(options.getOrDefault("years", "3"))),
+                Long.parseLong(options.getOrDefault("seed", "42")),
+                LoadMode.valueOf(options.getOrDefault("mode", "batch").toUpperCase(Locale.ROOT)))
+                .generate();
+        System.out.println(url + ": " + report);
+    }
+}
@@ -0,0 +1,178 @@
+package com.cnpm.managehotel.benchmark;
+
+import com.cnpm.managehotel.ManagehotelApplication;
+import com.cnpm.managehotel.constant.RoomStatus;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Throughput of the booking and invoice endpoints with the Hibernate second-level cache off and on
+ * ({@code entity.cache.enabled}). The application runs in the benchmark JVM and is called over HTTP.
+ * <ul>
+ *     <li>{@code createBooking}: {@code POST /booking} for one room.</li>
+ *     <li>{@code createBookingAndPreviewInvoice}: the same booking, then its {@code invoice-preview}, which
+ *     writes the invoice and so can only run once per booking.</li>
+ * </ul>
+ * Every call books a one-night stay on the next free night of one of {@code rooms} rooms, so no booking is
+ * refused and each room's history grows at the same pace in both modes.
+ *
+ * <p>The default database is in-memory H2, which has no network round trip to save; pass
+ * {@code -p jdbcUrl=jdbc:mysql://...} to see what the cache saves against a real server. The rooms are created
+ * on first use and later runs book after the stays already there.</p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class EntityCacheBenchmark {
+
+    static final int FIRST_ROOM_NO = 800_000;
+
+    @Param({"false", "true"})
+    boolean entityCache;
+
+    @Param("jdbc:h2:mem:entity-cache-bench;MODE=MySQL;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1")
+    String jdbcUrl;
+
+    @Param("sa")
+    String username;
+
+    @Param("")
+    String password;
+
+    @Param("500")
+    int rooms;
+
+    ConfigurableApplicationContext context;
+
+    ObjectMapper objectMapper;
+
+    HttpClient httpClient;
+
+    String baseUrl;
+
+    String token;
+
+    LocalDate firstNight;
+
+    final AtomicLong sequence = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("spring.datasource.url", jdbcUrl);
+        properties.put("spring.datasource.username", username);
+        properties.put("spring.datasource.password", password);
+        properties.put("server.port", 0);
+        properties.put("entity.cache.enabled", entityCache);
+        properties.put("logging.level.root", "WARN");
+        properties.put("logging.level.org.springframework.security", "WARN");
+        if (jdbcUrl.startsWith("jdbc:h2")) {
+            properties.put("spring.jpa.properties.hibernate.dialect", "org.hibernate.dialect.H2Dialect");
+        }
+        // passed as arguments so they win over application.properties
+        context = new SpringApplicationBuilder(ManagehotelApplication.class)
+                .run(properties.entrySet().stream().map(e -> "--" + e.getKey() + "=" + e.getValue()).toArray(String[]::new));
+
+        objectMapper = context.getBean(ObjectMapper.class);
+        httpClient = HttpClient.newHttpClient();
+        baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port") + "/api/v1";
+        token = JwtDecoderBenchmark.signToken(context.getEnvironment().getProperty("jwt.signerKey"),
+                "reception@gmail.com", "RECEPTIONIST");
+
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        seedRooms(jdbcTemplate);
+        LocalDate lastStay = jdbcTemplate.queryForObject(
+                "SELECT MAX(bd.stay_end) FROM booking_detail bd JOIN room r ON r.id = bd.room_id WHERE r.room_no >= ?",
+                LocalDate.class, FIRST_ROOM_NO);
+        firstNight = lastStay == null ? LocalDate.now().plusYears(1) : lastStay.plusDays(1);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public String createBooking() throws IOException, InterruptedException {
+        return book();
+    }
+
+    @Benchmark
+    public JsonNode createBookingAndPreviewInvoice() throws IOException, InterruptedException {
+        String bookingCode = book();
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/payment/" + bookingCode + "/invoice-preview"))
+                .header("Authorization", "Bearer " + token)
+                .GET()
+                .build();
+        return send(request);
+    }
+
+    /**
+     * Books the next night of the next room in turn. Nights are two days apart so stays never touch.
+     */
+    private String book() throws IOException, InterruptedException {
+        long n = sequence.getAndIncrement();
+        LocalDate night = firstNight.plusDays(2 * (n / rooms));
+
+        Map<String, Object> body = new HashMap<>();
+        body.put("fullName", "Benchmark Guest");
+        body.put("identityNumber", "EC-" + (n % 1000));
+        body.put("guestNum", 2);
+        body.put("checkIn", night.atTime(14, 0).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        body.put("checkOut", night.plusDays(1).atTime(12, 0).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        body.put("roomNo", new int[]{FIRST_ROOM_NO + (int) (n % rooms)});
+
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/booking"))
+                .header("Authorization", "Bearer " + token)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                .build();
+        return send(request).path("bookingCode").asText();
+    }
+
+    private JsonNode send(HttpRequest request) throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException(request.uri() + " returned " + response.statusCode() + ": "
+                    + new String(response.body()));
+        }
+        return objectMapper.readTree(response.body()).path("result");
+    }
+
+    private void seedRooms(JdbcTemplate jdbcTemplate) {
+        Set<Integer> existing = new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT room_no FROM room WHERE room_no >= ?", Integer.class, FIRST_ROOM_NO));
+        List<Object[]> missing = new ArrayList<>();
+        for (int i = 0; i < rooms; i++) {
+            if (!existing.contains(FIRST_ROOM_NO + i)) {
+                missing.add(new Object[]{FIRST_ROOM_NO + i, RoomStatus.AVAILABLE});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO room (room_no, type, price, max_num, status) VALUES (?, 'A', 500000, 2, ?)",
+                missing);
+    }
+}
@@ -0,0 +1,120 @@
+package com.cnpm.managehotel.benchmark;
+
+import com.cnpm.managehotel.catalog.CatalogCache;
+import com.cnpm.managehotel.dto.response.InvoiceResponse;
+import com.cnpm.managehotel.entity.Booking;
+import com.cnpm.managehotel.entity.BookingDetail;
+import com.cnpm.managehotel.entity.Product;
+import com.cnpm.managehotel.entity.Room;
+import com.cnpm.managehotel.entity.ServiceEntity;
+import com.cnpm.managehotel.entity.User;
+import com.cnpm.managehotel.repository.BookingRepo;
+import com.cnpm.managehotel.repository.BookingdetailRepo;
+import com.cnpm.managehotel.repository.CategoryRepo;
+import com.cnpm.managehotel.repository.InvoiceRepo;
+import com.cnpm.managehotel.repository.ProductRepo;
+import com.cnpm.managehotel.repository.ServiceRepo;
+import com.cnpm.managehotel.service.impl.InvoiceServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link InvoiceServiceImpl#preview} over a booking of {@code rooms} rooms and {@code services} minibar/service
+ * lines. The repositories answer from memory and products come from a warm {@link CatalogCache}, so this is the
+ * pricing, the room list and the response assembly without the four queries around them.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InvoicePreviewBenchmark {
+
+    static final String BOOKING_CODE = "BK-BENCH001";
+    static final int PRODUCTS = 20;
+
+    @Param({"1", "20"})
+    int rooms;
+
+    @Param({"0", "50"})
+    int services;
+
+    InvoiceServiceImpl invoiceService;
+
+    @Setup
+    public void setUp() {
+        User user = new User();
+        user.setFullName("Nguyen Van A");
+        user.setPhoneNumber("0900000001");
+
+        Booking booking = new Booking();
+        booking.setId(1L);
+        booking.setBookingCode(BOOKING_CODE);
+        booking.setCheckIn(new Date());
+        booking.setCheckOut(Date.from(Instant.now().plus(3, ChronoUnit.DAYS)));
+        booking.setUser(user);
+
+        List<BookingDetail> details = new ArrayList<>();
+        for (int i = 0; i < rooms; i++) {
+            Room room = new Room();
+            room.setId((long) i);
+            room.setRoomNo(100 + i);
+            room.setPrice(500_000);
+            BookingDetail detail = new BookingDetail();
+            detail.setRoom(room);
+            detail.setBooking(booking);
+            detail.setUnit(3);
+            detail.setForeign(i % 4 == 0);
+            detail.setExtraFee(i % 3 == 0 ? 0.25 : 0);
+            details.add(detail);
+        }
+
+        List<Product> products = new ArrayList<>();
+        for (long id = 1; id <= PRODUCTS; id++) {
+            Product product = new Product();
+            product.setId(id);
+            product.setTitle("Product " + id);
+            product.setPrice(10_000 * id);
+            products.add(product);
+        }
+        List<ServiceEntity> serviceLines = new ArrayList<>();
+        for (int i = 0; i < services; i++) {
+            ServiceEntity line = new ServiceEntity();
+            line.setProduct(products.get(i % PRODUCTS));
+            line.setPrice(line.getProduct().getPrice());
+            line.setAmount(1 + i % 3);
+            line.setBooking(booking);
+            serviceLines.add(line);
+        }
+
+        ProductRepo productRepo = BenchmarkSupport.stub(ProductRepo.class, Map.of(
+                "findById", args -> products.stream().filter(p -> p.getId().equals(args[0])).findFirst()));
+        CatalogCache catalogCache = new CatalogCache(productRepo, BenchmarkSupport.stub(CategoryRepo.class, Map.of()),
+                new SimpleMeterRegistry(), 5000, Duration.ofMinutes(5), Duration.ofHours(1), false);
+        products.forEach(p -> catalogCache.getProduct(p.getId()));
+
+        invoiceService = new InvoiceServiceImpl(
+                BenchmarkSupport.stub(BookingRepo.class, Map.of("findWithUserByBookingCode", args -> Optional.of(booking))),
+                BenchmarkSupport.stub(BookingdetailRepo.class, Map.of("findByBookingId", args -> details)),
+                BenchmarkSupport.stub(ServiceRepo.class, Map.of("findByBookingId", args -> serviceLines)),
+                BenchmarkSupport.stub(InvoiceRepo.class, Map.of("save", args -> args[0])),
+                catalogCache,
+                null);
+    }
+
+    @Benchmark
+    public InvoiceResponse preview() {
+        return invoiceService.preview(BOOKING_CODE);
+    }
+}
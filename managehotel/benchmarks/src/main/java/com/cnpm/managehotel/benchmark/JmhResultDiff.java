@@ -0,0 +1,69 @@
+package com.cnpm.managehotel.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Compares two JMH JSON result files, such as two runs of the {@code jmh} profile:
+ * <pre>
+ * java -cp target/benchmarks.jar com.cnpm.managehotel.benchmark.JmhResultDiff jmh-results/before.json jmh-results/after.json
+ * </pre>
+ * Prints each benchmark and parameter set found in both files with its change. A change smaller than the two
+ * runs' combined error margin is marked {@code ~}, meaning the runs cannot tell the scores apart.
+ */
+public final class JmhResultDiff {
+
+    private JmhResultDiff() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("usage: JmhResultDiff <baseline.json> <candidate.json>");
+            System.exit(2);
+        }
+        Map<String, JsonNode> baseline = read(new File(args[0]));
+        Map<String, JsonNode> candidate = read(new File(args[1]));
+
+        System.out.printf("%-80s %14s %14s %9s%n", "Benchmark", "Baseline", "Candidate", "Change");
+        for (Map.Entry<String, JsonNode> entry : candidate.entrySet()) {
+            JsonNode before = baseline.get(entry.getKey());
+            if (before == null) {
+                continue;
+            }
+            JsonNode after = entry.getValue();
+            double beforeScore = before.path("score").asDouble();
+            double afterScore = after.path("score").asDouble();
+            double margin = error(before) + error(after);
+            double change = (afterScore - beforeScore) / beforeScore * 100;
+            System.out.printf("%-80s %14.3f %14.3f %+8.1f%% %s %s%n", entry.getKey(), beforeScore, afterScore, change,
+                    Math.abs(afterScore - beforeScore) <= margin ? "~" : " ", after.path("scoreUnit").asText());
+        }
+    }
+
+    private static Map<String, JsonNode> read(File file) throws IOException {
+        Map<String, JsonNode> metrics = new LinkedHashMap<>();
+        for (JsonNode run : new ObjectMapper().readTree(file)) {
+            StringBuilder key = new StringBuilder(run.path("benchmark").asText()
+                    .replace("com.cnpm.managehotel.benchmark.", ""));
+            Iterator<Map.Entry<String, JsonNode>> params = run.path("params").fields();
+            while (params.hasNext()) {
+                Map.Entry<String, JsonNode> param = params.next();
+                key.append(' ').append(param.getKey()).append('=').append(param.getValue().asText());
+            }
+            metrics.put(key.toString(), run.path("primaryMetric"));
+        }
+        return metrics;
+    }
+
+    private static double error(JsonNode metric) {
+        // NaN when a run has a single measurement iteration
+        double error = metric.path("scoreError").asDouble(0);
+        return Double.isNaN(error) ? 0 : error;
+    }
+}
@@ -0,0 +1,119 @@
+package com.cnpm.managehotel.benchmark;
+
+import com.cnpm.managehotel.config.CustomJwtDecoder;
+import com.cnpm.managehotel.repository.InvalidatedTokenRepo;
+import com.cnpm.managehotel.security.JwtTokenVerifier;
+import com.cnpm.managehotel.security.TokenRevocationStore;
+import com.cnpm.managehotel.security.VerifiedTokenCache;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.crypto.MACSigner;
+import com.nimbusds.jose.crypto.MACVerifier;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+
+import javax.crypto.spec.SecretKeySpec;
+import java.text.ParseException;
+import java.time.Instant;
+import java.util.Date;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the per-request cost of the previous decoder path (introspect with a fresh
+ * {@link MACVerifier}, then a second parse and verify in {@link NimbusJwtDecoder}) against
+ * {@link CustomJwtDecoder} backed by {@link VerifiedTokenCache}.
+ *
+ * <p>The legacy {@code existsById} lookup is stubbed to return {@code false}, so the legacy numbers
+ * leave out the MySQL round trip it also paid on every request.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtDecoderBenchmark {
+
+    static final String SIGNER_KEY = "YcDgXHZpD/FJgdzbrKrK//SSuoGRCr58coNezcuNkbGdc9tXGqgTAZiExeiHC3+R";
+
+    String token;
+
+    InvalidatedTokenRepo invalidatedTokenRepo;
+
+    NimbusJwtDecoder nimbusJwtDecoder;
+
+    VerifiedTokenCache verifiedTokenCache;
+
+    CustomJwtDecoder customJwtDecoder;
+
+    @Setup
+    public void setUp() throws JOSEException {
+        token = signToken(SIGNER_KEY);
+        invalidatedTokenRepo = noRevocations();
+
+        nimbusJwtDecoder = NimbusJwtDecoder
+                .withSecretKey(new SecretKeySpec(SIGNER_KEY.getBytes(), "HS512"))
+                .macAlgorithm(MacAlgorithm.HS512)
+                .build();
+
+        TokenRevocationStore tokenRevocationStore = new TokenRevocationStore(invalidatedTokenRepo, 100_000, 5_000);
+        verifiedTokenCache = new VerifiedTokenCache(10_000);
+        customJwtDecoder = new CustomJwtDecoder(
+                new JwtTokenVerifier(SIGNER_KEY, tokenRevocationStore), verifiedTokenCache, tokenRevocationStore);
+    }
+
+    @Benchmark
+    public Jwt legacyIntrospectThenNimbus() throws JOSEException, ParseException {
+        JWSVerifier verifier = new MACVerifier(SIGNER_KEY.getBytes());
+        SignedJWT signedJWT = SignedJWT.parse(token);
+        Date expiryTime = signedJWT.getJWTClaimsSet().getExpirationTime();
+        if (!(signedJWT.verify(verifier) && expiryTime.after(new Date()))) {
+            throw new IllegalStateException("Token invalid");
+        }
+        if (invalidatedTokenRepo.existsById(signedJWT.getJWTClaimsSet().getJWTID())) {
+            throw new IllegalStateException("Token revoked");
+        }
+        return nimbusJwtDecoder.decode(token);
+    }
+
+    @Benchmark
+    public Jwt cachedDecoderHit() {
+        return customJwtDecoder.decode(token);
+    }
+
+    @Benchmark
+    public Jwt cachedDecoderMiss() {
+        verifiedTokenCache.evict(token);
+        return customJwtDecoder.decode(token);
+    }
+
+    static String signToken(String signerKey) throws JOSEException {
+        return signToken(signerKey, "admin@gmail.com", "ADMIN");
+    }
+
+    static String signToken(String signerKey, String subject, String scope) throws JOSEException {
+        JWTClaimsSet claims = new JWTClaimsSet.Builder()
+                .subject(subject)
+                .issuer("managehotel.com")
+                .issueTime(new Date())
+                .expirationTime(Date.from(Instant.now().plusSeconds(7200)))
+                .jwtID(UUID.randomUUID().toString())
+                .claim("scope", scope)
+                .build();
+        SignedJWT signedJWT = new SignedJWT(new JWSHeader(JWSAlgorithm.HS512), claims);
+        signedJWT.sign(new MACSigner(signerKey.getBytes()));
+        return signedJWT.serialize();
+    }
+
+    static InvalidatedTokenRepo noRevocations() {
+        return BenchmarkSupport.stub(InvalidatedTokenRepo.class, Map.of("existsById", args -> false));
+    }
+}
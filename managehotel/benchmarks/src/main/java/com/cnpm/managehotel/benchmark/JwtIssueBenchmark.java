@@ -0,0 +1,64 @@
+package com.cnpm.managehotel.benchmark;
+
+import com.cnpm.managehotel.config.CustomJwtDecoder;
+import com.cnpm.managehotel.constant.UserRole;
+import com.cnpm.managehotel.entity.User;
+import com.cnpm.managehotel.security.JwtTokenVerifier;
+import com.cnpm.managehotel.security.TokenRevocationStore;
+import com.cnpm.managehotel.security.VerifiedTokenCache;
+import com.cnpm.managehotel.service.impl.AuthServiceImpl;
+import com.nimbusds.jose.JOSEException;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import java.lang.invoke.MethodHandle;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Signing an access token the way {@code AuthServiceImpl} does on login and refresh, and the first request that
+ * token makes: a {@link CustomJwtDecoder} miss that verifies the signature and caches the result. Repeat requests
+ * are measured by {@link JwtDecoderBenchmark#cachedDecoderHit}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtIssueBenchmark {
+
+    AuthServiceImpl authService;
+
+    MethodHandle generateToken;
+
+    User user;
+
+    CustomJwtDecoder customJwtDecoder;
+
+    @Setup
+    public void setUp() throws JOSEException {
+        authService = BenchmarkSupport.withoutCollaborators(AuthServiceImpl.class);
+        BenchmarkSupport.inject(authService, "signerKey", JwtDecoderBenchmark.SIGNER_KEY);
+        BenchmarkSupport.inject(authService, "expirationTime", 900L);
+        generateToken = BenchmarkSupport.privateMethod(AuthServiceImpl.class, "generateToken", User.class);
+
+        user = new User();
+        user.setEmail("receptionist@hotel.test");
+        user.setRole(UserRole.RECEPTIONIST);
+
+        TokenRevocationStore tokenRevocationStore =
+                new TokenRevocationStore(JwtDecoderBenchmark.noRevocations(), 100_000, 5_000);
+        customJwtDecoder = new CustomJwtDecoder(new JwtTokenVerifier(JwtDecoderBenchmark.SIGNER_KEY, tokenRevocationStore),
+                new VerifiedTokenCache(10_000), tokenRevocationStore);
+    }
+
+    @Benchmark
+    public String issue() throws Throwable {
+        return (String) generateToken.invoke(authService, user);
+    }
+
+    @Benchmark
+    public Jwt issueThenFirstDecode() throws Throwable {
+        return customJwtDecoder.decode((String) generateToken.invoke(authService, user));
+    }
+}
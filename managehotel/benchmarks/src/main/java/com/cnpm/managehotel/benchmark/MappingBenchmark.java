@@ -0,0 +1,90 @@
+package com.cnpm.managehotel.benchmark;
+
+import com.cnpm.managehotel.constant.RoomStatus;
+import com.cnpm.managehotel.dto.RoomDTO;
+import com.cnpm.managehotel.dto.response.BookingResponse;
+import com.cnpm.managehotel.entity.Booking;
+import com.cnpm.managehotel.entity.Room;
+import com.cnpm.managehotel.entity.User;
+import com.cnpm.managehotel.mapper.BookingMapper;
+import com.cnpm.managehotel.mapper.BookingMapperImpl;
+import com.cnpm.managehotel.mapper.RoomMapper;
+import com.cnpm.managehotel.mapper.RoomMapperImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The MapStruct mappers behind the room and booking lists: {@code RoomServiceImpl.findAll} maps with
+ * {@link RoomMapper#toListDTO}, and {@code BookingServiceImpl.findAll} maps one {@link BookingMapper#toDto} per
+ * booking.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MappingBenchmark {
+
+    @Param({"100", "10000"})
+    int size;
+
+    RoomMapper roomMapper;
+
+    BookingMapper bookingMapper;
+
+    List<Room> rooms;
+
+    List<Booking> bookings;
+
+    @Setup
+    public void setUp() {
+        roomMapper = new RoomMapperImpl();
+        bookingMapper = new BookingMapperImpl();
+
+        rooms = new ArrayList<>(size);
+        bookings = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Room room = new Room();
+            room.setId((long) i);
+            room.setRoomNo(100 + i);
+            room.setType((char) ('A' + i % 3));
+            room.setPrice(500_000 + 100_000 * (i % 3));
+            room.setMaxNum(2 + i % 3);
+            room.setStatus(RoomStatus.AVAILABLE);
+            room.setDescription("Room " + room.getRoomNo());
+            rooms.add(room);
+
+            User user = new User();
+            user.setFullName("Guest " + i);
+            Booking booking = new Booking();
+            booking.setId((long) i);
+            booking.setBookingCode("BK-" + (10_000_000 + i));
+            booking.setGuestNum(2);
+            booking.setCheckIn(new Date());
+            booking.setCheckOut(Date.from(Instant.now().plus(2, ChronoUnit.DAYS)));
+            booking.setUser(user);
+            bookings.add(booking);
+        }
+    }
+
+    @Benchmark
+    public List<RoomDTO> roomList() {
+        return roomMapper.toListDTO(rooms);
+    }
+
+    @Benchmark
+    public List<BookingResponse> bookingList() {
+        List<BookingResponse> responses = new ArrayList<>(bookings.size());
+        for (Booking booking : bookings) {
+            responses.add(bookingMapper.toDto(booking));
+        }
+        return responses;
+    }
+}
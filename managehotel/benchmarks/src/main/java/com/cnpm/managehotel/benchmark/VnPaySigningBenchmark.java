@@ -0,0 +1,64 @@
+package com.cnpm.managehotel.benchmark;
+
+import com.cnpm.managehotel.util.VnPayUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The three {@link VnPayUtil} calls {@code VnPayServiceImpl.createVnPayPayment} makes for each payment link: the
+ * encoded query, the hash input and its HMAC-SHA512. The parameters are the ones the service sends.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class VnPaySigningBenchmark {
+
+    static final String SECRET_KEY = "BENCHMARKSECRETKEYBENCHMARKSECRE";
+
+    Map<String, String> params;
+
+    String hashData;
+
+    @Setup
+    public void setUp() {
+        params = new HashMap<>();
+        params.put("vnp_Version", "2.1.0");
+        params.put("vnp_Command", "pay");
+        params.put("vnp_TmnCode", "PT4WAGX7");
+        params.put("vnp_CurrCode", "VND");
+        params.put("vnp_OrderType", "other");
+        params.put("vnp_Locale", "vn");
+        params.put("vnp_ReturnUrl", "http://localhost:8080/api/v1/vn-pay-callback");
+        params.put("vnp_CreateDate", "20260101120000");
+        params.put("vnp_ExpireDate", "20260101121500");
+        params.put("vnp_Amount", "150000000");
+        params.put("vnp_BankCode", "NCB");
+        params.put("vnp_IpAddr", "127.0.0.1");
+        params.put("vnp_TxnRef", "BK-1A2B3C4D");
+        params.put("vnp_OrderInfo", "Thanh toan don hang:BK-1A2B3C4D");
+        hashData = VnPayUtil.getPaymentURL(params, false);
+    }
+
+    @Benchmark
+    public String hmacSHA512() {
+        return VnPayUtil.hmacSHA512(SECRET_KEY, hashData);
+    }
+
+    @Benchmark
+    public String getPaymentURL() {
+        return VnPayUtil.getPaymentURL(params, true);
+    }
+
+    @Benchmark
+    public String signedPaymentQuery() {
+        String queryUrl = VnPayUtil.getPaymentURL(params, true);
+        String secureHash = VnPayUtil.hmacSHA512(SECRET_KEY, VnPayUtil.getPaymentURL(params, false));
+        return queryUrl + "&vnp_SecureHash=" + secureHash;
+    }
+}
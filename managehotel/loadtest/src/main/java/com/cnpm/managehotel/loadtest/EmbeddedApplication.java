@@ -0,0 +1,63 @@
+package com.cnpm.managehotel.loadtest;
+
+import com.cnpm.managehotel.ManagehotelApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The application started in this JVM on a random port, for runs without {@code --base-url}. Load generator and
+ * server then share the CPUs, so absolute numbers are lower than against a separate server; compare runs made the
+ * same way.
+ */
+final class EmbeddedApplication implements AutoCloseable {
+
+    private final ConfigurableApplicationContext context;
+
+    private EmbeddedApplication(ConfigurableApplicationContext context) {
+        this.context = context;
+    }
+
+    static EmbeddedApplication start(LoadTestOptions options) {
+        Map<String, Object> properties = new LinkedHashMap<>();
+        properties.put("spring.datasource.url", options.url);
+        properties.put("spring.datasource.username", options.username);
+        properties.put("spring.datasource.password", options.password);
+        properties.put("server.port", 0);
+        if (options.profiles != null) {
+            properties.put("spring.profiles.active", options.profiles);
+        }
+        properties.put("logging.level.root", "WARN");
+        properties.put("logging.level.org.springframework.security", "WARN");
+        if (options.url.startsWith("jdbc:h2")) {
+            properties.put("spring.jpa.properties.hibernate.dialect", "org.hibernate.dialect.H2Dialect");
+        }
+        // passed as arguments so they win over application.properties
+        return new EmbeddedApplication(new SpringApplicationBuilder(ManagehotelApplication.class)
+                .run(properties.entrySet().stream().map(e -> "--" + e.getKey() + "=" + e.getValue())
+                        .toArray(String[]::new)));
+    }
+
+    String baseUrl() {
+        return "http://localhost:" + context.getEnvironment().getProperty("local.server.port") + "/api/v1";
+    }
+
+    String signerKey() {
+        return context.getEnvironment().getProperty("jwt.signerKey");
+    }
+
+    /**
+     * The batch pool, so seeding does not compete with the requests for OLTP connections.
+     */
+    DataSource batchDataSource() {
+        return context.getBean("batchDataSource", DataSource.class);
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+}
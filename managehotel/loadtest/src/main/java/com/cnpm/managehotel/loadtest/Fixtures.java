@@ -0,0 +1,155 @@
+package com.cnpm.managehotel.loadtest;
+
+import com.cnpm.managehotel.constant.ProductCategory;
+import com.cnpm.managehotel.constant.RoomStatus;
+import com.cnpm.managehotel.dataset.DatasetGenerator;
+import com.cnpm.managehotel.dataset.DatasetReport;
+import com.cnpm.managehotel.dataset.DatasetScale;
+import com.cnpm.managehotel.dataset.LoadMode;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * What the operations need to find in the database, read once before the run and then kept up to date by the
+ * operations themselves:
+ * <ul>
+ *     <li>new bookings go on free rooms, on nights after every stay already booked, two days apart;</li>
+ *     <li>check-in takes a booking made during the run, at most once per room, because check-in needs an
+ *     AVAILABLE room and the mix has no check-out;</li>
+ *     <li>service lines go to rooms that are in house, using products without stock tracking;</li>
+ *     <li>invoice previews use unpaid bookings that have no invoice yet, each once, because previewing writes
+ *     the invoice.</li>
+ * </ul>
+ */
+final class Fixtures {
+
+    static final int MAX_INVOICE_CODES = 200_000;
+
+    private final List<Integer> bookableRooms;
+
+    private final AtomicInteger[] nextNight;
+
+    private final LocalDate firstFreeNight;
+
+    private final List<Integer> inHouseRooms;
+
+    private final List<Long> serviceProducts;
+
+    private final Queue<String> uninvoicedBookings;
+
+    private final Queue<Booked> toCheckIn = new ConcurrentLinkedQueue<>();
+
+    private final Set<Integer> checkedInRooms = ConcurrentHashMap.newKeySet();
+
+    private final AtomicInteger bookingSequence = new AtomicInteger();
+
+    /**
+     * A booking made during the run.
+     */
+    static final class Booked {
+        final String bookingCode;
+        final int roomNo;
+
+        Booked(String bookingCode, int roomNo) {
+            this.bookingCode = bookingCode;
+            this.roomNo = roomNo;
+        }
+    }
+
+    private Fixtures(JdbcTemplate jdbcTemplate) {
+        bookableRooms = jdbcTemplate.queryForList("SELECT room_no FROM room WHERE status = ? AND archived_at IS NULL "
+                + "ORDER BY room_no", Integer.class, RoomStatus.AVAILABLE);
+        if (bookableRooms.isEmpty()) {
+            throw new IllegalStateException("no AVAILABLE room to book");
+        }
+        nextNight = new AtomicInteger[bookableRooms.size()];
+        for (int i = 0; i < nextNight.length; i++) {
+            nextNight[i] = new AtomicInteger();
+        }
+        LocalDate lastStay = jdbcTemplate.queryForObject("SELECT MAX(stay_end) FROM booking_detail", LocalDate.class);
+        firstFreeNight = (lastStay == null ? LocalDate.now() : lastStay).plusDays(1);
+
+        inHouseRooms = new CopyOnWriteArrayList<>(jdbcTemplate.queryForList(
+                "SELECT room_no FROM room WHERE status = ?", Integer.class, RoomStatus.OCCUPIED));
+        serviceProducts = jdbcTemplate.queryForList(
+                "SELECT id FROM product WHERE category_id <> ?", Long.class, ProductCategory.CONSUMABLE);
+        uninvoicedBookings = new ConcurrentLinkedQueue<>(jdbcTemplate.queryForList(
+                "SELECT b.booking_code FROM booking b WHERE b.is_paid = FALSE "
+                        + "AND NOT EXISTS (SELECT 1 FROM invoice i WHERE i.booking_id = b.id) "
+                        + "ORDER BY b.check_in LIMIT " + MAX_INVOICE_CODES, String.class));
+    }
+
+    /**
+     * Generates a dataset at {@code scale} unless one is already there, then reads the fixtures.
+     */
+    static Fixtures prepare(DataSource dataSource, double scale) throws SQLException {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        Integer generated = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM booking WHERE booking_code LIKE 'DS-%'", Integer.class);
+        if (generated == null || generated == 0) {
+            DatasetReport report = new DatasetGenerator(dataSource, DatasetScale.of(scale, 3), 42, LoadMode.BATCH)
+                    .generate();
+            System.out.println("Seeded " + report);
+        }
+        return new Fixtures(jdbcTemplate);
+    }
+
+    /**
+     * The next free night of one of the rooms, in turn.
+     */
+    int nextBookingRoom(int sequence) {
+        return bookableRooms.get(sequence % bookableRooms.size());
+    }
+
+    LocalDate nextNight(int sequence) {
+        int index = sequence % bookableRooms.size();
+        return firstFreeNight.plusDays(2L * nextNight[index].getAndIncrement());
+    }
+
+    int nextBookingSequence() {
+        return bookingSequence.getAndIncrement();
+    }
+
+    void booked(String bookingCode, int roomNo) {
+        toCheckIn.add(new Booked(bookingCode, roomNo));
+    }
+
+    Optional<Booked> nextCheckIn() {
+        Booked booked;
+        while ((booked = toCheckIn.poll()) != null) {
+            if (checkedInRooms.add(booked.roomNo)) {
+                return Optional.of(booked);
+            }
+        }
+        return Optional.empty();
+    }
+
+    void checkedIn(int roomNo) {
+        inHouseRooms.add(roomNo);
+    }
+
+    Optional<Integer> anyInHouseRoom() {
+        int size = inHouseRooms.size();
+        return size == 0 ? Optional.empty() : Optional.of(inHouseRooms.get(ThreadLocalRandom.current().nextInt(size)));
+    }
+
+    long anyServiceProduct() {
+        return serviceProducts.get(ThreadLocalRandom.current().nextInt(serviceProducts.size()));
+    }
+
+    Optional<String> nextUninvoicedBooking() {
+        return Optional.ofNullable(uninvoicedBookings.poll());
+    }
+}
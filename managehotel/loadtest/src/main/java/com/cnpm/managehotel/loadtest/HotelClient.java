@@ -0,0 +1,165 @@
+package com.cnpm.managehotel.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Issues one call of an {@link Operation} as a receptionist would, using and updating the {@link Fixtures}.
+ * Calls block; each runs on its own virtual thread.
+ */
+final class HotelClient {
+
+    enum Outcome {
+        OK,
+        ERROR,
+        /**
+         * The fixtures had nothing left for this operation, so no request was sent.
+         */
+        SKIPPED
+    }
+
+    private final HttpClient httpClient;
+
+    private final ObjectMapper objectMapper;
+
+    private final String baseUrl;
+
+    private final String authorization;
+
+    private final Fixtures fixtures;
+
+    HotelClient(HttpClient httpClient, ObjectMapper objectMapper, String baseUrl, String token, Fixtures fixtures) {
+        this.httpClient = httpClient;
+        this.objectMapper = objectMapper;
+        this.baseUrl = baseUrl;
+        this.authorization = "Bearer " + token;
+        this.fixtures = fixtures;
+    }
+
+    Outcome call(Operation operation) throws IOException, InterruptedException {
+        return switch (operation) {
+            case AVAILABLE -> available();
+            case BOOKING -> booking();
+            case CHECKIN -> checkIn();
+            case SERVICE -> service();
+            case INVOICE -> invoicePreview();
+            case REPORT -> outcome(send(get("/report")));
+        };
+    }
+
+    /**
+     * A stay of one to four nights starting in the next two months, the window the front desk usually searches.
+     */
+    private Outcome available() throws IOException, InterruptedException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        LocalDate checkIn = LocalDate.now().plusDays(random.nextInt(60));
+        LocalDate checkOut = checkIn.plusDays(1 + random.nextInt(4));
+        return outcome(send(get("/room/available?checkinDate=" + checkIn + "&checkoutDate=" + checkOut)));
+    }
+
+    private Outcome booking() throws IOException, InterruptedException {
+        int sequence = fixtures.nextBookingSequence();
+        int roomNo = fixtures.nextBookingRoom(sequence);
+        LocalDate night = fixtures.nextNight(sequence);
+
+        Map<String, Object> body = new HashMap<>();
+        body.put("fullName", "Load Test Guest");
+        body.put("identityNumber", "LT-" + sequence % 1000);
+        body.put("guestNum", 2);
+        body.put("checkIn", epochMillis(night, 14));
+        body.put("checkOut", epochMillis(night.plusDays(1), 12));
+        body.put("roomNo", new int[]{roomNo});
+
+        HttpResponse<byte[]> response = send(post("/booking", body));
+        if (response.statusCode() != 200) {
+            return Outcome.ERROR;
+        }
+        fixtures.booked(result(response).path("bookingCode").asText(), roomNo);
+        return Outcome.OK;
+    }
+
+    private Outcome checkIn() throws IOException, InterruptedException {
+        Optional<Fixtures.Booked> booked = fixtures.nextCheckIn();
+        if (booked.isEmpty()) {
+            return Outcome.SKIPPED;
+        }
+        Map<String, Object> body = new HashMap<>();
+        body.put("bookingCode", booked.get().bookingCode);
+        body.put("roomNo", booked.get().roomNo);
+        body.put("isForeign", false);
+        body.put("extraFree", true);
+
+        HttpResponse<byte[]> response = send(post("/booking/checkin", body));
+        if (response.statusCode() != 200) {
+            return Outcome.ERROR;
+        }
+        fixtures.checkedIn(booked.get().roomNo);
+        return Outcome.OK;
+    }
+
+    private Outcome service() throws IOException, InterruptedException {
+        Optional<Integer> roomNo = fixtures.anyInHouseRoom();
+        if (roomNo.isEmpty()) {
+            return Outcome.SKIPPED;
+        }
+        Map<String, Object> body = new HashMap<>();
+        body.put("roomNo", roomNo.get());
+        body.put("productId", fixtures.anyServiceProduct());
+        body.put("amount", 1 + ThreadLocalRandom.current().nextInt(3));
+        return outcome(send(post("/service", body)));
+    }
+
+    private Outcome invoicePreview() throws IOException, InterruptedException {
+        Optional<String> bookingCode = fixtures.nextUninvoicedBooking();
+        if (bookingCode.isEmpty()) {
+            return Outcome.SKIPPED;
+        }
+        return outcome(send(get("/payment/" + bookingCode.get() + "/invoice-preview")));
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Authorization", authorization)
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+    }
+
+    private HttpRequest post(String path, Object body) throws IOException {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Authorization", authorization)
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofSeconds(30))
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                .build();
+    }
+
+    private HttpResponse<byte[]> send(HttpRequest request) throws IOException, InterruptedException {
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    private JsonNode result(HttpResponse<byte[]> response) throws IOException {
+        return objectMapper.readTree(response.body()).path("result");
+    }
+
+    private static Outcome outcome(HttpResponse<byte[]> response) {
+        return response.statusCode() == 200 ? Outcome.OK : Outcome.ERROR;
+    }
+
+    private static long epochMillis(LocalDate day, int hour) {
+        return day.atTime(hour, 0).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
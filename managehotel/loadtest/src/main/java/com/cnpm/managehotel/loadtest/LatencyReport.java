@@ -0,0 +1,141 @@
+package com.cnpm.managehotel.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency per operation, measured from the intended start of each arrival so that a slow server shows up as
+ * latency instead of as fewer requests (coordinated omission). Recorders can be written from any thread.
+ */
+final class LatencyReport {
+
+    /**
+     * One hour, at three significant digits.
+     */
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.HOURS.toNanos(1);
+
+    private final Map<Operation, Recorder> recorders = new EnumMap<>(Operation.class);
+
+    private final Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+
+    private final Map<Operation, LongAdder> skipped = new EnumMap<>(Operation.class);
+
+    private final Map<Operation, Histogram> histograms = new EnumMap<>(Operation.class);
+
+    private long measuredNanos;
+
+    LatencyReport() {
+        for (Operation operation : Operation.values()) {
+            recorders.put(operation, new Recorder(HIGHEST_TRACKABLE_NANOS, 3));
+            errors.put(operation, new LongAdder());
+            skipped.put(operation, new LongAdder());
+        }
+    }
+
+    void record(Operation operation, HotelClient.Outcome outcome, long latencyNanos) {
+        switch (outcome) {
+            case OK -> recorders.get(operation).recordValue(Math.min(latencyNanos, HIGHEST_TRACKABLE_NANOS));
+            case ERROR -> errors.get(operation).increment();
+            case SKIPPED -> skipped.get(operation).increment();
+        }
+    }
+
+    /**
+     * Drops what the warmup recorded.
+     */
+    void startMeasuring() {
+        for (Operation operation : Operation.values()) {
+            recorders.get(operation).reset();
+            errors.get(operation).reset();
+            skipped.get(operation).reset();
+        }
+    }
+
+    /**
+     * Takes what was recorded since {@link #startMeasuring()}; call once, after the last request finished. Rates are
+     * per second of {@code measured}, the time arrivals were being scheduled.
+     */
+    void stopMeasuring(Duration measured) {
+        measuredNanos = measured.toNanos();
+        for (Operation operation : Operation.values()) {
+            histograms.put(operation, recorders.get(operation).getIntervalHistogram());
+        }
+    }
+
+    void print(PrintStream out) {
+        double seconds = measuredNanos / 1e9;
+        out.printf(Locale.ROOT, "%-36s %8s %8s %9s %9s %9s %9s %9s %7s %7s%n",
+                "operation", "count", "rps", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms", "errors", "skipped");
+        for (Operation operation : Operation.values()) {
+            Histogram histogram = histograms.get(operation);
+            out.printf(Locale.ROOT, "%-36s %8d %8.1f %9.2f %9.2f %9.2f %9.2f %9.2f %7d %7d%n",
+                    operation.getEndpoint(), histogram.getTotalCount(), histogram.getTotalCount() / seconds,
+                    millis(histogram.getValueAtPercentile(50)), millis(histogram.getValueAtPercentile(90)),
+                    millis(histogram.getValueAtPercentile(99)), millis(histogram.getValueAtPercentile(99.9)),
+                    millis(histogram.getMaxValue()), errors.get(operation).sum(), skipped.get(operation).sum());
+        }
+    }
+
+    /**
+     * One {@code .hgrm} percentile distribution per operation, in milliseconds, for plotting or comparing runs.
+     */
+    void write(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        for (Operation operation : Operation.values()) {
+            try (PrintStream out = new PrintStream(
+                    Files.newOutputStream(directory.resolve(operation.name().toLowerCase(Locale.ROOT) + ".hgrm")))) {
+                histograms.get(operation).outputPercentileDistribution(out, 1_000_000.0);
+            }
+        }
+    }
+
+    /**
+     * Each p99 over its budget, an error rate over the limit and each operation that skipped more of its arrivals
+     * than allowed, for lack of fixtures, so that its p99 stands for too few requests; empty when the run passes.
+     * Operations that sent nothing are not judged on latency.
+     */
+    List<String> breaches(Map<Operation, Duration> budgets, double maxErrorRate, double maxSkipRate) {
+        List<String> breaches = new ArrayList<>();
+        long requests = 0;
+        long failed = 0;
+        for (Operation operation : Operation.values()) {
+            Histogram histogram = histograms.get(operation);
+            long p99 = histogram.getValueAtPercentile(99);
+            Duration budget = budgets.get(operation);
+            if (histogram.getTotalCount() > 0 && p99 > budget.toNanos()) {
+                breaches.add(String.format(Locale.ROOT, "%s p99 %.2f ms over %d ms",
+                        operation.getEndpoint(), millis(p99), budget.toMillis()));
+            }
+            long sent = histogram.getTotalCount() + errors.get(operation).sum();
+            long skips = skipped.get(operation).sum();
+            if (skips > 0 && (double) skips / (sent + skips) > maxSkipRate) {
+                breaches.add(String.format(Locale.ROOT, "%s skipped %.2f%% of its arrivals, over %.2f%%",
+                        operation.getEndpoint(), 100.0 * skips / (sent + skips), 100.0 * maxSkipRate));
+            }
+            requests += sent;
+            failed += errors.get(operation).sum();
+        }
+        if (requests > 0 && (double) failed / requests > maxErrorRate) {
+            breaches.add(String.format(Locale.ROOT, "error rate %.2f%% over %.2f%%",
+                    100.0 * failed / requests, 100.0 * maxErrorRate));
+        }
+        return breaches;
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1e6;
+    }
+}
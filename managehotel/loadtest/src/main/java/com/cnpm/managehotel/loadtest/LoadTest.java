@@ -0,0 +1,159 @@
+package com.cnpm.managehotel.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.MACSigner;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * End-to-end load test of the REST API: an open workload, where requests arrive at a fixed rate whatever the
+ * response times, each on its own virtual thread, with the operation drawn from a weighted mix.
+ * <pre>
+ * java -jar target/loadtest.jar --scale=0.2 --rate=50 --warmup=10s --duration=60s
+ * java -jar target/loadtest.jar --base-url=http://localhost:8080/api/v1 --url=jdbc:mysql://localhost:3306/hotel \
+ *     --username=root --password=... --signer-key=... --rate=200 --p99=report:800
+ * </pre>
+ * Prints the percentiles per endpoint, writes them to {@code --out}, and exits with 1 when a p99 budget or the
+ * error rate is exceeded, so a CI job can gate on it.
+ */
+public final class LoadTest {
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options;
+        try {
+            options = LoadTestOptions.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.print(LoadTestOptions.USAGE);
+            System.exit(2);
+            return;
+        }
+
+        List<String> breaches;
+        EmbeddedApplication application = options.baseUrl == null ? EmbeddedApplication.start(options) : null;
+        try {
+            String baseUrl = application != null ? application.baseUrl() : options.baseUrl;
+            Fixtures fixtures = Fixtures.prepare(application != null ? application.batchDataSource()
+                    : new DriverManagerDataSource(options.url, options.username, options.password), options.scale);
+            String token = options.token != null ? options.token
+                    : signToken(application != null ? application.signerKey() : options.signerKey);
+
+            LatencyReport report = run(options, new HotelClient(HttpClient.newBuilder()
+                    .executor(Executors.newVirtualThreadPerTaskExecutor())
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .build(), new ObjectMapper(), baseUrl, token, fixtures));
+
+            report.print(System.out);
+            report.write(Path.of(options.out));
+            breaches = report.breaches(options.budgets, options.maxErrorRate, options.maxSkipRate);
+        } finally {
+            if (application != null) {
+                application.close();
+            }
+        }
+        breaches.forEach(breach -> System.out.println("FAILED: " + breach));
+        System.exit(breaches.isEmpty() ? 0 : 1);
+    }
+
+    /**
+     * Schedules arrivals at {@code rate} per second for the warmup and then the measured duration. Each arrival has
+     * an intended start on a fixed grid; its latency counts from there, so a request that waited for a thread or a
+     * connection is charged for the wait. Arrivals of the warmup are not recorded even when they finish later.
+     */
+    static LatencyReport run(LoadTestOptions options, HotelClient client) {
+        LatencyReport report = new LatencyReport();
+        Operation[] draw = weightedDraw(options.mix);
+        long interval = (long) (1_000_000_000L / options.rate);
+        long start = System.nanoTime();
+        long measureFrom = start + options.warmup.toNanos();
+        long end = measureFrom + options.duration.toNanos();
+        boolean measuring = false;
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long arrival = 0; ; arrival++) {
+                long intended = start + arrival * interval;
+                if (intended - end >= 0) {
+                    break;
+                }
+                long wait = intended - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                if (!measuring && intended - measureFrom >= 0) {
+                    report.startMeasuring();
+                    measuring = true;
+                }
+                boolean measured = measuring;
+                Operation operation = draw[ThreadLocalRandom.current().nextInt(draw.length)];
+                executor.execute(() -> {
+                    HotelClient.Outcome outcome;
+                    try {
+                        outcome = client.call(operation);
+                    } catch (Exception e) {
+                        outcome = HotelClient.Outcome.ERROR;
+                    }
+                    if (measured) {
+                        report.record(operation, outcome, System.nanoTime() - intended);
+                    }
+                });
+            }
+        }
+        report.stopMeasuring(options.duration);
+        return report;
+    }
+
+    /**
+     * One slot per unit of weight, so a uniform pick follows the mix.
+     */
+    private static Operation[] weightedDraw(Map<Operation, Integer> mix) {
+        int total = mix.values().stream().mapToInt(Integer::intValue).sum();
+        if (total <= 0) {
+            throw new IllegalArgumentException("the mix has no weight");
+        }
+        Operation[] draw = new Operation[total];
+        int next = 0;
+        for (Map.Entry<Operation, Integer> entry : mix.entrySet()) {
+            for (int i = 0; i < entry.getValue(); i++) {
+                draw[next++] = entry.getKey();
+            }
+        }
+        return draw;
+    }
+
+    /**
+     * A receptionist's access token, shaped like the ones {@code AuthServiceImpl} issues, valid for longer than a run.
+     */
+    static String signToken(String signerKey) throws JOSEException {
+        JWTClaimsSet claims = new JWTClaimsSet.Builder()
+                .subject("reception@gmail.com")
+                .issuer("managehotel.com")
+                .issueTime(new Date())
+                .expirationTime(Date.from(Instant.now().plusSeconds(24 * 3600)))
+                .jwtID(UUID.randomUUID().toString())
+                .claim("scope", "RECEPTIONIST")
+                .build();
+        SignedJWT signedJWT = new SignedJWT(new JWSHeader(JWSAlgorithm.HS512), claims);
+        signedJWT.sign(new MACSigner(signerKey.getBytes()));
+        return signedJWT.serialize();
+    }
+}
@@ -0,0 +1,121 @@
+package com.cnpm.managehotel.loadtest;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Command line of {@link LoadTest}; every option is {@code --name=value} and has a default.
+ */
+final class LoadTestOptions {
+
+    static final String USAGE = """
+            usage: java -jar loadtest.jar [options]
+              --base-url=       API of a running server, e.g. http://localhost:8080/api/v1; default: start the
+                                application in this JVM on --url
+              --url=            JDBC URL of the application's database, for seeding and fixtures
+                                (default: in-memory H2 in MySQL mode)
+              --username= --password=
+              --profiles=       Spring profiles of the embedded application, e.g. virtual
+              --signer-key=     jwt.signerKey of the server, to sign a receptionist token (embedded: read from the app)
+              --token=          bearer token to use instead of signing one
+              --scale=0.2       dataset scale factor when the database holds no generated dataset yet
+              --rate=50         arrivals per second, across all operations
+              --warmup=10s      load before measuring, at the same rate
+              --duration=60s    measured load
+              --mix=            weights, e.g. available:35,booking:15,checkin:5,service:20,invoice:10,report:15
+              --p99=            budgets in ms, e.g. booking:300,report:500; a breach fails the run
+              --max-error-rate=0.01
+              --max-skip-rate=0.1   share of an operation's arrivals skipped for lack of fixtures, e.g. no
+                                booking left to check in
+              --out=target/loadtest   HdrHistogram percentile files, one per operation
+            """;
+
+    String baseUrl;
+    String url = "jdbc:h2:mem:loadtest;MODE=MySQL;NON_KEYWORDS=USER,VALUE;DB_CLOSE_DELAY=-1";
+    String username = "sa";
+    String password = "";
+    String profiles;
+    String signerKey;
+    String token;
+    double scale = 0.2;
+    double rate = 50;
+    Duration warmup = Duration.ofSeconds(10);
+    Duration duration = Duration.ofSeconds(60);
+    final Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+    final Map<Operation, Duration> budgets = new EnumMap<>(Operation.class);
+    double maxErrorRate = 0.01;
+    double maxSkipRate = 0.1;
+    String out = "target/loadtest";
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (!arg.startsWith("--") || eq < 0) {
+                throw new IllegalArgumentException("not an option: " + arg);
+            }
+            values.put(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+
+        LoadTestOptions options = new LoadTestOptions();
+        for (Operation operation : Operation.values()) {
+            options.mix.put(operation, operation.getDefaultWeight());
+            options.budgets.put(operation, operation.getDefaultBudget());
+        }
+        for (Map.Entry<String, String> entry : values.entrySet()) {
+            String value = entry.getValue();
+            switch (entry.getKey()) {
+                case "base-url" -> options.baseUrl = value;
+                case "url" -> options.url = value;
+                case "username" -> options.username = value;
+                case "password" -> options.password = value;
+                case "profiles" -> options.profiles = value;
+                case "signer-key" -> options.signerKey = value;
+                case "token" -> options.token = value;
+                case "scale" -> options.scale = Double.parseDouble(value);
+                case "rate" -> options.rate = Double.parseDouble(value);
+                case "warmup" -> options.warmup = duration(value);
+                case "duration" -> options.duration = duration(value);
+                case "mix" -> perOperation(value).forEach((op, weight) -> options.mix.put(op, Integer.parseInt(weight)));
+                case "p99" -> perOperation(value).forEach((op, ms) -> options.budgets.put(op, Duration.ofMillis(Long.parseLong(ms))));
+                case "max-error-rate" -> options.maxErrorRate = Double.parseDouble(value);
+                case "max-skip-rate" -> options.maxSkipRate = Double.parseDouble(value);
+                case "out" -> options.out = value;
+                default -> throw new IllegalArgumentException("unknown option --" + entry.getKey());
+            }
+        }
+        if (options.baseUrl != null && options.signerKey == null && options.token == null) {
+            throw new IllegalArgumentException("--base-url needs --signer-key or --token");
+        }
+        return options;
+    }
+
+    /**
+     * {@code 90s}, {@code 5m} or ISO-8601.
+     */
+    static Duration duration(String value) {
+        String lower = value.toLowerCase(Locale.ROOT);
+        if (lower.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(lower.substring(0, lower.length() - 2)));
+        }
+        if (lower.endsWith("s")) {
+            return Duration.ofSeconds(Long.parseLong(lower.substring(0, lower.length() - 1)));
+        }
+        if (lower.endsWith("m")) {
+            return Duration.ofMinutes(Long.parseLong(lower.substring(0, lower.length() - 1)));
+        }
+        return Duration.parse(value);
+    }
+
+    private static Map<Operation, String> perOperation(String value) {
+        Map<Operation, String> parsed = new EnumMap<>(Operation.class);
+        for (String pair : value.split(",")) {
+            String[] parts = pair.split(":");
+            parsed.put(Operation.valueOf(parts[0].trim().toUpperCase(Locale.ROOT)), parts[1].trim());
+        }
+        return parsed;
+    }
+}
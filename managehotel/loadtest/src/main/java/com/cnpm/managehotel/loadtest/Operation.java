@@ -0,0 +1,40 @@
+package com.cnpm.managehotel.loadtest;
+
+import java.time.Duration;
+
+/**
+ * The endpoints in the mix, with their default share of the arrivals and their default p99 budget.
+ */
+public enum Operation {
+
+    AVAILABLE("GET /room/available", 35, Duration.ofMillis(200)),
+    BOOKING("POST /booking", 15, Duration.ofMillis(300)),
+    CHECKIN("POST /booking/checkin", 5, Duration.ofMillis(300)),
+    SERVICE("POST /service", 20, Duration.ofMillis(200)),
+    INVOICE("GET /payment/{code}/invoice-preview", 10, Duration.ofMillis(300)),
+    REPORT("GET /report", 15, Duration.ofMillis(500));
+
+    private final String endpoint;
+
+    private final int defaultWeight;
+
+    private final Duration defaultBudget;
+
+    Operation(String endpoint, int defaultWeight, Duration defaultBudget) {
+        this.endpoint = endpoint;
+        this.defaultWeight = defaultWeight;
+        this.defaultBudget = defaultBudget;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public int getDefaultWeight() {
+        return defaultWeight;
+    }
+
+    public Duration getDefaultBudget() {
+        return defaultBudget;
+    }
+}
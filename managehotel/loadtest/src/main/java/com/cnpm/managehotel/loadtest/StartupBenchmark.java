@@ -0,0 +1,172 @@
+package com.cnpm.managehotel.loadtest;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time from launching the application to its first successful {@code GET /room}, the moment a restarted node can
+ * take traffic again. Starts the jar of {@code mvn -Pfast-startup package} once per run and mode:
+ * <pre>
+ * java -cp target/loadtest.jar com.cnpm.managehotel.loadtest.StartupBenchmark \
+ *     --app=../target/fast-startup/managehotel.jar --runs=5 --modes=default,aot,cds,aot+cds
+ * </pre>
+ * {@code aot} adds {@code -Dspring.aot.enabled=true}, {@code cds} the archive next to the jar. Without {@code --url}
+ * each process migrates its own in-memory H2 database, which the fast-startup build bundles, so Flyway is part of
+ * every start.
+ */
+public final class StartupBenchmark {
+
+    static final String DEFAULT_URL = "jdbc:h2:mem:startup;MODE=MySQL;NON_KEYWORDS=USER,VALUE;DB_CLOSE_DELAY=-1";
+
+    private StartupBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (!arg.startsWith("--") || eq < 0) {
+                System.err.println("usage: StartupBenchmark [--app=../target/fast-startup/managehotel.jar] "
+                        + "[--archive=<app dir>/application.jsa] [--runs=5] [--modes=default,aot,cds,aot+cds] "
+                        + "[--profiles=prod] [--url=] [--username=] [--password=] [--timeout=120s] [--out=target/startup]");
+                System.exit(2);
+            }
+            options.put(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+
+        Path app = Path.of(options.getOrDefault("app", "../target/fast-startup/managehotel.jar")).toAbsolutePath();
+        Path archive = Path.of(options.getOrDefault("archive", app.resolveSibling("application.jsa").toString()));
+        int runs = Integer.parseInt(options.getOrDefault("runs", "5"));
+        List<String> modes = Arrays.asList(options.getOrDefault("modes", "default,aot,cds,aot+cds").split(","));
+        Duration timeout = LoadTestOptions.duration(options.getOrDefault("timeout", "120s"));
+        Path out = Path.of(options.getOrDefault("out", "target/startup"));
+        Files.createDirectories(out);
+        if (!Files.isRegularFile(app)) {
+            throw new IllegalArgumentException(app + " not found; build it with mvn -Pfast-startup package");
+        }
+
+        byte[] key = new byte[64];
+        new SecureRandom().nextBytes(key);
+        String signerKey = Base64.getEncoder().encodeToString(key);
+        String token = LoadTest.signToken(signerKey);
+        String url = options.getOrDefault("url", DEFAULT_URL);
+
+        List<String> appArgs = new ArrayList<>(List.of(
+                "--spring.profiles.active=" + options.getOrDefault("profiles", "prod"),
+                "--spring.datasource.url=" + url,
+                "--spring.datasource.username=" + options.getOrDefault("username", "sa"),
+                "--spring.datasource.password=" + options.getOrDefault("password", ""),
+                "--jwt.signerKey=" + signerKey,
+                "--logging.level.root=WARN"));
+        if (url.startsWith("jdbc:h2")) {
+            appArgs.add("--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect");
+        }
+
+        HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+        System.out.printf(Locale.ROOT, "%-10s %8s %8s %8s   (ms to first 200 from GET /room, %d runs)%n",
+                "mode", "min", "median", "max", runs);
+        for (String mode : modes) {
+            List<String> jvmArgs = jvmArgs(mode.trim(), archive);
+            long[] millis = new long[runs];
+            for (int run = 0; run < runs; run++) {
+                millis[run] = startOnce(app, jvmArgs, appArgs, httpClient, token, timeout,
+                        out.resolve(mode.trim().replace('+', '-') + "-" + run + ".log"));
+            }
+            Arrays.sort(millis);
+            System.out.printf(Locale.ROOT, "%-10s %8d %8d %8d%n", mode.trim(), millis[0], millis[runs / 2],
+                    millis[runs - 1]);
+        }
+    }
+
+    private static List<String> jvmArgs(String mode, Path archive) {
+        List<String> jvmArgs = new ArrayList<>();
+        for (String part : mode.split("\\+")) {
+            switch (part) {
+                case "default" -> {
+                }
+                case "aot" -> jvmArgs.add("-Dspring.aot.enabled=true");
+                case "cds" -> {
+                    if (!Files.isRegularFile(archive)) {
+                        throw new IllegalArgumentException(archive + " not found; build it with mvn -Pfast-startup package");
+                    }
+                    jvmArgs.add("-XX:SharedArchiveFile=" + archive);
+                }
+                default -> throw new IllegalArgumentException("unknown mode " + mode);
+            }
+        }
+        return jvmArgs;
+    }
+
+    /**
+     * Launches the jar, polls {@code GET /room} until it answers 200 and stops the process again. The child's output
+     * goes to {@code log}, where the JVM also reports a CDS archive it could not use.
+     */
+    private static long startOnce(Path app, List<String> jvmArgs, List<String> appArgs, HttpClient httpClient,
+                                  String token, Duration timeout, Path log) throws IOException, InterruptedException {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmArgs);
+        command.add("-jar");
+        command.add(app.toString());
+        command.add("--server.port=" + port);
+        command.addAll(appArgs);
+
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/v1/room"))
+                .header("Authorization", "Bearer " + token)
+                .timeout(Duration.ofSeconds(5))
+                .GET()
+                .build();
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .directory(app.getParent().toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+        try {
+            long deadline = start + timeout.toNanos();
+            while (System.nanoTime() - deadline < 0) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException("application exited with " + process.exitValue() + ", see " + log);
+                }
+                try {
+                    if (httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                    }
+                } catch (IOException e) {
+                    // not listening yet
+                }
+                Thread.sleep(10);
+            }
+            throw new IllegalStateException("no 200 from GET /room within " + timeout + ", see " + log);
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
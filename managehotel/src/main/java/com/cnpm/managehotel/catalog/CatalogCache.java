@@ -0,0 +1,154 @@
+package com.cnpm.managehotel.catalog;
+
+import com.cnpm.managehotel.repository.CategoryRepo;
+import com.cnpm.managehotel.repository.ProductRepo;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Read-through, size-bounded cache of products and categories.
+ * Entries are reloaded in the background once they are older than {@code catalog.cache.refresh-after-write},
+ * so catalog edits made on another node show up within that window; product edits made here are evicted right away.
+ * Categories have no write path in the application, so edits made to them in the database show up the same way.
+ * Stock is not part of the cached value, see {@link CatalogProduct}.
+ *
+ * <p>Single-key misses are loaded outside the cache: Caffeine computes a missing entry while holding a monitor of
+ * its map, and a virtual thread waiting on JDBC there would pin its carrier. Two callers missing the same key at the
+ * same time both query it, which the warm-up makes rare.</p>
+ */
+@Slf4j
+@Component
+public class CatalogCache {
+
+    private final ProductRepo productRepo;
+    private final CategoryRepo categoryRepo;
+
+    private final LoadingCache<Long, CatalogProduct> products;
+    private final LoadingCache<Long, CatalogCategory> categories;
+
+    private final boolean warmUp;
+
+    public CatalogCache(ProductRepo productRepo,
+                        CategoryRepo categoryRepo,
+                        MeterRegistry meterRegistry,
+                        @Value("${catalog.cache.maximum-size:5000}") long maximumSize,
+                        @Value("${catalog.cache.refresh-after-write:5m}") Duration refreshAfterWrite,
+                        @Value("${catalog.cache.expire-after-write:1h}") Duration expireAfterWrite,
+                        @Value("${catalog.cache.warm-up:true}") boolean warmUp) {
+        this.productRepo = productRepo;
+        this.categoryRepo = categoryRepo;
+        this.warmUp = warmUp;
+
+        this.products = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .refreshAfterWrite(refreshAfterWrite)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build(new CacheLoader<>() {
+                    @Override
+                    public CatalogProduct load(Long id) {
+                        return loadProduct(id);
+                    }
+
+                    @Override
+                    public Map<Long, CatalogProduct> loadAll(Set<? extends Long> ids) {
+                        Map<Long, CatalogProduct> loaded = new HashMap<>();
+                        productRepo.findAllById(List.copyOf(ids)).forEach(p -> loaded.put(p.getId(), CatalogProduct.of(p)));
+                        return loaded;
+                    }
+                });
+
+        this.categories = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .refreshAfterWrite(refreshAfterWrite)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build(this::loadCategory);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, products, "catalog.products");
+        CaffeineCacheMetrics.monitor(meterRegistry, categories, "catalog.categories");
+    }
+
+    /**
+     * @return the product, or {@code null} when it does not exist
+     */
+    public CatalogProduct getProduct(Long id) {
+        return id == null ? null : getOrLoad(products, id, this::loadProduct);
+    }
+
+    /**
+     * Looks up many products at once; the ones not cached yet are loaded with a single {@code IN} query.
+     * Missing ids are absent from the result.
+     */
+    public Map<Long, CatalogProduct> getProducts(Collection<Long> ids) {
+        return products.getAll(ids);
+    }
+
+    /**
+     * @return the category, or {@code null} when it does not exist
+     */
+    public CatalogCategory getCategory(Long id) {
+        return id == null ? null : getOrLoad(categories, id, this::loadCategory);
+    }
+
+    public void invalidateProduct(Long id) {
+        products.invalidate(id);
+    }
+
+    public double productHitRate() {
+        return products.stats().hitRate();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!warmUp) {
+            return;
+        }
+        Map<Long, CatalogCategory> loadedCategories = new HashMap<>();
+        categoryRepo.findAll().forEach(c -> loadedCategories.put(c.getId(), CatalogCategory.of(c)));
+        categories.putAll(loadedCategories);
+
+        Map<Long, CatalogProduct> loadedProducts = new HashMap<>();
+        productRepo.findAll().forEach(p -> loadedProducts.put(p.getId(), CatalogProduct.of(p)));
+        products.putAll(loadedProducts);
+
+        log.info("Catalog cache warmed up with {} products and {} categories",
+                loadedProducts.size(), loadedCategories.size());
+    }
+
+    private static <V> V getOrLoad(LoadingCache<Long, V> cache, Long id, Function<Long, V> loader) {
+        V cached = cache.getIfPresent(id);
+        if (cached != null) {
+            return cached;
+        }
+        V loaded = loader.apply(id);
+        if (loaded != null) {
+            cache.put(id, loaded);
+        }
+        return loaded;
+    }
+
+    private CatalogProduct loadProduct(Long id) {
+        return productRepo.findById(id).map(CatalogProduct::of).orElse(null);
+    }
+
+    private CatalogCategory loadCategory(Long id) {
+        return categoryRepo.findById(id).map(CatalogCategory::of).orElse(null);
+    }
+}
@@ -0,0 +1,14 @@
+package com.cnpm.managehotel.catalog;
+
+import com.cnpm.managehotel.entity.Category;
+import lombok.Value;
+
+@Value
+public class CatalogCategory {
+    Long id;
+    String name;
+
+    public static CatalogCategory of(Category category) {
+        return new CatalogCategory(category.getId(), category.getName());
+    }
+}
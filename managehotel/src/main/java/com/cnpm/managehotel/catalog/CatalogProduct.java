@@ -0,0 +1,28 @@
+package com.cnpm.managehotel.catalog;
+
+import com.cnpm.managehotel.entity.Product;
+import lombok.Value;
+
+/**
+ * Immutable catalog view of a {@link Product}. Stock ({@code amount}) is deliberately left out:
+ * it changes with every order and is always read and written through the database.
+ */
+@Value
+public class CatalogProduct {
+    Long id;
+    String title;
+    String description;
+    double price;
+    Long categoryId;
+    Integer reorderThreshold;
+
+    public static CatalogProduct of(Product product) {
+        return new CatalogProduct(
+                product.getId(),
+                product.getTitle(),
+                product.getDescription(),
+                product.getPrice(),
+                product.getCategory() != null ? product.getCategory().getId() : null,
+                product.getReorderThreshold());
+    }
+}
@@ -0,0 +1,99 @@
+package com.cnpm.managehotel.catalog;
+
+import com.cnpm.managehotel.dto.RoomDTO;
+import com.cnpm.managehotel.dto.response.ApiResponse;
+import com.cnpm.managehotel.util.HashUtil;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import static com.cnpm.managehotel.util.TransactionUtil.afterCommit;
+
+/**
+ * Pre-serialized {@code GET /room} response with a strong ETag.
+ * The snapshot is rebuilt lazily after a room is saved or deleted (once that transaction commits),
+ * and at the latest after {@code room.catalog.max-age} so edits made on another node are picked up.
+ * The ETag is a hash of the body, so a rebuild that produces the same rooms keeps the same ETag.
+ */
+@Component
+public class RoomCatalog {
+
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+    private final long maxAgeMillis;
+
+    private final AtomicLong version = new AtomicLong();
+    // Not synchronized: the loader queries the database, and a virtual thread blocking inside a monitor pins its carrier
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private volatile Snapshot snapshot;
+
+    @Autowired
+    public RoomCatalog(ObjectMapper objectMapper,
+                       @Value("${room.catalog.max-age:60s}") Duration maxAge) {
+        this(objectMapper, Clock.systemUTC(), maxAge);
+    }
+
+    RoomCatalog(ObjectMapper objectMapper, Clock clock, Duration maxAge) {
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+        this.maxAgeMillis = maxAge.toMillis();
+    }
+
+    public Snapshot get(Supplier<RoomDTO> loader) {
+        Snapshot current = snapshot;
+        if (isFresh(current)) {
+            return current;
+        }
+        rebuildLock.lock();
+        try {
+            current = snapshot;
+            if (isFresh(current)) {
+                return current;
+            }
+            // Read the version before loading: a change committed meanwhile bumps it and forces another rebuild
+            long loadedVersion = version.get();
+            byte[] body = serialize(loader.get());
+            snapshot = new Snapshot(loadedVersion, clock.millis(), body, "\"" + HashUtil.sha256Hex(body) + "\"");
+            return snapshot;
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    public void invalidate() {
+        afterCommit(version::incrementAndGet);
+    }
+
+    private boolean isFresh(Snapshot current) {
+        return current != null
+                && current.getVersion() == version.get()
+                && clock.millis() - current.getBuiltAt() < maxAgeMillis;
+    }
+
+    private byte[] serialize(RoomDTO rooms) {
+        try {
+            return objectMapper.writeValueAsBytes(ApiResponse.<RoomDTO>builder().result(rooms).build());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Snapshot {
+        private final long version;
+        private final long builtAt;
+        private final byte[] body;
+        private final String etag;
+    }
+}
@@ -0,0 +1,14 @@
+package com.cnpm.managehotel.catalog;
+
+/**
+ * Room columns shown in the room list, read as a projection instead of managed entities.
+ */
+public interface RoomSummary {
+    Long getId();
+    int getRoomNo();
+    char getType();
+    double getPrice();
+    int getMaxNum();
+    String getStatus();
+    String getDescription();
+}
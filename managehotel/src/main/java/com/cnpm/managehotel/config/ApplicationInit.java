@@ -7,12 +7,11 @@ import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import lombok.experimental.NonFinal;
+import lombok.experimental.PackagePrivate;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.ApplicationRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.security.crypto.password.PasswordEncoder;
 
 @Configuration
 @FieldDefaults(level = AccessLevel.PRIVATE)
@@ -22,25 +21,24 @@ public class ApplicationInit {
     @NonFinal
     private static final String ADMIN_USER_NAME = "Admin";
 
+    // BCrypt(10) of "admin", hashed once offline so a boot costs one exists query instead of a hash
     @NonFinal
-    private static final String ADMIN_PASSWORD = "admin";
+    @PackagePrivate
+    static final String ADMIN_PASSWORD_HASH = "$2a$10$Hvx3CymGhtQVbiv/eT7XCuXtycd73/pmXdyP/kjcBIeOysfXd71B.";
 
     @NonFinal
     private static final String ADMIN_EMAIL = "admin@gmail.com";
 
-    @Autowired
-    private PasswordEncoder passwordEncoder;
-
     @Bean
     ApplicationRunner applicationRunner(UserRepo userRepo) {
         log.info("Initializing application.....");
         return args -> {
-            if (!userRepo.findByEmail(ADMIN_EMAIL).isPresent()) {
+            if (!userRepo.existsByEmail(ADMIN_EMAIL)) {
 
                 User user = User.builder()
                         .fullName(ADMIN_USER_NAME)
                         .email(ADMIN_EMAIL)
-                        .password(passwordEncoder.encode(ADMIN_PASSWORD))
+                        .password(ADMIN_PASSWORD_HASH)
                         .role(UserRole.ADMIN)
                         .build();
 
@@ -1,55 +1,74 @@
 package com.cnpm.managehotel.config;
 
-import com.cnpm.managehotel.dto.request.IntrospectRequest;
-import com.cnpm.managehotel.service.AuthService;
+import com.cnpm.managehotel.exception.AppException;
+import com.cnpm.managehotel.security.JwtTokenVerifier;
+import com.cnpm.managehotel.security.TokenRevocationStore;
+import com.cnpm.managehotel.security.VerifiedTokenCache;
 import com.nimbusds.jose.JOSEException;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import com.nimbusds.jwt.SignedJWT;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.convert.converter.Converter;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.jwt.JwtException;
-import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.jwt.MappedJwtClaimSetConverter;
 import org.springframework.stereotype.Component;
 
-import javax.crypto.spec.SecretKeySpec;
 import java.text.ParseException;
-import java.util.Objects;
+import java.util.Collections;
+import java.util.Map;
 
 @Component
+@RequiredArgsConstructor
 public class CustomJwtDecoder implements JwtDecoder {
 
-    @Value("${jwt.signerKey}")
-    private String signerKey;
+    private static final Converter<Map<String, Object>, Map<String, Object>> CLAIM_SET_CONVERTER =
+            MappedJwtClaimSetConverter.withDefaults(Collections.emptyMap());
 
-    @Autowired
-    private AuthService authService;
+    private final JwtTokenVerifier jwtTokenVerifier;
 
-    private NimbusJwtDecoder nimbusJwtDecoder = null;
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    private final TokenRevocationStore tokenRevocationStore;
 
     @Override
     public Jwt decode(String token) throws JwtException {
 
-        try {
-            var response = authService.introspect(
-                    IntrospectRequest
-                            .builder()
-                            .token(token)
-                            .build());
+        Jwt cached = verifiedTokenCache.get(token);
+        if (cached != null) {
+            if (tokenRevocationStore.isRevoked(cached.getId())) {
+                verifiedTokenCache.evict(token);
+                throw new JwtException("Token invalid");
+            }
+            return cached;
+        }
 
-            if (!response.isValid()) throw new JwtException("Token invalid");
+        SignedJWT signedJWT;
+        try {
+            signedJWT = jwtTokenVerifier.verify(token);
+        } catch (AppException e) {
+            throw new JwtException("Token invalid");
         } catch (JOSEException | ParseException e) {
             throw new JwtException(e.getMessage());
         }
 
-        if (Objects.isNull(nimbusJwtDecoder)) {
-            SecretKeySpec secretKeySpec = new SecretKeySpec(signerKey.getBytes(), "HS512");
-            nimbusJwtDecoder = NimbusJwtDecoder
-                    .withSecretKey(secretKeySpec)
-                    .macAlgorithm(MacAlgorithm.HS512)
+        Jwt jwt = toJwt(token, signedJWT);
+        verifiedTokenCache.put(token, jwt);
+
+        return jwt;
+    }
+
+    private Jwt toJwt(String token, SignedJWT signedJWT) {
+        try {
+            Map<String, Object> headers = signedJWT.getHeader().toJSONObject();
+            Map<String, Object> claims = CLAIM_SET_CONVERTER.convert(signedJWT.getJWTClaimsSet().getClaims());
+
+            return Jwt.withTokenValue(token)
+                    .headers(h -> h.putAll(headers))
+                    .claims(c -> c.putAll(claims))
                     .build();
+        } catch (ParseException e) {
+            throw new JwtException(e.getMessage());
         }
-
-        return nimbusJwtDecoder.decode(token);
     }
 }
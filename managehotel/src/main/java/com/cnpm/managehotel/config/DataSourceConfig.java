@@ -0,0 +1,124 @@
+package com.cnpm.managehotel.config;
+
+import com.cnpm.managehotel.datasource.ConnectionLimitDataSource;
+import com.cnpm.managehotel.datasource.ReadWriteRoutingDataSource;
+import com.cnpm.managehotel.datasource.StatementTimeoutDataSource;
+import com.cnpm.managehotel.datasource.Workload;
+import com.cnpm.managehotel.datasource.WorkloadRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * One Hikari pool per {@link Workload} on the database of {@code spring.datasource.*}, sized and timed out by
+ * {@code datasource.pool.<workload>.*}, so a long report or import cannot take the connections check-in needs.
+ * Hikari publishes {@code hikaricp.connections.*} per pool; {@code datasource.pool.utilization} is the share of each
+ * pool in use.
+ *
+ * <p>The pools are routed by {@link com.cnpm.managehotel.datasource.WorkloadPool}. With a replica configured, the
+ * {@link ReadReplicaConfig read/write routing} sits on top and only its primary side is split by workload.</p>
+ *
+ * <p>With {@code datasource.connection-limit.enabled}, on in the {@code virtual} profile, each pool is fronted by a
+ * {@link ConnectionLimitDataSource} with one permit per connection.</p>
+ */
+@Configuration
+public class DataSourceConfig {
+
+    private static final int HIKARI_DEFAULT_POOL_SIZE = 10;
+
+    @Bean
+    @ConfigurationProperties("datasource.pool.oltp")
+    public HikariDataSource oltpDataSource(DataSourceProperties properties) {
+        return pool(properties, "oltp");
+    }
+
+    @Bean
+    @ConfigurationProperties("datasource.pool.reporting")
+    public HikariDataSource reportingDataSource(DataSourceProperties properties) {
+        return pool(properties, "reporting");
+    }
+
+    @Bean
+    @ConfigurationProperties("datasource.pool.batch")
+    public HikariDataSource batchDataSource(DataSourceProperties properties) {
+        return pool(properties, "batch");
+    }
+
+    @Bean
+    public DataSource primaryDataSource(@Qualifier("oltpDataSource") HikariDataSource oltp,
+                                        @Qualifier("reportingDataSource") HikariDataSource reporting,
+                                        @Qualifier("batchDataSource") HikariDataSource batch,
+                                        @Value("${datasource.pool.oltp.statement-timeout:10s}") Duration oltpTimeout,
+                                        @Value("${datasource.pool.reporting.statement-timeout:60s}") Duration reportingTimeout,
+                                        @Value("${datasource.pool.batch.statement-timeout:300s}") Duration batchTimeout,
+                                        @Value("${datasource.connection-limit.enabled:false}") boolean limitConnections) {
+        Map<Workload, DataSource> pools = new EnumMap<>(Workload.class);
+        pools.put(Workload.OLTP, workload(oltp, oltpTimeout, limitConnections));
+        pools.put(Workload.REPORTING, workload(reporting, reportingTimeout, limitConnections));
+        pools.put(Workload.BATCH, workload(batch, batchTimeout, limitConnections));
+        return new WorkloadRoutingDataSource(pools);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                 ObjectProvider<ReadWriteRoutingDataSource> readWriteRouting) {
+        DataSource replicaAware = readWriteRouting.getIfAvailable();
+        return new LazyConnectionDataSourceProxy(replicaAware != null ? replicaAware : primary);
+    }
+
+    @Bean
+    public MeterBinder workloadPoolMetrics(@Qualifier("oltpDataSource") HikariDataSource oltp,
+                                           @Qualifier("reportingDataSource") HikariDataSource reporting,
+                                           @Qualifier("batchDataSource") HikariDataSource batch) {
+        return registry -> {
+            for (HikariDataSource pool : new HikariDataSource[]{oltp, reporting, batch}) {
+                Gauge.builder("datasource.pool.utilization", pool, DataSourceConfig::utilization)
+                        .tag("pool", pool.getPoolName())
+                        .description("Share of the pool's connections in use; at 1 new callers wait for connection-timeout")
+                        .register(registry);
+            }
+        };
+    }
+
+    private static HikariDataSource pool(DataSourceProperties properties, String name) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName(name);
+        return dataSource;
+    }
+
+    private static DataSource workload(HikariDataSource pool, Duration statementTimeout, boolean limitConnections) {
+        DataSource dataSource = new StatementTimeoutDataSource(pool, statementTimeout);
+        return limitConnections ? limited(dataSource, pool) : dataSource;
+    }
+
+    /**
+     * One permit per connection of {@code pool}, waiting as long as the pool itself would.
+     */
+    static DataSource limited(DataSource dataSource, HikariDataSource pool) {
+        // an unset maximum-pool-size reads -1 until the pool starts and applies Hikari's default
+        int size = pool.getMaximumPoolSize() > 0 ? pool.getMaximumPoolSize() : HIKARI_DEFAULT_POOL_SIZE;
+        return new ConnectionLimitDataSource(dataSource, size, Duration.ofMillis(pool.getConnectionTimeout()));
+    }
+
+    private static double utilization(HikariDataSource pool) {
+        HikariPoolMXBean mxBean = pool.getHikariPoolMXBean();
+        // the pool starts on its first connection
+        return mxBean == null ? 0 : (double) mxBean.getActiveConnections() / pool.getMaximumPoolSize();
+    }
+}
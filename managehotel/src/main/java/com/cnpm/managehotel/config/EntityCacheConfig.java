@@ -0,0 +1,76 @@
+package com.cnpm.managehotel.config;
+
+import com.cnpm.managehotel.entity.Category;
+import com.cnpm.managehotel.entity.Product;
+import com.cnpm.managehotel.entity.Room;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Hibernate second-level cache for the reference data every booking and invoice reads: rooms, categories and
+ * products, plus the room-number lookups in {@link com.cnpm.managehotel.repository.RoomRepo}. Regions live in an
+ * in-process Caffeine JCache manager and are bounded by {@code entity.cache.*}.
+ *
+ * <p>Writes through Hibernate, including the JPQL bulk updates, invalidate the regions themselves. The JDBC batch
+ * writes in the custom repositories go through {@link com.cnpm.managehotel.repository.EntityCacheEvictor}.</p>
+ */
+@Configuration
+@ConditionalOnProperty(name = "entity.cache.enabled", havingValue = "true")
+public class EntityCacheConfig {
+
+    static final List<Class<?>> CACHED_ENTITIES = List.of(Room.class, Category.class, Product.class);
+
+    @Bean(destroyMethod = "close")
+    public CacheManager entityCacheManager(@Value("${entity.cache.maximum-size:10000}") long maximumSize,
+                                           @Value("${entity.cache.expire-after-write:1h}") Duration expireAfterWrite) {
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        // one manager per application context; the provider hands out the same instance for the same URI
+        CacheManager cacheManager = provider.getCacheManager(
+                URI.create("managehotel-entity-cache-" + UUID.randomUUID()), getClass().getClassLoader());
+
+        for (Class<?> entity : CACHED_ENTITIES) {
+            cacheManager.createCache(entity.getName(), bounded(maximumSize, expireAfterWrite));
+        }
+        cacheManager.createCache(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME,
+                bounded(maximumSize, expireAfterWrite));
+        // one entry per table; evicting one would let a stale query result be served
+        cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME,
+                new CaffeineConfiguration<>());
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer entityCacheCustomizer(CacheManager entityCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, entityCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+
+    private static CaffeineConfiguration<Object, Object> bounded(long maximumSize, Duration expireAfterWrite) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maximumSize));
+        configuration.setExpireAfterWrite(OptionalLong.of(expireAfterWrite.toNanos()));
+        return configuration;
+    }
+}
@@ -0,0 +1,25 @@
+package com.cnpm.managehotel.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * The counterpart of {@link EntityCacheConfig}: with hibernate-jcache on the classpath Hibernate would otherwise
+ * start a JCache region factory on its own and create unbounded regions for the {@code @Cache} entities, which go
+ * stale across nodes. Switching the cache off here makes Hibernate use its no-op region factory.
+ */
+@Configuration
+@ConditionalOnProperty(name = "entity.cache.enabled", havingValue = "false", matchIfMissing = true)
+public class NoEntityCacheConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer noEntityCacheCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, false);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, false);
+        };
+    }
+}
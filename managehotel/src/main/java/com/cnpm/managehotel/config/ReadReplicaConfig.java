@@ -0,0 +1,69 @@
+package com.cnpm.managehotel.config;
+
+import com.cnpm.managehotel.datasource.ConnectionLimitDataSource;
+import com.cnpm.managehotel.datasource.ReadWriteRoutingDataSource;
+import com.cnpm.managehotel.datasource.ReplicaLagMonitor;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * A replica pool ({@code datasource.replica.*}) and the {@link ReadWriteRoutingDataSource} that puts it next to the
+ * workload pools of {@link DataSourceConfig}. Flyway, JdbcTemplate and JPA all use the routing data source, so
+ * anything outside a read-only transaction lands on the primary. With {@code datasource.connection-limit.enabled}
+ * the replica pool gets a {@link ConnectionLimitDataSource} like the workload pools.
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.replica.enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+    @Bean
+    @ConfigurationProperties("datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(@Value("${datasource.replica.url}") String url,
+                                              @Value("${datasource.replica.username}") String username,
+                                              @Value("${datasource.replica.password}") String password) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+        dataSource.setPoolName("replica");
+        return dataSource;
+    }
+
+    @Bean
+    public DataSource replicaReadDataSource(@Qualifier("replicaDataSource") HikariDataSource replica,
+                                           @Value("${datasource.connection-limit.enabled:false}") boolean limitConnections) {
+        return limitConnections ? DataSourceConfig.limited(replica, replica) : replica;
+    }
+
+    /**
+     * Probes on the batch pool of the primary, through its statement timeout and connection limit.
+     */
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("primaryDataSource") DataSource primary,
+                                               @Qualifier("replicaReadDataSource") DataSource replica,
+                                               @Value("${datasource.replica.max-lag:5s}") Duration maxLag) {
+        // the replica is not used before the first scheduled probe has seen it caught up
+        return new ReplicaLagMonitor(primary, replica, Clock.systemUTC(), maxLag);
+    }
+
+    @Bean
+    public ReadWriteRoutingDataSource readWriteRoutingDataSource(
+            @Qualifier("primaryDataSource") DataSource primary,
+            @Qualifier("replicaReadDataSource") DataSource replica,
+            ReplicaLagMonitor replicaLagMonitor,
+            @Value("${datasource.replica.read-your-writes-window:6s}") Duration readYourWritesWindow) {
+        return new ReadWriteRoutingDataSource(primary, replica, replicaLagMonitor, readYourWritesWindow);
+    }
+}
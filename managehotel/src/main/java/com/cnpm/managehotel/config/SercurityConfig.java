@@ -38,7 +38,8 @@ public class SercurityConfig {
             "/vn-pay",
             "/vn-pay-callback",
             "/report",
-            "/{bookingCode}/detail"
+            "/{bookingCode}/detail",
+            "/booking/in-house"
     };
 
     private static final String[] RECEPTIONIST_POST_ENDPOINTS = {
@@ -46,6 +47,7 @@ public class SercurityConfig {
             "/booking/unpaid",
             "/booking/checkin",
             "/service",
+            "/service/batch",
     };
 
     private static final String[] RECEPTIONIST_DELETE_ENDPOINTS = {
@@ -55,11 +57,13 @@ public class SercurityConfig {
 
     private static final String[] ADMIN_GET_ENDPOINTS ={
             "/feedback",
-            "/report"
+            "/report",
+            "/actuator/metrics/**"
     };
 
     private static final String[] ADMIN_POST_ENDPOINTS = {
             "/room",
+            "/room/bulk",
             "/products"
     };
 
@@ -75,7 +79,18 @@ public class SercurityConfig {
     private static final String[] COMMON_GET_ENDPOINTS = {
             "/booking",
             "/report",
-            "/room"
+            "/room",
+            "/products/alerts",
+            "/room/status-board",
+            "/room/{roomNo}/status-history"
+    };
+
+    private static final String[] HOUSEKEEPING_ENDPOINTS = {
+            "/housekeeping/**"
+    };
+
+    private static final String[] COMMON_PUT_ENDPOINTS = {
+            "/room/status"
     };
 
     @Bean
@@ -92,10 +107,13 @@ public class SercurityConfig {
                         .requestMatchers(HttpMethod.PUT, ADMIN_PUT_ENDPOINTS).hasRole(UserRole.ADMIN)
                         .requestMatchers(HttpMethod.DELETE, ADMIN_DELETE_ENDPOINTS).hasRole(UserRole.ADMIN)
                         .requestMatchers(HttpMethod.GET, COMMON_GET_ENDPOINTS).hasAnyRole(UserRole.ADMIN, UserRole.RECEPTIONIST)
+                        .requestMatchers(HttpMethod.PUT, COMMON_PUT_ENDPOINTS).hasAnyRole(UserRole.ADMIN, UserRole.RECEPTIONIST)
+                        .requestMatchers(HOUSEKEEPING_ENDPOINTS).hasAnyRole(UserRole.ADMIN, UserRole.RECEPTIONIST, UserRole.HOUSEKEEPER)
                         .requestMatchers(HttpMethod.POST, "/feedback").permitAll()
                         .requestMatchers(HttpMethod.PUT, "/feedback").permitAll()
                         .requestMatchers(HttpMethod.POST, "/auth/login").anonymous()
                         .requestMatchers(HttpMethod.POST, "/auth/register").anonymous()
+                        .requestMatchers(HttpMethod.POST, "/auth/refresh").permitAll()
                         .requestMatchers("/swagger-ui/**", "/v3/api-docs*/**").permitAll()
                         .anyRequest()
                         .authenticated());
@@ -0,0 +1,14 @@
+package com.cnpm.managehotel.constant;
+
+public final class HousekeepingStatus {
+    public static final String PENDING = "PENDING";
+    public static final String CLAIMED = "CLAIMED";
+    public static final String DONE = "DONE";
+    // The room left DIRTY some other way (maintenance, manual release) before anyone cleaned it
+    public static final String CANCELLED = "CANCELLED";
+
+    private HousekeepingStatus() {
+        // Prevent instantiation
+    }
+
+}
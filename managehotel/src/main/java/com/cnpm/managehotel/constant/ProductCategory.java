@@ -0,0 +1,11 @@
+package com.cnpm.managehotel.constant;
+
+public final class ProductCategory {
+    // Consumable items (minibar, shop) whose stock is tracked in product.amount
+    public static final long CONSUMABLE = 1L;
+
+    private ProductCategory() {
+        // Prevent instantiation
+    }
+
+}
@@ -4,6 +4,8 @@ public final class RoomStatus {
     public static final String AVAILABLE = "AVAILABLE";
     public static final String MAINTAIN = "MAINTAIN";
     public static final String OCCUPIED = "OCCUPIED";
+    // Guest has left, room waits for housekeeping
+    public static final String DIRTY = "DIRTY";
 
     private RoomStatus() {
         // Prevent instantiation
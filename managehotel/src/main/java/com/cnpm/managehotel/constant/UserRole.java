@@ -5,6 +5,7 @@ public final class UserRole {
     public static final String ADMIN = "ADMIN";
     public static final String RECEPTIONIST = "RECEPTIONIST";
     public static final String CUSTOMER = "CUSTOMER";
+    public static final String HOUSEKEEPER = "HOUSEKEEPER";
 
     public UserRole(){}
 }
@@ -4,6 +4,7 @@ import com.cnpm.managehotel.dto.UserDTO;
 import com.cnpm.managehotel.dto.request.AuthenticationRequest;
 import com.cnpm.managehotel.dto.request.IntrospectRequest;
 import com.cnpm.managehotel.dto.request.LogoutRequest;
+import com.cnpm.managehotel.dto.request.RefreshRequest;
 import com.cnpm.managehotel.dto.response.ApiResponse;
 import com.cnpm.managehotel.dto.response.AuthenticationResponse;
 import com.cnpm.managehotel.dto.response.IntrospectResponse;
@@ -13,6 +14,7 @@ import com.cnpm.managehotel.service.AuthService;
 import com.nimbusds.jose.JOSEException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -58,8 +60,26 @@ public class AuthController {
             summary = "User login",
             description = "Authenticate user credentials and return authentication token"
     )
-    public ApiResponse<AuthenticationResponse> authenticate(@RequestBody AuthenticationRequest request){
-        AuthenticationResponse response = authService.authenticate(request);
+    public ApiResponse<AuthenticationResponse> authenticate(@RequestBody AuthenticationRequest request,
+                                                           HttpServletRequest httpRequest){
+        // The peer address, not X-Forwarded-For: a client can put anything in that header and get a fresh
+        // per-IP budget with every attempt. Behind a trusted proxy Tomcat has already replaced the peer address
+        // with the client's (server.forward-headers-strategy).
+        AuthenticationResponse response = authService.authenticate(request, httpRequest.getRemoteAddr());
+
+        return ApiResponse.<AuthenticationResponse>builder()
+                .result(response)
+                .build();
+    }
+
+    @PostMapping("/refresh")
+    @Operation(
+            summary = "Refresh access token",
+            description = "Exchanges a refresh token for a new access token and a new refresh token. " +
+                    "Each refresh token can be used once; reusing one revokes every token issued from the same login."
+    )
+    public ApiResponse<AuthenticationResponse> refresh(@RequestBody RefreshRequest request){
+        AuthenticationResponse response = authService.refresh(request);
 
         return ApiResponse.<AuthenticationResponse>builder()
                 .result(response)
@@ -13,12 +13,15 @@ import com.cnpm.managehotel.exception.ErrorCode;
 import com.cnpm.managehotel.service.BookingService;
 import com.cnpm.managehotel.service.BookingdetailService;
 import com.cnpm.managehotel.service.RoomService;
+import com.cnpm.managehotel.stay.InHouseStay;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/booking")
 @RequiredArgsConstructor
@@ -116,4 +119,18 @@ public class BookingController {
                 .result(response)
                 .build();
     }
+
+    @Operation(
+            summary = "Get in-house rooms",
+            description = "Lists the rooms that are currently checked in and not yet paid, with their booking codes"
+    )
+    @GetMapping("/in-house")
+    public ApiResponse<List<InHouseStay>> getInHouse() {
+
+        List<InHouseStay> response = bookingService.findInHouse();
+
+        return ApiResponse.<List<InHouseStay>>builder()
+                .result(response)
+                .build();
+    }
 }
@@ -0,0 +1,80 @@
+package com.cnpm.managehotel.controller;
+
+import com.cnpm.managehotel.dto.response.ApiResponse;
+import com.cnpm.managehotel.entity.HousekeepingTask;
+import com.cnpm.managehotel.exception.AppException;
+import com.cnpm.managehotel.exception.ErrorCode;
+import com.cnpm.managehotel.service.HousekeepingService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.security.Principal;
+import java.util.List;
+
+@RestController
+@RequestMapping("/housekeeping/tasks")
+@RequiredArgsConstructor
+@Tag(name = "Housekeeping API", description = "APIs for cleaning rooms after checkout")
+public class HousekeepingController {
+
+    private final HousekeepingService housekeepingService;
+
+    @ExceptionHandler(AppException.class)
+    public ResponseEntity<ApiResponse<Void>> handleAppException(AppException ex) {
+        ErrorCode errorCode = ex.getErrorCode();
+
+        ApiResponse<Void> response = ApiResponse.<Void>builder()
+                .code(errorCode.getCode())
+                .message(errorCode.getMessage())
+                .build();
+
+        return new ResponseEntity<>(response, errorCode.getStatusCode());
+    }
+
+    @GetMapping
+    @Operation(
+            summary = "Get open housekeeping tasks",
+            description = "Lists the cleaning tasks that are pending or being worked on."
+    )
+    public ApiResponse<List<HousekeepingTask>> getOpenTasks() {
+        return ApiResponse.<List<HousekeepingTask>>builder()
+                .result(housekeepingService.findOpen())
+                .build();
+    }
+
+    @PostMapping("/claim")
+    @Operation(
+            summary = "Claim the next room to clean",
+            description = "Assigns the most urgent pending task, ordered by the next guest arrival of the room, to the caller."
+    )
+    public ApiResponse<HousekeepingTask> claim(Principal principal) {
+        return ApiResponse.<HousekeepingTask>builder()
+                .result(housekeepingService.claim(principal.getName()))
+                .build();
+    }
+
+    @PostMapping("/{id}/complete")
+    @Operation(
+            summary = "Complete a housekeeping task",
+            description = "Marks the claimed task as done and makes the room available again."
+    )
+    public ApiResponse<HousekeepingTask> complete(@PathVariable Long id, Principal principal) {
+        return ApiResponse.<HousekeepingTask>builder()
+                .result(housekeepingService.complete(id, principal.getName()))
+                .build();
+    }
+
+    @PostMapping("/{id}/release")
+    @Operation(
+            summary = "Release a housekeeping task",
+            description = "Gives a claimed task back to the queue without cleaning the room."
+    )
+    public ApiResponse<HousekeepingTask> release(@PathVariable Long id, Principal principal) {
+        return ApiResponse.<HousekeepingTask>builder()
+                .result(housekeepingService.release(id, principal.getName()))
+                .build();
+    }
+}
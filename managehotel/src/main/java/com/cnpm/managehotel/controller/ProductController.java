@@ -4,6 +4,7 @@ import com.cnpm.managehotel.dto.ProductDTO;
 import com.cnpm.managehotel.dto.response.ApiResponse;
 import com.cnpm.managehotel.exception.AppException;
 import com.cnpm.managehotel.exception.ErrorCode;
+import com.cnpm.managehotel.inventory.LowStockAlert;
 import com.cnpm.managehotel.service.ProductService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -11,6 +12,8 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/products")
 @RequiredArgsConstructor
@@ -43,6 +46,18 @@ public class ProductController {
                 .build();
     }
 
+    @GetMapping("/alerts")
+    @Operation(
+            summary = "Get low-stock alerts",
+            description = "Lists consumable products at or below their reorder threshold, or expected to run out soon at the current consumption rate"
+    )
+    public ApiResponse<List<LowStockAlert>> getLowStockAlerts() {
+        List<LowStockAlert> result = productService.findLowStockAlerts();
+        return ApiResponse.<List<LowStockAlert>>builder()
+                .result(result)
+                .build();
+    }
+
     @PutMapping
     @Operation(
             summary = "Update an existing product",
@@ -1,18 +1,34 @@
 package com.cnpm.managehotel.controller;
 
+import com.cnpm.managehotel.catalog.RoomCatalog;
 import com.cnpm.managehotel.dto.RoomDTO;
+import com.cnpm.managehotel.dto.request.RoomStatusRequest;
 import com.cnpm.managehotel.dto.response.ApiResponse;
+import com.cnpm.managehotel.dto.response.RoomImportResponse;
+import com.cnpm.managehotel.dto.response.RoomStatusBoardResponse;
+import com.cnpm.managehotel.dto.response.RoomStatusTransitionResponse;
 import com.cnpm.managehotel.exception.AppException;
 import com.cnpm.managehotel.exception.ErrorCode;
+import com.cnpm.managehotel.roomimport.RoomImportRows;
+import com.cnpm.managehotel.roomstatus.RoomStatusEntry;
+import com.cnpm.managehotel.service.RoomImportService;
 import com.cnpm.managehotel.service.RoomService;
+import com.cnpm.managehotel.service.RoomStatusService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.InputStream;
 import java.util.Date;
+import java.util.List;
 
 @RestController
 @RequestMapping("/room")
@@ -22,6 +38,12 @@ public class RoomController {
 
     private final RoomService roomService;
 
+    private final RoomStatusService roomStatusService;
+
+    private final RoomImportService roomImportService;
+
+    private final ObjectMapper objectMapper;
+
     @ExceptionHandler(AppException.class)
     public ResponseEntity<ApiResponse<Void>> handleAppException(AppException ex) {
         ErrorCode errorCode = ex.getErrorCode();
@@ -53,12 +75,59 @@ public class RoomController {
     @GetMapping
     @Operation(
             summary = "Get all rooms",
-            description = "Retrieves a list of all available rooms."
+            description = "Retrieves a list of all available rooms. Supports If-None-Match: an unchanged list returns 304 without a body."
     )
-    public ApiResponse<RoomDTO> getAllRoom(){
-        RoomDTO response = roomService.findAll();
+    public ResponseEntity<byte[]> getAllRoom(WebRequest request){
+        RoomCatalog.Snapshot snapshot = roomService.findAllSnapshot();
+
+        if (request.checkNotModified(snapshot.getEtag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(snapshot.getEtag())
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(snapshot.getEtag())
+                .cacheControl(CacheControl.noCache())
+                .body(snapshot.getBody());
+    }
 
-        return ApiResponse.<RoomDTO>builder()
+    @GetMapping("/status-board")
+    @Operation(
+            summary = "Get room status board",
+            description = "Returns the current status of every room and the number of rooms per status, served from memory."
+    )
+    public ApiResponse<RoomStatusBoardResponse> getStatusBoard() {
+        RoomStatusBoardResponse response = new RoomStatusBoardResponse(
+                roomStatusService.countByStatus(), roomStatusService.findBoard());
+
+        return ApiResponse.<RoomStatusBoardResponse>builder()
+                .result(response)
+                .build();
+    }
+
+    @GetMapping("/{roomNo}/status-history")
+    @Operation(
+            summary = "Get room status history",
+            description = "Lists the recorded status transitions of a room, newest first."
+    )
+    public ApiResponse<List<RoomStatusTransitionResponse>> getStatusHistory(@PathVariable int roomNo) {
+        return ApiResponse.<List<RoomStatusTransitionResponse>>builder()
+                .result(roomStatusService.findHistory(roomNo))
+                .build();
+    }
+
+    @PutMapping("/status")
+    @Operation(
+            summary = "Change room status",
+            description = "Moves a room to a new status. Only transitions allowed by the room status machine are accepted."
+    )
+    public ApiResponse<RoomStatusEntry> changeStatus(@RequestBody RoomStatusRequest request) {
+        RoomStatusEntry response = roomStatusService.transition(request.getRoomNo(), request.getStatus(), request.getReason());
+
+        return ApiResponse.<RoomStatusEntry>builder()
                 .result(response)
                 .build();
     }
@@ -76,6 +145,32 @@ public class RoomController {
                 .build();
     }
 
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(
+            summary = "Create or update rooms in bulk",
+            description = "Upserts a JSON array of rooms by room number, e.g. when onboarding a property. Returns the outcome of every row."
+    )
+    public ApiResponse<RoomImportResponse> importRooms(InputStream body) {
+        RoomImportResponse response = roomImportService.importRooms(RoomImportRows.fromJson(objectMapper, body));
+
+        return ApiResponse.<RoomImportResponse>builder()
+                .result(response)
+                .build();
+    }
+
+    @PostMapping(value = "/bulk", consumes = "text/csv")
+    @Operation(
+            summary = "Import rooms from CSV",
+            description = "Upserts rooms from CSV with the columns roomNo,type,price,maxNum,status. Returns the outcome of every row."
+    )
+    public ApiResponse<RoomImportResponse> importRoomsCsv(InputStream body) {
+        RoomImportResponse response = roomImportService.importRooms(RoomImportRows.fromCsv(body));
+
+        return ApiResponse.<RoomImportResponse>builder()
+                .result(response)
+                .build();
+    }
+
     @PutMapping
     @Operation(
             summary = "Update room information",
@@ -92,10 +187,16 @@ public class RoomController {
     @DeleteMapping
     @Operation(
             summary = "Delete rooms",
-            description = "Deletes one or more rooms based on room numbers."
+            description = "Deletes one or more rooms based on room numbers. Rooms that were ever booked can only be archived: "
+                    + "with archive=true they are hidden from listings and sales but keep their history."
     )
-    public ApiResponse<Void> deleteRoom(@RequestBody int[] roomNo){
-        roomService.delete(roomNo);
+    public ApiResponse<Void> deleteRoom(@RequestBody int[] roomNo,
+                                        @RequestParam(defaultValue = "false") boolean archive){
+        if (archive) {
+            roomService.archive(roomNo);
+        } else {
+            roomService.delete(roomNo);
+        }
 
         return ApiResponse.<Void>builder()
                 .build();
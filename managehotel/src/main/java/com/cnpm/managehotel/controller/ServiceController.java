@@ -12,6 +12,8 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/service")
 @RequiredArgsConstructor
@@ -46,6 +48,20 @@ public class ServiceController {
                 .build();
     }
 
+    @PostMapping("/batch")
+    @Operation(
+            summary = "Create services in batch",
+            description = "Posts many (roomNo, productId, amount) lines at once, e.g. a minibar sweep of a whole floor. Either every line is posted or none is."
+    )
+    public ApiResponse<List<ServiceResponse>> createServices(@RequestBody List<ServiceRequest> requests){
+
+        List<ServiceResponse> response = serviceService.saveAll(requests);
+
+        return ApiResponse.<List<ServiceResponse>>builder()
+                .result(response)
+                .build();
+    }
+
     @DeleteMapping
     @Operation(
             summary = "Cancel a service",
@@ -0,0 +1,57 @@
+package com.cnpm.managehotel.dataset;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Collections;
+
+/**
+ * {@link LoadMode#BATCH}: one prepared insert per table, executed as a JDBC batch on flush.
+ */
+class BatchInsertSink implements RowSink {
+
+    private final PreparedStatement statement;
+
+    private int pending;
+
+    private long written;
+
+    BatchInsertSink(Connection connection, String table, String... columns) throws SQLException {
+        this.statement = connection.prepareStatement("INSERT INTO " + table + " (" + String.join(", ", columns)
+                + ") VALUES (" + String.join(", ", Collections.nCopies(columns.length, "?")) + ")");
+    }
+
+    @Override
+    public void add(Object... values) throws SQLException {
+        for (int i = 0; i < values.length; i++) {
+            statement.setObject(i + 1, values[i]);
+        }
+        statement.addBatch();
+        pending++;
+    }
+
+    @Override
+    public void flush() throws SQLException {
+        if (pending == 0) {
+            return;
+        }
+        statement.executeBatch();
+        written += pending;
+        pending = 0;
+    }
+
+    @Override
+    public int pending() {
+        return pending;
+    }
+
+    @Override
+    public long written() {
+        return written;
+    }
+
+    @Override
+    public void close() throws SQLException {
+        statement.close();
+    }
+}
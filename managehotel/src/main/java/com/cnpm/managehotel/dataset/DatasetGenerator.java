@@ -0,0 +1,387 @@
+package com.cnpm.managehotel.dataset;
+
+import com.cnpm.managehotel.constant.RoomStatus;
+import com.cnpm.managehotel.constant.UserRole;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.SplittableRandom;
+
+/**
+ * Writes a synthetic but consistent hotel: categories, products, rooms, guests and {@link DatasetScale#getYears()}
+ * years of bookings up to 90 days ahead, with their booking lines, minibar and service purchases, invoices and
+ * feedback.
+ * <ul>
+ *     <li>Stays never overlap within a room; rooms turn over on the check-out day, so occupancy is about 70%.</li>
+ *     <li>Bookings are generated in check-in order. One in five takes two or three rooms for the same dates.</li>
+ *     <li>Past bookings are paid and invoiced. Stays covering today are unpaid, and their rooms are OCCUPIED.</li>
+ *     <li>Guests are drawn with a skew, so some guests come back many times.</li>
+ * </ul>
+ * Rows are appended after the highest existing ids, so a database with the admin user or an earlier dataset can be
+ * loaded again. The same seed and scale give the same data.
+ */
+@Slf4j
+public class DatasetGenerator {
+
+    static final int FLUSH_ROWS = 5_000;
+    static final int FUTURE_DAYS = 90;
+
+    private static final String[] CATEGORIES = {"Minibar", "Laundry", "Spa", "Restaurant"};
+    private static final String[] FAMILY_NAMES = {"Nguyen", "Tran", "Le", "Pham", "Hoang", "Huynh", "Phan", "Vu", "Vo",
+            "Dang", "Bui", "Do", "Ho", "Ngo", "Duong", "Ly"};
+    private static final String[] MIDDLE_NAMES = {"Van", "Thi", "Minh", "Ngoc", "Duc", "Thanh", "Quoc", "Hoang"};
+    private static final String[] GIVEN_NAMES = {"An", "Binh", "Chi", "Dung", "Giang", "Ha", "Hai", "Hieu", "Hoa",
+            "Hung", "Khanh", "Lan", "Linh", "Long", "Mai", "Nam", "Phuong", "Quan", "Son", "Tam", "Thao", "Trang",
+            "Tuan", "Vy"};
+    private static final String[] CITIES = {"Ha Noi", "Ho Chi Minh", "Da Nang", "Hai Phong", "Can Tho", "Hue", "Nha Trang"};
+    private static final String[] NATIONALITIES = {"Korea", "Japan", "China", "United States", "France", "Australia"};
+    private static final String[] FEEDBACK = {"Phong sach se, nhan vien than thien", "Bua sang ngon",
+            "Wifi hoi yeu", "Check-in nhanh", "Phong hoi on vao ban dem", "Se quay lai lan sau"};
+
+    private final DataSource dataSource;
+
+    private final DatasetScale scale;
+
+    private final long seed;
+
+    private final LoadMode mode;
+
+    private final Clock clock;
+
+    public DatasetGenerator(DataSource dataSource, DatasetScale scale, long seed, LoadMode mode) {
+        this(dataSource, scale, seed, mode, Clock.systemDefaultZone());
+    }
+
+    DatasetGenerator(DataSource dataSource, DatasetScale scale, long seed, LoadMode mode, Clock clock) {
+        this.dataSource = dataSource;
+        this.scale = scale;
+        this.seed = seed;
+        this.mode = mode;
+        this.clock = clock;
+    }
+
+    public DatasetReport generate() throws SQLException {
+        long started = System.nanoTime();
+        try (Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            if (mode == LoadMode.LOAD_DATA) {
+                execute(connection, "SET unique_checks = 0, foreign_key_checks = 0");
+            }
+            try {
+                Map<String, Long> rows = new Run(connection).generate();
+                markOccupiedRooms(connection);
+                connection.commit();
+                return new DatasetReport(rows, Duration.ofNanos(System.nanoTime() - started));
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                if (mode == LoadMode.LOAD_DATA) {
+                    execute(connection, "SET unique_checks = 1, foreign_key_checks = 1");
+                }
+                connection.setAutoCommit(autoCommit);
+            }
+        }
+    }
+
+    private void markOccupiedRooms(Connection connection) throws SQLException {
+        LocalDate today = LocalDate.now(clock);
+        execute(connection, "UPDATE room SET status = '" + RoomStatus.OCCUPIED + "' WHERE status = '"
+                + RoomStatus.AVAILABLE + "' AND id IN (SELECT room_id FROM booking_detail WHERE stay_start <= DATE '"
+                + today + "' AND stay_end > DATE '" + today + "')");
+    }
+
+    private static void execute(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private static long maxId(Connection connection, String table, String column) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT COALESCE(MAX(" + column + "), 0) FROM " + table)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    /**
+     * A room's place on the timeline: the day it is next free.
+     */
+    private static final class RoomSlot {
+        final int index;
+        LocalDate free;
+
+        RoomSlot(int index, LocalDate free) {
+            this.index = index;
+            this.free = free;
+        }
+    }
+
+    /**
+     * State of one generation: id offsets, the rows written so far and the reference data bookings point at.
+     */
+    private final class Run {
+
+        final Connection connection;
+        final SplittableRandom random = new SplittableRandom(seed);
+        final LocalDate today = LocalDate.now(clock);
+        final Map<String, Long> rows = new LinkedHashMap<>();
+
+        long userBase;
+        long roomBase;
+        long productBase;
+        double[] roomPrices;
+        int[] roomCapacities;
+        double[] productPrices;
+
+        Run(Connection connection) {
+            this.connection = connection;
+        }
+
+        Map<String, Long> generate() throws SQLException {
+            log.info("Generating dataset: {} rooms, {} guests, {} products, {} years, seed {}, {} mode",
+                    scale.getRooms(), scale.getUsers(), scale.getProducts(), scale.getYears(), seed, mode);
+            catalog();
+            rooms();
+            users();
+            bookings();
+            return rows;
+        }
+
+        void catalog() throws SQLException {
+            long categoryBase = maxId(connection, "category", "id");
+            productBase = maxId(connection, "product", "id");
+            productPrices = new double[scale.getProducts()];
+            try (RowSink categories = RowSink.open(mode, connection, "category", "id", "name");
+                 RowSink products = RowSink.open(mode, connection, "product",
+                         "id", "title", "description", "price", "amount", "reorder_threshold", "category_id")) {
+                for (int i = 0; i < CATEGORIES.length; i++) {
+                    categories.add(categoryBase + i + 1, CATEGORIES[i]);
+                }
+                categories.flush();
+                for (int i = 0; i < productPrices.length; i++) {
+                    int category = i % CATEGORIES.length;
+                    boolean stocked = category == 0;
+                    productPrices[i] = 1_000 * (10 + random.nextInt(category == 2 ? 990 : 190));
+                    products.add(productBase + i + 1, CATEGORIES[category] + " item " + (i + 1), null, productPrices[i],
+                            stocked ? 50 + random.nextInt(500) : 0, stocked ? 20 : null, categoryBase + category + 1);
+                }
+                products.flush();
+                connection.commit();
+                rows.put("category", categories.written());
+                rows.put("product", products.written());
+            }
+        }
+
+        void rooms() throws SQLException {
+            roomBase = maxId(connection, "room", "id");
+            long roomNoBase = maxId(connection, "room", "room_no");
+            roomPrices = new double[scale.getRooms()];
+            roomCapacities = new int[scale.getRooms()];
+            try (RowSink rooms = RowSink.open(mode, connection, "room",
+                    "id", "room_no", "type", "price", "max_num", "status")) {
+                for (int i = 0; i < roomPrices.length; i++) {
+                    int type = random.nextInt(10) < 6 ? 0 : random.nextInt(10) < 7 ? 1 : 2;
+                    roomPrices[i] = new double[]{500_000, 800_000, 1_500_000}[type];
+                    roomCapacities[i] = 2 + type;
+                    rooms.add(roomBase + i + 1, (int) (roomNoBase + i + 1), String.valueOf((char) ('A' + type)),
+                            roomPrices[i], roomCapacities[i],
+                            random.nextInt(50) == 0 ? RoomStatus.MAINTAIN : RoomStatus.AVAILABLE);
+                    if (rooms.pending() == FLUSH_ROWS) {
+                        rooms.flush();
+                    }
+                }
+                rooms.flush();
+                connection.commit();
+                rows.put("room", rooms.written());
+            }
+        }
+
+        void users() throws SQLException {
+            userBase = maxId(connection, "user", "id");
+            try (RowSink users = RowSink.open(mode, connection, "user", "id", "full_name", "email", "phone_number",
+                    "address", "identity_number", "gender", "nationality", "role")) {
+                for (int i = 1; i <= scale.getUsers(); i++) {
+                    long id = userBase + i;
+                    boolean foreign = random.nextInt(10) == 0;
+                    users.add(id,
+                            pick(FAMILY_NAMES) + " " + pick(MIDDLE_NAMES) + " " + pick(GIVEN_NAMES),
+                            "guest" + id + "@example.com",
+                            String.format("09%08d", id % 100_000_000),
+                            pick(CITIES),
+                            foreign ? "P" + String.format("%08d", id) : String.format("079%09d", id),
+                            random.nextBoolean() ? "Nam" : "Nu",
+                            foreign ? pick(NATIONALITIES) : "Viet Nam",
+                            UserRole.CUSTOMER);
+                    if (users.pending() == FLUSH_ROWS) {
+                        users.flush();
+                        connection.commit();
+                    }
+                }
+                users.flush();
+                connection.commit();
+                rows.put("user", users.written());
+            }
+        }
+
+        /**
+         * Walks the calendar room by room, always extending the room that is free earliest, so bookings come out in
+         * check-in order.
+         */
+        void bookings() throws SQLException {
+            long bookingId = maxId(connection, "booking", "id");
+            long detailId = maxId(connection, "booking_detail", "id");
+            long serviceId = maxId(connection, "service", "id");
+            long invoiceId = maxId(connection, "invoice", "id");
+            long feedbackId = maxId(connection, "feedback", "id");
+
+            LocalDate first = today.minusYears(scale.getYears());
+            LocalDate last = today.plusDays(FUTURE_DAYS);
+            PriorityQueue<RoomSlot> timeline = new PriorityQueue<>(
+                    Comparator.comparing((RoomSlot slot) -> slot.free).thenComparingInt(slot -> slot.index));
+            for (int i = 0; i < scale.getRooms(); i++) {
+                timeline.add(new RoomSlot(i, first.plusDays(random.nextInt(7))));
+            }
+
+            try (RowSink bookings = RowSink.open(mode, connection, "booking",
+                    "id", "booking_code", "check_in", "check_out", "guest_num", "is_paid", "user_id");
+                 RowSink details = RowSink.open(mode, connection, "booking_detail", "id", "price", "unit",
+                         "is_foreign", "extra_fee", "booking_id", "room_id", "stay_start", "stay_end");
+                 RowSink services = RowSink.open(mode, connection, "service",
+                         "id", "amount", "price", "buy_date", "booking_id", "product_id");
+                 RowSink invoices = RowSink.open(mode, connection, "invoice",
+                         "id", "booking_id", "total_amount", "paid_at", "created_at");
+                 RowSink feedback = RowSink.open(mode, connection, "feedback",
+                         "id", "content", "submitted_at", "customer_id")) {
+                List<RoomSlot> taken = new ArrayList<>(3);
+                while (!timeline.isEmpty()) {
+                    RoomSlot slot = timeline.poll();
+                    LocalDate start = slot.free.plusDays(gap());
+                    if (start.isAfter(last)) {
+                        continue;
+                    }
+                    int nights = nights();
+                    LocalDate end = start.plusDays(nights);
+                    taken.clear();
+                    taken.add(slot);
+                    for (int extra = roomsPerBooking() - 1; extra > 0; extra--) {
+                        RoomSlot next = timeline.peek();
+                        if (next == null || next.free.isAfter(start)) {
+                            break;
+                        }
+                        taken.add(timeline.poll());
+                    }
+
+                    long booking = ++bookingId;
+                    long user = userBase + 1 + (long) (scale.getUsers() * Math.pow(random.nextDouble(), 2));
+                    Timestamp checkIn = Timestamp.valueOf(start.atTime(14, 0));
+                    Timestamp checkOut = Timestamp.valueOf(end.atTime(12, 0));
+                    boolean paid = end.isBefore(today);
+                    boolean foreignGuest = random.nextInt(10) == 0;
+
+                    double total = 0;
+                    int guests = 0;
+                    for (RoomSlot room : taken) {
+                        double extraFee = random.nextInt(20) == 0 ? 0.2 : 0;
+                        double roomTotal = roomPrices[room.index] * nights;
+                        roomTotal = foreignGuest ? roomTotal * 1.5 : roomTotal;
+                        total += roomTotal + roomTotal * extraFee;
+                        guests += 1 + random.nextInt(roomCapacities[room.index]);
+                        details.add(++detailId, roomPrices[room.index], nights, foreignGuest, extraFee, booking,
+                                roomBase + room.index + 1, start, end);
+                        room.free = end;
+                        timeline.add(room);
+                    }
+                    bookings.add(booking, "DS-" + booking, checkIn, checkOut, guests, paid, user);
+
+                    if (!start.isAfter(today)) {
+                        for (int lines = serviceLines(nights); lines > 0; lines--) {
+                            int product = random.nextInt(productPrices.length);
+                            int amount = 1 + random.nextInt(3);
+                            LocalDate day = start.plusDays(random.nextInt(nights));
+                            total += amount * productPrices[product];
+                            services.add(++serviceId, amount, productPrices[product],
+                                    Timestamp.valueOf(day.atTime(LocalTime.of(8 + random.nextInt(14), random.nextInt(60)))),
+                                    booking, productBase + product + 1);
+                        }
+                    }
+                    if (paid) {
+                        invoices.add(++invoiceId, booking, total, checkOut, checkOut);
+                        if (random.nextInt(30) == 0) {
+                            feedback.add(++feedbackId, pick(FEEDBACK), checkOut, user);
+                        }
+                    }
+
+                    if (bookings.pending() == FLUSH_ROWS) {
+                        flush(bookings, details, services, invoices, feedback);
+                        if (bookings.written() % 100_000 == 0) {
+                            log.info("{} bookings written, calendar at {}", bookings.written(), start);
+                        }
+                    }
+                }
+                flush(bookings, details, services, invoices, feedback);
+                rows.put("booking", bookings.written());
+                rows.put("booking_detail", details.written());
+                rows.put("service", services.written());
+                rows.put("invoice", invoices.written());
+                rows.put("feedback", feedback.written());
+            }
+        }
+
+        /**
+         * Parents first, then one commit for the chunk.
+         */
+        void flush(RowSink... sinks) throws SQLException {
+            for (RowSink sink : sinks) {
+                sink.flush();
+            }
+            connection.commit();
+        }
+
+        /**
+         * Empty days before the next stay: mostly none or one.
+         */
+        int gap() {
+            int roll = random.nextInt(10);
+            return roll < 4 ? 0 : roll < 7 ? 1 : 2 + random.nextInt(3);
+        }
+
+        /**
+         * One to three nights for most stays, up to two weeks for a few.
+         */
+        int nights() {
+            int roll = random.nextInt(20);
+            return roll < 17 ? 1 + random.nextInt(3) : 4 + random.nextInt(11);
+        }
+
+        int roomsPerBooking() {
+            int roll = random.nextInt(20);
+            return roll < 16 ? 1 : roll < 19 ? 2 : 3;
+        }
+
+        int serviceLines(int nights) {
+            return random.nextInt(3) == 0 ? 0 : random.nextInt(1 + Math.min(nights, 4));
+        }
+
+        String pick(String[] values) {
+            return values[random.nextInt(values.length)];
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.cnpm.managehotel.dataset;
+
+import lombok.Value;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Rows written per table by one {@link DatasetGenerator} run.
+ */
+@Value
+public class DatasetReport {
+
+    Map<String, Long> rows;
+    Duration elapsed;
+
+    public long totalRows() {
+        return rows.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    @Override
+    public String toString() {
+        long seconds = Math.max(1, elapsed.toSeconds());
+        return totalRows() + " rows in " + elapsed.toSeconds() + "s (" + totalRows() / seconds + " rows/s) " + rows;
+    }
+}
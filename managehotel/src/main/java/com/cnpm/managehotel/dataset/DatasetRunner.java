@@ -0,0 +1,56 @@
+package com.cnpm.managehotel.dataset;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * Fills the configured database with a synthetic dataset once Flyway has migrated it, then exits:
+ * <pre>
+ * java -jar managehotel.jar --spring.profiles.active=dataset --dataset.scale=10
+ * </pre>
+ * Settings are {@code dataset.*} in {@code application-dataset.properties}.
+ */
+@Slf4j
+@Component
+@Profile("dataset")
+public class DatasetRunner implements ApplicationRunner {
+
+    private final DataSource dataSource;
+
+    private final ConfigurableApplicationContext context;
+
+    private final DatasetScale scale;
+
+    private final long seed;
+
+    private final LoadMode mode;
+
+    public DatasetRunner(@Qualifier("batchDataSource") DataSource dataSource,
+                         ConfigurableApplicationContext context,
+                         @Value("${dataset.scale:1}") double scale,
+                         @Value("${dataset.years:3}") int years,
+                         @Value("${dataset.seed:42}") long seed,
+                         @Value("${dataset.mode:batch}") LoadMode mode) {
+        this.dataSource = dataSource;
+        this.context = context;
+        this.scale = DatasetScale.of(scale, years);
+        this.seed = seed;
+        this.mode = mode;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        DatasetReport report = new DatasetGenerator(dataSource, scale, seed, mode).generate();
+        log.info("Dataset written: {}", report);
+        System.exit(SpringApplication.exit(context, () -> 0));
+    }
+}
@@ -0,0 +1,31 @@
+package com.cnpm.managehotel.dataset;
+
+import lombok.Value;
+
+/**
+ * Size of a generated dataset. Scale factor 1 is a 1,000-room hotel with 10,000 guests and three years of history,
+ * about a million rows; every table grows linearly with the factor, so 10 gives roughly ten million.
+ */
+@Value
+public class DatasetScale {
+
+    static final int ROOMS_PER_FACTOR = 1_000;
+    static final int USERS_PER_FACTOR = 10_000;
+    static final int PRODUCTS = 200;
+
+    int rooms;
+    int users;
+    int products;
+    int years;
+
+    public static DatasetScale of(double factor, int years) {
+        if (factor <= 0 || years <= 0) {
+            throw new IllegalArgumentException("scale factor and years must be positive");
+        }
+        return new DatasetScale(
+                Math.max(1, (int) Math.round(ROOMS_PER_FACTOR * factor)),
+                Math.max(1, (int) Math.round(USERS_PER_FACTOR * factor)),
+                PRODUCTS,
+                years);
+    }
+}
@@ -0,0 +1,124 @@
+package com.cnpm.managehotel.dataset;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+
+/**
+ * {@link LoadMode#LOAD_DATA}: spools rows to a tab-separated file in MySQL's default {@code LOAD DATA} format and
+ * loads the file on flush.
+ */
+class LoadDataSink implements RowSink {
+
+    private final Connection connection;
+
+    private final String table;
+
+    private final String columns;
+
+    private final Path file;
+
+    private BufferedWriter writer;
+
+    private int pending;
+
+    private long written;
+
+    LoadDataSink(Connection connection, String table, String... columns) throws SQLException {
+        this.connection = connection;
+        this.table = table;
+        this.columns = String.join(", ", columns);
+        try {
+            this.file = Files.createTempFile("dataset-" + table + "-", ".tsv");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void add(Object... values) {
+        try {
+            if (writer == null) {
+                writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+            }
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    writer.write('\t');
+                }
+                writer.write(format(values[i]));
+            }
+            writer.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        pending++;
+    }
+
+    @Override
+    public void flush() throws SQLException {
+        if (pending == 0) {
+            return;
+        }
+        try {
+            writer.close();
+            writer = null;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("LOAD DATA LOCAL INFILE '" + file.toAbsolutePath().toString().replace("\\", "/")
+                    + "' INTO TABLE " + table + " CHARACTER SET utf8mb4 (" + columns + ")");
+        }
+        written += pending;
+        pending = 0;
+    }
+
+    @Override
+    public int pending() {
+        return pending;
+    }
+
+    @Override
+    public long written() {
+        return written;
+    }
+
+    @Override
+    public void close() {
+        try {
+            if (writer != null) {
+                writer.close();
+            }
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String format(Object value) {
+        if (value == null) {
+            return "\\N";
+        }
+        if (value instanceof Boolean flag) {
+            return flag ? "1" : "0";
+        }
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime().toString().replace('T', ' ');
+        }
+        if (value instanceof LocalDate date) {
+            return date.toString();
+        }
+        return value.toString()
+                .replace("\\", "\\\\")
+                .replace("\t", "\\t")
+                .replace("\n", "\\n");
+    }
+}
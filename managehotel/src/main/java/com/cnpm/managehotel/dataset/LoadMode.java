@@ -0,0 +1,18 @@
+package com.cnpm.managehotel.dataset;
+
+/**
+ * How generated rows reach the database.
+ */
+public enum LoadMode {
+    /**
+     * Batched prepared inserts; works on any database. Add {@code rewriteBatchedStatements=true} to a MySQL URL so
+     * each batch is sent as multi-row inserts.
+     */
+    BATCH,
+    /**
+     * MySQL only: rows are spooled to tab-separated files and loaded with {@code LOAD DATA LOCAL INFILE}, with
+     * foreign key and unique checks off for the session. Needs {@code allowLoadLocalInfile=true} on the URL and
+     * {@code local_infile=ON} on the server.
+     */
+    LOAD_DATA
+}
@@ -0,0 +1,35 @@
+package com.cnpm.managehotel.dataset;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Buffers the rows of one table until {@link #flush()} writes them. The generator decides when to flush so that
+ * parents always reach the database before their children.
+ */
+interface RowSink extends AutoCloseable {
+
+    void add(Object... values) throws SQLException;
+
+    void flush() throws SQLException;
+
+    /**
+     * Rows buffered since the last flush.
+     */
+    int pending();
+
+    /**
+     * Rows written so far.
+     */
+    long written();
+
+    @Override
+    void close() throws SQLException;
+
+    static RowSink open(LoadMode mode, Connection connection, String table, String... columns) throws SQLException {
+        return switch (mode) {
+            case BATCH -> new BatchInsertSink(connection, table, columns);
+            case LOAD_DATA -> new LoadDataSink(connection, table, columns);
+        };
+    }
+}
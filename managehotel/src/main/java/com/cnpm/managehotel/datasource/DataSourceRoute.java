@@ -0,0 +1,9 @@
+package com.cnpm.managehotel.datasource;
+
+/**
+ * Lookup keys of {@link ReadWriteRoutingDataSource}.
+ */
+public enum DataSourceRoute {
+    PRIMARY,
+    REPLICA
+}
@@ -0,0 +1,75 @@
+package com.cnpm.managehotel.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * Measures how far the replica is behind the primary. Each probe stamps the current time on the primary's
+ * replication_heartbeat row and reads the row back from the replica; the difference is the lag. A replica that
+ * lags more than {@code datasource.replica.max-lag}, or cannot be read, is not used until a later probe finds it
+ * caught up.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    static final String BEAT_SQL = "UPDATE replication_heartbeat SET beat_at = ? WHERE id = 1";
+
+    static final String READ_SQL = "SELECT beat_at FROM replication_heartbeat WHERE id = 1";
+
+    private final JdbcTemplate primary;
+    private final JdbcTemplate replica;
+    private final Clock clock;
+    private final long maxLagMillis;
+
+    private volatile boolean replicaUsable;
+
+    public ReplicaLagMonitor(DataSource primary, DataSource replica, Clock clock, Duration maxLag) {
+        this.primary = new JdbcTemplate(primary);
+        this.replica = new JdbcTemplate(replica);
+        this.clock = clock;
+        this.maxLagMillis = maxLag.toMillis();
+    }
+
+    public boolean isReplicaUsable() {
+        return replicaUsable;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.heartbeat-interval-ms:1000}")
+    @WorkloadPool(Workload.BATCH)
+    public void probe() {
+        long now = clock.millis();
+        try {
+            primary.update(BEAT_SQL, now);
+        } catch (DataAccessException e) {
+            // nothing to compare against; the replica keeps its last verdict
+            log.warn("Could not write replication heartbeat on the primary: {}", e.getMessage());
+            return;
+        }
+
+        boolean usable;
+        try {
+            Long beatAt = replica.queryForObject(READ_SQL, Long.class);
+            long lag = beatAt == null ? Long.MAX_VALUE : now - beatAt;
+            usable = lag <= maxLagMillis;
+            if (!usable && replicaUsable) {
+                log.warn("Replica is {} ms behind the primary; reads go to the primary", lag);
+            }
+        } catch (DataAccessException e) {
+            usable = false;
+            if (replicaUsable) {
+                log.warn("Replica unreachable; reads go to the primary: {}", e.getMessage());
+            }
+        }
+
+        if (usable && !replicaUsable) {
+            log.info("Replica caught up; read-only transactions use it again");
+        }
+        replicaUsable = usable;
+    }
+}
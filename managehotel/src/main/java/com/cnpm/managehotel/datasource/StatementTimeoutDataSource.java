@@ -0,0 +1,59 @@
+package com.cnpm.managehotel.datasource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * Gives every statement created on its connections a query timeout, so a runaway query is cancelled by the driver
+ * instead of holding its connection. A timeout set later by Hibernate or JdbcTemplate still wins.
+ */
+public class StatementTimeoutDataSource extends DelegatingDataSource {
+
+    private final int timeoutSeconds;
+
+    public StatementTimeoutDataSource(DataSource target, Duration timeout) {
+        super(target);
+        this.timeoutSeconds = (int) Math.max(1, timeout.toSeconds());
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return withTimeout(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return withTimeout(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private Connection withTimeout(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        default:
+                            break;
+                    }
+                    Object result;
+                    try {
+                        result = method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                    if (result instanceof Statement statement) {
+                        statement.setQueryTimeout(timeoutSeconds);
+                    }
+                    return result;
+                });
+    }
+}
@@ -0,0 +1,13 @@
+package com.cnpm.managehotel.datasource;
+
+/**
+ * Kinds of database work, each served by its own connection pool so one cannot starve the others.
+ */
+public enum Workload {
+    /** Front-desk requests: bookings, check-in, payments. The default. */
+    OLTP,
+    /** Aggregates and long listings. */
+    REPORTING,
+    /** Imports, purges and other scheduled or background jobs. */
+    BATCH
+}
@@ -0,0 +1,43 @@
+package com.cnpm.managehotel.datasource;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+
+/**
+ * Applies {@link WorkloadPool}. Runs outside the transaction interceptor so the workload is already set when the
+ * transaction takes its connection.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class WorkloadAspect {
+
+    @Around("@annotation(com.cnpm.managehotel.datasource.WorkloadPool) || @within(com.cnpm.managehotel.datasource.WorkloadPool)")
+    public Object route(ProceedingJoinPoint joinPoint) throws Throwable {
+        Workload previous = WorkloadContext.enter(workloadOf(joinPoint));
+        try {
+            return joinPoint.proceed();
+        } finally {
+            WorkloadContext.restore(previous);
+        }
+    }
+
+    private static Workload workloadOf(ProceedingJoinPoint joinPoint) {
+        Class<?> targetClass = AopUtils.getTargetClass(joinPoint.getTarget());
+        Method method = AopUtils.getMostSpecificMethod(((MethodSignature) joinPoint.getSignature()).getMethod(), targetClass);
+        WorkloadPool pool = AnnotatedElementUtils.findMergedAnnotation(method, WorkloadPool.class);
+        if (pool == null) {
+            pool = AnnotatedElementUtils.findMergedAnnotation(targetClass, WorkloadPool.class);
+        }
+        return pool == null ? Workload.OLTP : pool.value();
+    }
+}
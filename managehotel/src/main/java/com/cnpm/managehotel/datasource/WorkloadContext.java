@@ -0,0 +1,34 @@
+package com.cnpm.managehotel.datasource;
+
+/**
+ * The workload of the current thread, read by {@link WorkloadRoutingDataSource} when a connection is taken.
+ */
+public final class WorkloadContext {
+
+    private static final ThreadLocal<Workload> CURRENT = new ThreadLocal<>();
+
+    private WorkloadContext() {
+    }
+
+    public static Workload current() {
+        Workload workload = CURRENT.get();
+        return workload == null ? Workload.OLTP : workload;
+    }
+
+    /**
+     * Switches the current thread to {@code workload} and returns the previous value for {@link #restore}.
+     */
+    static Workload enter(Workload workload) {
+        Workload previous = CURRENT.get();
+        CURRENT.set(workload);
+        return previous;
+    }
+
+    static void restore(Workload previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+}
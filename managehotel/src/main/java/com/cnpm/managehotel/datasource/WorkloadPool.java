@@ -0,0 +1,16 @@
+package com.cnpm.managehotel.datasource;
+
+import java.lang.annotation.*;
+
+/**
+ * Runs the annotated method, or every public method of the annotated bean, on the given workload's pool.
+ * A method annotation wins over the class annotation. Work joining a transaction that already holds a connection
+ * keeps that connection.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface WorkloadPool {
+
+    Workload value();
+}
@@ -16,5 +16,6 @@ public class ProductDTO extends AbstractDTO<ProductDTO>{
     String description;
     double price;
     int amount;
+    Integer reorderThreshold;
     Long categoryId;
 }
@@ -0,0 +1,13 @@
+package com.cnpm.managehotel.dto.request;
+
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class RefreshRequest {
+    String refreshToken;
+}
@@ -0,0 +1,15 @@
+package com.cnpm.managehotel.dto.request;
+
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class RoomStatusRequest {
+    int roomNo;
+    String status;
+    String reason;
+}
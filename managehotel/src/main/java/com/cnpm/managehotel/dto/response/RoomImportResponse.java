@@ -0,0 +1,28 @@
+package com.cnpm.managehotel.dto.response;
+
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class RoomImportResponse {
+    int created;
+    int updated;
+    int failed;
+    List<RoomImportResult> rows = new ArrayList<>();
+
+    public void add(RoomImportResult result) {
+        switch (result.getOutcome()) {
+            case RoomImportResult.CREATED -> created++;
+            case RoomImportResult.UPDATED -> updated++;
+            default -> failed++;
+        }
+        rows.add(result);
+    }
+}
@@ -0,0 +1,21 @@
+package com.cnpm.managehotel.dto.response;
+
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class RoomImportResult {
+    public static final String CREATED = "CREATED";
+    public static final String UPDATED = "UPDATED";
+    public static final String FAILED = "FAILED";
+
+    int row;
+    Integer roomNo;
+    String outcome;
+    Integer code;
+    String message;
+}
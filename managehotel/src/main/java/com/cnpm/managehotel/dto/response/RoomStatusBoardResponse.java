@@ -0,0 +1,18 @@
+package com.cnpm.managehotel.dto.response;
+
+import com.cnpm.managehotel.roomstatus.RoomStatusEntry;
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class RoomStatusBoardResponse {
+    Map<String, Long> counts;
+    List<RoomStatusEntry> rooms;
+}
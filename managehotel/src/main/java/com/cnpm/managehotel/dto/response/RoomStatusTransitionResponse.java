@@ -0,0 +1,20 @@
+package com.cnpm.managehotel.dto.response;
+
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+import java.util.Date;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class RoomStatusTransitionResponse {
+    int roomNo;
+    String fromStatus;
+    String toStatus;
+    String reason;
+    String changedBy;
+    Date changedAt;
+}
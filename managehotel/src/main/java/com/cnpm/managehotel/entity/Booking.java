@@ -10,14 +10,29 @@ import java.util.List;
 import java.util.UUID;
 
 
+/**
+ * Associations are LAZY; each use case fetches what it reads through one of the named graphs below.
+ */
 @Entity
 @Table(name = "booking")
+@NamedEntityGraph(name = Booking.WITH_USER, attributeNodes = @NamedAttributeNode("user"))
+@NamedEntityGraph(name = Booking.WITH_USER_AND_ROOMS,
+        attributeNodes = {
+                @NamedAttributeNode("user"),
+                @NamedAttributeNode(value = "bookingDetails", subgraph = "details")
+        },
+        subgraphs = @NamedSubgraph(name = "details", attributeNodes = @NamedAttributeNode("room")))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @FieldDefaults(level = AccessLevel.PRIVATE)
 public class Booking {
 
+    // Booking list, check-in and invoice: the guest name is shown next to the booking
+    public static final String WITH_USER = "Booking.withUser";
+    // Booking detail page: guest plus every booked room
+    public static final String WITH_USER_AND_ROOMS = "Booking.withUserAndRooms";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     Long id;
@@ -37,7 +52,7 @@ public class Booking {
     @Column(name = "is_paid")
     Boolean isPaid = false;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     User user;
 
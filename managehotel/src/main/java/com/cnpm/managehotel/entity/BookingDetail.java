@@ -4,14 +4,20 @@ import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.FieldDefaults;
 
+import java.time.LocalDate;
+
 @Entity
 @Table(name = "booking_detail")
+@NamedEntityGraph(name = BookingDetail.WITH_ROOM, attributeNodes = @NamedAttributeNode("room"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @FieldDefaults(level = AccessLevel.PRIVATE)
 public class BookingDetail {
 
+    // Invoice and booking deletion read the room of every line
+    public static final String WITH_ROOM = "BookingDetail.withRoom";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     Long id;
@@ -25,11 +31,18 @@ public class BookingDetail {
     @Column(name = "extra_fee")
     double extraFee;
 
-    @ManyToOne
+    // Calendar days of the booking's check-in/check-out, kept on the line for the availability probe
+    @Column(name = "stay_start")
+    LocalDate stayStart;
+
+    @Column(name = "stay_end")
+    LocalDate stayEnd;
+
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "booking_id")
     Booking booking;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "room_id")
     Room room;
 }
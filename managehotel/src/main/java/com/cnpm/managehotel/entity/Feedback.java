@@ -10,6 +10,7 @@ import java.util.Date;
 
 @Entity
 @Table(name = "feedback")
+@NamedEntityGraph(name = Feedback.WITH_USER, attributeNodes = @NamedAttributeNode("user"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -17,6 +18,9 @@ import java.util.Date;
 @FieldDefaults(level = AccessLevel.PRIVATE)
 public class Feedback {
 
+    // Feedback list shows the customer's phone number
+    public static final String WITH_USER = "Feedback.withUser";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     Long id;
@@ -27,7 +31,7 @@ public class Feedback {
     @CreatedDate
     Date submittedAt;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "customer_id")
     User user;
 }
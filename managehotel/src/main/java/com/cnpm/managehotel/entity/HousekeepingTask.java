@@ -0,0 +1,57 @@
+package com.cnpm.managehotel.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.util.Date;
+
+/**
+ * Cleaning job for a room that turned DIRTY. {@code nextArrival} is the earliest upcoming check-in of the room
+ * when the task was created and decides which room is cleaned first; tasks without an arrival go last.
+ */
+@Entity
+@Table(name = "housekeeping_task", indexes = {
+        @Index(name = "idx_housekeeping_task_status_arrival", columnList = "status, next_arrival"),
+        @Index(name = "idx_housekeeping_task_room", columnList = "room_id")
+})
+@Builder
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@EntityListeners(AuditingEntityListener.class)
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class HousekeepingTask {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    Long id;
+
+    @Column(name = "room_id", nullable = false)
+    Long roomId;
+
+    @Column(name = "room_no", nullable = false)
+    int roomNo;
+
+    @Column(nullable = false)
+    String status;
+
+    String reason;
+
+    @Column(name = "next_arrival")
+    Date nextArrival;
+
+    String assignee;
+
+    @Column(name = "created_at", updatable = false)
+    @CreatedDate
+    Date createdAt;
+
+    @Column(name = "claimed_at")
+    Date claimedAt;
+
+    @Column(name = "completed_at")
+    Date completedAt;
+}
@@ -1,17 +1,18 @@
 package com.cnpm.managehotel.entity;
 
-import jakarta.persistence.Entity;
-import jakarta.persistence.EntityListeners;
-import jakarta.persistence.Id;
-import jakarta.persistence.Table;
+import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.FieldDefaults;
+import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.util.Date;
 
 @Entity
-@Table(name = "invalidated_token")
+@Table(name = "invalidated_token", indexes = {
+        @Index(name = "idx_invalidated_token_expiry_time", columnList = "expiry_time"),
+        @Index(name = "idx_invalidated_token_revoked_at", columnList = "revoked_at")
+})
 @Builder
 @Data
 @NoArgsConstructor
@@ -22,5 +23,11 @@ public class InvalidatedToken {
 
     @Id
     String id;
+
+    @Column(name = "expiry_time")
     Date expiryTime;
+
+    @Column(name = "revoked_at", updatable = false)
+    @CreatedDate
+    Date revokedAt;
 }
@@ -3,8 +3,12 @@ package com.cnpm.managehotel.entity;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.FieldDefaults;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "product")
 @Data
 @NoArgsConstructor
@@ -23,7 +27,11 @@ public class Product {
     double price;
     int amount;
 
-    @ManyToOne
+    // Stock level at which a low-stock alert is raised; null falls back to inventory.alert.default-threshold
+    @Column(name = "reorder_threshold")
+    Integer reorderThreshold;
+
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "category_id")
     Category category;
 }
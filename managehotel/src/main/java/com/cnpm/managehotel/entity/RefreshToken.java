@@ -0,0 +1,42 @@
+package com.cnpm.managehotel.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+import java.util.Date;
+
+@Entity
+@Table(name = "refresh_token", indexes = {
+        @Index(name = "idx_refresh_token_family_id", columnList = "family_id"),
+        @Index(name = "idx_refresh_token_expiry_time", columnList = "expiry_time")
+})
+@Builder
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class RefreshToken {
+
+    @Id
+    String id;
+
+    @Column(name = "family_id", nullable = false)
+    String familyId;
+
+    @Column(name = "token_hash", nullable = false, length = 64)
+    String tokenHash;
+
+    @Column(name = "expiry_time", nullable = false)
+    Date expiryTime;
+
+    @Column(name = "used_at")
+    Date usedAt;
+
+    @Column(name = "revoked")
+    boolean revoked;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    User user;
+}
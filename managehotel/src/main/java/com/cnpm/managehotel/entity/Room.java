@@ -3,11 +3,16 @@ package com.cnpm.managehotel.entity;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.FieldDefaults;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "room")
 @Data
 @NoArgsConstructor
@@ -34,6 +39,10 @@ public class Room {
     @Column(name = "description", columnDefinition = "TEXT")
     String description;
 
+    // Set when the room is retired; it keeps its number and booking history but is no longer listed or sold
+    @Column(name = "archived_at")
+    Date archivedAt;
+
     @OneToMany(mappedBy = "room")
     List<BookingDetail> bookingDetails = new ArrayList<>();
 
@@ -0,0 +1,54 @@
+package com.cnpm.managehotel.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+import org.springframework.data.annotation.CreatedBy;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.util.Date;
+
+/**
+ * Append-only log of room status changes. Rows are never updated; the room is referenced by id and number only,
+ * so the history survives the room being deleted.
+ */
+@Entity
+@Table(name = "room_status_transition", indexes = {
+        @Index(name = "idx_room_status_transition_room_changed_at", columnList = "room_id, changed_at")
+})
+@Builder
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@EntityListeners(AuditingEntityListener.class)
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class RoomStatusTransition {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    Long id;
+
+    @Column(name = "room_id", nullable = false, updatable = false)
+    Long roomId;
+
+    @Column(name = "room_no", nullable = false, updatable = false)
+    int roomNo;
+
+    @Column(name = "from_status", updatable = false)
+    String fromStatus;
+
+    @Column(name = "to_status", nullable = false, updatable = false)
+    String toStatus;
+
+    @Column(updatable = false)
+    String reason;
+
+    @Column(name = "changed_by", updatable = false)
+    @CreatedBy
+    String changedBy;
+
+    @Column(name = "changed_at", updatable = false)
+    @CreatedDate
+    Date changedAt;
+}
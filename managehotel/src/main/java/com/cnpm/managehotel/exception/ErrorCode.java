@@ -16,18 +16,29 @@ public enum ErrorCode {
     UNAUTHORIZED(1007, "You do not have permission", HttpStatus.FORBIDDEN),
     INVALID_DOB(1008, "Your age must be at least {min}", HttpStatus.BAD_REQUEST),
     INVALID_DATE(1009, "Check-in date must come before check-out date", HttpStatus.BAD_REQUEST),
+    TOO_MANY_REQUESTS(1010, "Too many requests, please try again later", HttpStatus.TOO_MANY_REQUESTS),
+    INVALID_REFRESH_TOKEN(1011, "Refresh token is invalid or expired", HttpStatus.UNAUTHORIZED),
     NOT_ENOUGH_STOCK(2001, "Not enough stock available", HttpStatus.BAD_REQUEST),
     ROOM_NOT_FOUND(2001, "Roonm does not exist", HttpStatus.BAD_REQUEST),
     ROOM_CONFLICT(2002, "Room number already exist", HttpStatus.BAD_REQUEST),
     ROOM_IN_USE(2003, "Room is in use", HttpStatus.BAD_REQUEST),
+    INVALID_ROOM_STATUS(2004, "Room status is not valid", HttpStatus.BAD_REQUEST),
+    ROOM_STATUS_TRANSITION_NOT_ALLOWED(2005, "Room status cannot change this way", HttpStatus.BAD_REQUEST),
+    ROOM_STATUS_CONFLICT(2006, "Room status was changed by someone else, please reload", HttpStatus.CONFLICT),
+    INVALID_ROOM(2007, "Room data is not valid", HttpStatus.BAD_REQUEST),
+    INVALID_IMPORT_FILE(2008, "Import file cannot be read", HttpStatus.BAD_REQUEST),
     BOOKING_NOT_FOUND(3001, "Booking does not exist", HttpStatus.BAD_REQUEST),
     FEEDBACK_NOT_FOUND(4001, "Feedback does not exist", HttpStatus.BAD_REQUEST),
     PRODUCT_NOT_FOUND(5001, "Product does not exist", HttpStatus.BAD_REQUEST),
     NOT_ENOUGH(5002, "Amount of product not enough in stock", HttpStatus.BAD_REQUEST),
+    INVALID_AMOUNT(5003, "Amount must be greater than zero", HttpStatus.BAD_REQUEST),
     CATEGORY_NOT_FOUND(6001, "Category does not exist", HttpStatus.BAD_REQUEST),
     SERVICE_NOT_FOUND(7001, "Service does not exist", HttpStatus.BAD_REQUEST),
     INVOICE_NOT_FOUND(8001, "Invoice does not exist", HttpStatus.BAD_REQUEST),
-    TOTAL_NOT_EQUAL(8001, "Total price not equal", HttpStatus.BAD_REQUEST)
+    TOTAL_NOT_EQUAL(8001, "Total price not equal", HttpStatus.BAD_REQUEST),
+    HOUSEKEEPING_TASK_NOT_FOUND(9001, "Housekeeping task does not exist", HttpStatus.BAD_REQUEST),
+    NO_HOUSEKEEPING_TASK(9002, "No room is waiting to be cleaned", HttpStatus.NOT_FOUND),
+    HOUSEKEEPING_TASK_NOT_CLAIMED(9003, "Housekeeping task is not claimed by you", HttpStatus.CONFLICT)
     ;
 
     private final int code;
@@ -0,0 +1,157 @@
+package com.cnpm.managehotel.housekeeping;
+
+import com.cnpm.managehotel.constant.HousekeepingStatus;
+import com.cnpm.managehotel.entity.HousekeepingTask;
+import com.cnpm.managehotel.repository.BookingdetailRepo;
+import com.cnpm.managehotel.repository.HousekeepingTaskRepo;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.*;
+
+import static com.cnpm.managehotel.util.TransactionUtil.afterCommit;
+import static com.cnpm.managehotel.util.TransactionUtil.afterRollback;
+
+/**
+ * Min-heap of pending cleaning tasks, keyed by the next guest arrival of the room: the room needed soonest is
+ * offered first, rooms nobody is due in go last, ties are broken by age. The heap only decides the order;
+ * the task row stays the source of truth and claims lock it in the database, so several nodes can share the queue.
+ * Each claimer polls its own candidate, so claims on one node never contend; across nodes SKIP LOCKED sorts it out.
+ * Changes made inside a transaction are applied only after it commits.
+ */
+@Slf4j
+@Component
+public class HousekeepingQueue {
+
+    static final Comparator<QueuedTask> PRIORITY = Comparator
+            .comparing(QueuedTask::getNextArrival, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(QueuedTask::getCreatedAt, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(QueuedTask::getTaskId);
+
+    private final HousekeepingTaskRepo housekeepingTaskRepo;
+    private final BookingdetailRepo bookingdetailRepo;
+    private final Clock clock;
+
+    private final PriorityQueue<QueuedTask> heap = new PriorityQueue<>(PRIORITY);
+    private final Map<Long, QueuedTask> byTaskId = new HashMap<>();
+
+    @Autowired
+    public HousekeepingQueue(HousekeepingTaskRepo housekeepingTaskRepo, BookingdetailRepo bookingdetailRepo) {
+        this(housekeepingTaskRepo, bookingdetailRepo, Clock.systemDefaultZone());
+    }
+
+    HousekeepingQueue(HousekeepingTaskRepo housekeepingTaskRepo, BookingdetailRepo bookingdetailRepo, Clock clock) {
+        this.housekeepingTaskRepo = housekeepingTaskRepo;
+        this.bookingdetailRepo = bookingdetailRepo;
+        this.clock = clock;
+    }
+
+    /**
+     * Reloads the pending tasks and recomputes their arrivals from the booking calendar, which may have changed
+     * since the tasks were written.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<HousekeepingTask> pending = housekeepingTaskRepo.findByStatus(HousekeepingStatus.PENDING);
+        Map<Long, Date> arrivals = nextArrivals(pending.stream().map(HousekeepingTask::getRoomId).distinct().toList());
+
+        synchronized (this) {
+            heap.clear();
+            byTaskId.clear();
+            for (HousekeepingTask task : pending) {
+                Date arrival = arrivals.get(task.getRoomId());
+                add(toQueued(task, arrival != null ? arrival : task.getNextArrival()));
+            }
+        }
+        log.info("Housekeeping queue rebuilt with {} pending tasks", pending.size());
+    }
+
+    /**
+     * Earliest unpaid check-in from the start of today on, per room.
+     */
+    public Map<Long, Date> nextArrivals(Collection<Long> roomIds) {
+        if (roomIds.isEmpty()) {
+            return Map.of();
+        }
+        Date from = Date.from(LocalDate.now(clock).atStartOfDay(clock.getZone()).toInstant());
+        Map<Long, Date> result = new HashMap<>();
+        for (Object[] row : bookingdetailRepo.findNextArrivals(roomIds, from)) {
+            result.put((Long) row[0], (Date) row[1]);
+        }
+        return result;
+    }
+
+    public void offer(HousekeepingTask task) {
+        QueuedTask queued = toQueued(task, task.getNextArrival());
+        afterCommit(() -> {
+            synchronized (this) {
+                add(queued);
+            }
+        });
+    }
+
+    public void remove(Long taskId) {
+        afterCommit(() -> {
+            synchronized (this) {
+                QueuedTask queued = byTaskId.remove(taskId);
+                if (queued != null) {
+                    heap.remove(queued);
+                }
+            }
+        });
+    }
+
+    /**
+     * Takes the most urgent task off the heap, so concurrent claimers on this node never race for the same row.
+     * Returns {@code null} when the heap is empty.
+     */
+    public synchronized QueuedTask poll() {
+        QueuedTask head = heap.poll();
+        if (head != null) {
+            byTaskId.remove(head.getTaskId());
+        }
+        return head;
+    }
+
+    /**
+     * Puts a polled task back if the claim that took it rolls back.
+     */
+    public void restoreOnRollback(QueuedTask queued) {
+        afterRollback(() -> {
+            synchronized (this) {
+                add(queued);
+            }
+        });
+    }
+
+    /**
+     * Puts back tasks a claim skipped because another node holds their row; that claim may still roll back.
+     */
+    public synchronized void requeue(Collection<QueuedTask> skipped) {
+        skipped.forEach(this::add);
+    }
+
+    public synchronized int size() {
+        return heap.size();
+    }
+
+    private void add(QueuedTask queued) {
+        QueuedTask previous = byTaskId.put(queued.getTaskId(), queued);
+        if (previous != null) {
+            heap.remove(previous);
+        }
+        heap.add(queued);
+    }
+
+    private QueuedTask toQueued(HousekeepingTask task, Date arrival) {
+        return new QueuedTask(task.getId(), task.getRoomId(), task.getRoomNo(),
+                arrival != null ? arrival.toInstant() : null,
+                task.getCreatedAt() != null ? task.getCreatedAt().toInstant() : clock.instant());
+    }
+}
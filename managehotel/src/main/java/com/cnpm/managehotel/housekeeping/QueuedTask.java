@@ -0,0 +1,15 @@
+package com.cnpm.managehotel.housekeeping;
+
+import lombok.Value;
+
+import java.time.Instant;
+
+@Value
+public class QueuedTask {
+    Long taskId;
+    Long roomId;
+    int roomNo;
+    // Null when nobody is due to arrive in the room
+    Instant nextArrival;
+    Instant createdAt;
+}
@@ -0,0 +1,14 @@
+package com.cnpm.managehotel.inventory;
+
+import lombok.Value;
+
+/**
+ * Published whenever a product's stock changes. {@code delta} is negative for consumption,
+ * {@code remaining} is the amount read back from the row right after the change.
+ */
+@Value
+public class InventoryChangedEvent {
+    Long productId;
+    int delta;
+    int remaining;
+}
@@ -0,0 +1,23 @@
+package com.cnpm.managehotel.inventory;
+
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+import java.time.Instant;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class LowStockAlert {
+    Long productId;
+    String productTitle;
+    int remaining;
+    int reorderThreshold;
+    double consumptionPerHour;
+    // null while there is no consumption to project from
+    Double hoursToStockout;
+    Instant raisedAt;
+    Instant updatedAt;
+}
@@ -0,0 +1,176 @@
+package com.cnpm.managehotel.inventory;
+
+import com.cnpm.managehotel.catalog.CatalogCache;
+import com.cnpm.managehotel.catalog.CatalogProduct;
+import com.cnpm.managehotel.constant.ProductCategory;
+import com.cnpm.managehotel.datasource.Workload;
+import com.cnpm.managehotel.datasource.WorkloadPool;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Turns {@link InventoryChangedEvent}s into low-stock alerts without ever polling the product table.
+ * Events are queued after commit and processed in batches; for every consumable product it keeps the last known stock
+ * and an exponentially decaying consumption rate. A product is alerted when its stock is at or below its reorder
+ * threshold, or when the current rate would empty it within {@code inventory.alert.horizon-hours}.
+ * There is at most one alert per product; it is updated in place and cleared once the product is restocked.
+ */
+@Slf4j
+@Component
+public class LowStockMonitor {
+
+    private final CatalogCache catalogCache;
+    private final Clock clock;
+
+    private final int defaultThreshold;
+    private final double horizonHours;
+    private final double velocityWindowHours;
+
+    private final BlockingQueue<InventoryChangedEvent> queue;
+
+    // Only touched from flush(), under flushLock
+    private final Map<Long, ProductState> states = new HashMap<>();
+
+    private final Map<Long, LowStockAlert> alerts = new ConcurrentHashMap<>();
+
+    // A lock rather than synchronized: evaluating may load a product, which must not pin a virtual thread
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    @Autowired
+    public LowStockMonitor(CatalogCache catalogCache,
+                           @Value("${inventory.alert.default-threshold:5}") int defaultThreshold,
+                           @Value("${inventory.alert.horizon-hours:24}") double horizonHours,
+                           @Value("${inventory.alert.velocity-window:6h}") Duration velocityWindow,
+                           @Value("${inventory.alert.queue-capacity:10000}") int queueCapacity) {
+        this(catalogCache, Clock.systemUTC(), defaultThreshold, horizonHours, velocityWindow, queueCapacity);
+    }
+
+    LowStockMonitor(CatalogCache catalogCache, Clock clock, int defaultThreshold, double horizonHours,
+                    Duration velocityWindow, int queueCapacity) {
+        this.catalogCache = catalogCache;
+        this.clock = clock;
+        this.defaultThreshold = defaultThreshold;
+        this.horizonHours = horizonHours;
+        this.velocityWindowHours = velocityWindow.toMillis() / 3_600_000d;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onInventoryChanged(InventoryChangedEvent event) {
+        // Every event carries the absolute stock, so a dropped one only costs some velocity accuracy
+        if (!queue.offer(event)) {
+            log.warn("Inventory event queue full, dropping event for product {}", event.getProductId());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${inventory.alert.flush-interval-ms:5000}")
+    @WorkloadPool(Workload.BATCH)
+    public void flush() {
+        flushLock.lock();
+        try {
+            List<InventoryChangedEvent> batch = new ArrayList<>();
+            queue.drainTo(batch);
+            if (batch.isEmpty()) {
+                return;
+            }
+
+            long now = clock.millis();
+            Set<Long> touched = new LinkedHashSet<>();
+            for (InventoryChangedEvent event : batch) {
+                ProductState state = states.computeIfAbsent(event.getProductId(), id -> new ProductState(now));
+                state.remaining = event.getRemaining();
+                if (event.getDelta() < 0) {
+                    state.consume(-event.getDelta(), now, velocityWindowHours);
+                }
+                touched.add(event.getProductId());
+            }
+
+            for (Long productId : touched) {
+                evaluate(productId, states.get(productId), now);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    public List<LowStockAlert> getAlerts() {
+        List<LowStockAlert> result = new ArrayList<>(alerts.values());
+        result.sort(Comparator.comparingInt(LowStockAlert::getRemaining));
+        return result;
+    }
+
+    private void evaluate(Long productId, ProductState state, long now) {
+        CatalogProduct product = catalogCache.getProduct(productId);
+        if (product == null || product.getCategoryId() == null || product.getCategoryId() != ProductCategory.CONSUMABLE) {
+            alerts.remove(productId);
+            return;
+        }
+
+        int threshold = product.getReorderThreshold() != null ? product.getReorderThreshold() : defaultThreshold;
+        double rate = state.rateAt(now, velocityWindowHours);
+        Double hoursToStockout = rate > 0 ? state.remaining / rate : null;
+
+        boolean low = state.remaining <= threshold || (hoursToStockout != null && hoursToStockout <= horizonHours);
+        if (!low) {
+            if (alerts.remove(productId) != null) {
+                log.info("Low-stock alert cleared for product {} ({} left)", productId, state.remaining);
+            }
+            return;
+        }
+
+        Instant at = Instant.ofEpochMilli(now);
+        LowStockAlert alert = LowStockAlert.builder()
+                .productId(productId)
+                .productTitle(product.getTitle())
+                .remaining(state.remaining)
+                .reorderThreshold(threshold)
+                .consumptionPerHour(rate)
+                .hoursToStockout(hoursToStockout)
+                .updatedAt(at)
+                .build();
+
+        LowStockAlert previous = alerts.get(productId);
+        if (previous == null) {
+            alert.setRaisedAt(at);
+            log.warn("Low stock: product {} '{}' has {} left (threshold {})",
+                    productId, product.getTitle(), state.remaining, threshold);
+        } else {
+            alert.setRaisedAt(previous.getRaisedAt());
+        }
+        alerts.put(productId, alert);
+    }
+
+    private static final class ProductState {
+        int remaining;
+        // Units consumed per hour, decayed exponentially over the velocity window
+        double rate;
+        long lastUpdate;
+
+        ProductState(long now) {
+            this.lastUpdate = now;
+        }
+
+        void consume(int units, long now, double windowHours) {
+            rate = rateAt(now, windowHours) + units / windowHours;
+            lastUpdate = now;
+        }
+
+        double rateAt(long now, double windowHours) {
+            double elapsedHours = (now - lastUpdate) / 3_600_000d;
+            return rate * Math.exp(-elapsedHours / windowHours);
+        }
+    }
+}
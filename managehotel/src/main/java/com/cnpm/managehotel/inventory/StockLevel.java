@@ -0,0 +1,6 @@
+package com.cnpm.managehotel.inventory;
+
+public interface StockLevel {
+    Long getId();
+    int getAmount();
+}
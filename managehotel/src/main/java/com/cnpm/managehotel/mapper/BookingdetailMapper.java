@@ -9,6 +9,8 @@ public interface BookingdetailMapper {
 
     @Mapping(source = "bookingId", target = "booking.id")
     @Mapping(source = "roomId", target = "room.id")
+    @Mapping(target = "stayStart", ignore = true)
+    @Mapping(target = "stayEnd", ignore = true)
     BookingDetail toEntity(BookingdetailDTO dto);
 
     @Mapping(source = "booking.id", target = "bookingId")
@@ -18,5 +20,7 @@ public interface BookingdetailMapper {
     @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
     @Mapping(source = "bookingId", target = "booking.id")
     @Mapping(source = "roomId", target = "room.id")
+    @Mapping(target = "stayStart", ignore = true)
+    @Mapping(target = "stayEnd", ignore = true)
     void updateEntity(BookingdetailDTO dto, @MappingTarget BookingDetail entity);
 }
@@ -1,5 +1,6 @@
 package com.cnpm.managehotel.mapper;
 
+import com.cnpm.managehotel.catalog.RoomSummary;
 import com.cnpm.managehotel.dto.RoomDTO;
 import com.cnpm.managehotel.entity.Room;
 import org.mapstruct.*;
@@ -12,6 +13,11 @@ public interface RoomMapper {
     @Mapping(target = "id", source = "id")
     RoomDTO toDTO(Room entity);
 
+    @Mapping(target = "id", source = "id")
+    RoomDTO toDTO(RoomSummary summary);
+
+    List<RoomDTO> toSummaryListDTO(List<RoomSummary> summaries);
+
     @Mapping(target = "id", source = "id")
     Room toEntity(RoomDTO dto);
 
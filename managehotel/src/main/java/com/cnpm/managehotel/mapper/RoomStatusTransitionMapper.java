@@ -0,0 +1,15 @@
+package com.cnpm.managehotel.mapper;
+
+import com.cnpm.managehotel.dto.response.RoomStatusTransitionResponse;
+import com.cnpm.managehotel.entity.RoomStatusTransition;
+import org.mapstruct.Mapper;
+
+import java.util.List;
+
+@Mapper(componentModel = "spring")
+public interface RoomStatusTransitionMapper {
+
+    RoomStatusTransitionResponse toResponse(RoomStatusTransition entity);
+
+    List<RoomStatusTransitionResponse> toResponseList(List<RoomStatusTransition> entities);
+}
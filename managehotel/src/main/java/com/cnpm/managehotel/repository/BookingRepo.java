@@ -1,36 +1,47 @@
 package com.cnpm.managehotel.repository;
 
 import com.cnpm.managehotel.entity.Booking;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Optional;
 
 public interface BookingRepo extends JpaRepository<Booking, Long> {
 
-    @Query("""
-    SELECT b FROM Booking b
-    JOIN BookingDetail bd ON bd.booking.id = b.id
-    JOIN Room r ON r.id = bd.room.id
-    WHERE r.roomNo = :roomNo
-      AND r.status = 'BOOKED'
-      AND CURRENT_TIMESTAMP BETWEEN b.checkIn AND b.checkOut
-    """)
-    Optional<Booking> findByRoomNo(@Param("roomNo") int roomNo);
-
     Optional<Booking> findByBookingCode(String bookingCode);
 
-    List<Booking> findByUserId(Long id);
+    @EntityGraph(Booking.WITH_USER)
+    Optional<Booking> findWithUserByBookingCode(String bookingCode);
+
+    @EntityGraph(Booking.WITH_USER_AND_ROOMS)
+    Optional<Booking> findWithUserAndRoomsByBookingCode(String bookingCode);
 
+    @Query("SELECT b FROM Booking b WHERE b.user.id = :userId")
+    List<Booking> findByUserId(@Param("userId") Long id);
+
+    @EntityGraph(Booking.WITH_USER)
     List<Booking> findAllByCheckInBetween(Date startDate, Date endDate);
 
-    List<Booking> findByUserIdAndIsPaidFalse(Long id);
+    /**
+     * Filters on the user_id column; the derived form joined user a second time and filtered on the joined row.
+     */
+    @EntityGraph(Booking.WITH_USER)
+    @Query("SELECT b FROM Booking b WHERE b.user.id = :userId AND b.isPaid = false")
+    List<Booking> findByUserIdAndIsPaidFalse(@Param("userId") Long id);
 
     List<Booking> findAllByBookingCodeIn(List<String> bookingCodes);
 
+    /**
+     * The given bookings that still exist and are unpaid; a primary key lookup per id.
+     */
+    @Query("SELECT b.id FROM Booking b WHERE b.id IN :ids AND b.isPaid = false")
+    List<Long> findUnpaidIds(@Param("ids") Collection<Long> ids);
+
     @Query("SELECT COUNT(DISTINCT bd.room.id) FROM BookingDetail bd JOIN bd.booking b WHERE b.isPaid = true")
     int countBookedRooms();
 
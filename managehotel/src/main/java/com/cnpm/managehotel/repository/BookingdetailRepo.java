@@ -1,13 +1,79 @@
 package com.cnpm.managehotel.repository;
 
 import com.cnpm.managehotel.entity.BookingDetail;
+import com.cnpm.managehotel.stay.InHouseStay;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
 
 public interface BookingdetailRepo extends JpaRepository<BookingDetail, Long> {
-    List<BookingDetail> findByBookingId(Long bookingId);
-    BookingDetail findByBookingIdAndRoomId(Long bookingId, Long roomId);
+    /**
+     * Written out so the predicate is on booking_id itself. The derived query left-joined booking and filtered on
+     * the joined id, which the planner cannot push down and answers with a scan of booking_detail.
+     */
+    @EntityGraph(BookingDetail.WITH_ROOM)
+    @Query("SELECT bd FROM BookingDetail bd WHERE bd.booking.id = :bookingId")
+    List<BookingDetail> findByBookingId(@Param("bookingId") Long bookingId);
+
+    @Query("SELECT bd FROM BookingDetail bd WHERE bd.booking.id = :bookingId AND bd.room.id = :roomId")
+    BookingDetail findByBookingIdAndRoomId(@Param("bookingId") Long bookingId, @Param("roomId") Long roomId);
+
+    /**
+     * Whether any of {@code roomIds} has a stay overlapping {@code [checkIn, checkOut)}, with the boundaries of
+     * {@link RoomRepo#findAvailableRoomsBetween}: a stay ending on the check-in day still blocks the room.
+     */
+    @Query("""
+    SELECT CASE WHEN COUNT(bd) > 0 THEN true ELSE false END
+    FROM BookingDetail bd
+    WHERE bd.room.id IN :roomIds
+      AND bd.stayStart < :checkOut
+      AND bd.stayEnd >= :checkIn
+    """)
+    boolean existsStayOverlapping(@Param("roomIds") Collection<Long> roomIds,
+                                  @Param("checkIn") LocalDate checkIn,
+                                  @Param("checkOut") LocalDate checkOut);
+
+    @Query("""
+    SELECT new com.cnpm.managehotel.stay.InHouseStay(r.roomNo, b.id, b.bookingCode)
+    FROM BookingDetail bd
+    JOIN bd.booking b
+    JOIN bd.room r
+    WHERE r.status = 'OCCUPIED'
+      AND b.isPaid = false
+    ORDER BY b.checkIn
+    """)
+    List<InHouseStay> findInHouse();
+
+    @Query("""
+    SELECT new com.cnpm.managehotel.stay.InHouseStay(r.roomNo, b.id, b.bookingCode)
+    FROM BookingDetail bd
+    JOIN bd.booking b
+    JOIN bd.room r
+    WHERE r.roomNo IN :roomNos
+      AND r.status = 'OCCUPIED'
+      AND b.isPaid = false
+    ORDER BY b.checkIn
+    """)
+    List<InHouseStay> findInHouseByRoomNos(@Param("roomNos") Collection<Integer> roomNos);
+
+    /**
+     * Earliest unpaid check-in on or after {@code from} per room, as {@code [roomId, checkIn]} rows.
+     * Rooms without an upcoming arrival are absent.
+     */
+    @Query("""
+    SELECT bd.room.id, MIN(b.checkIn)
+    FROM BookingDetail bd
+    JOIN bd.booking b
+    WHERE bd.room.id IN :roomIds
+      AND b.isPaid = false
+      AND b.checkIn >= :from
+    GROUP BY bd.room.id
+    """)
+    List<Object[]> findNextArrivals(@Param("roomIds") Collection<Long> roomIds, @Param("from") Date from);
 }
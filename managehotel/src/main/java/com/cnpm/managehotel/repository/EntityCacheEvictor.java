@@ -0,0 +1,33 @@
+package com.cnpm.managehotel.repository;
+
+import com.cnpm.managehotel.util.TransactionUtil;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+
+/**
+ * Keeps the second-level cache in step with rows written through {@code JdbcTemplate}, which Hibernate never sees.
+ * Does nothing when {@code entity.cache.enabled} is off.
+ */
+@Component
+@RequiredArgsConstructor
+public class EntityCacheEvictor {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    /**
+     * Once the current transaction commits, drops the cached state of the given rows and every cached query result.
+     * Pass no ids after inserts: no entity is cached yet, but a cached lookup may have found nothing.
+     */
+    public void evictAfterCommit(Class<?> entityClass, Collection<?> ids) {
+        TransactionUtil.afterCommit(() -> {
+            Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+            ids.forEach(id -> cache.evictEntityData(entityClass, id));
+            cache.evictDefaultQueryRegion();
+        });
+    }
+}
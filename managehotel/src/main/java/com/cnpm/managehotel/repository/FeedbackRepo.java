@@ -1,7 +1,14 @@
 package com.cnpm.managehotel.repository;
 
 import com.cnpm.managehotel.entity.Feedback;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.List;
+
 public interface FeedbackRepo extends JpaRepository<Feedback, Long> {
+
+    @Override
+    @EntityGraph(Feedback.WITH_USER)
+    List<Feedback> findAll();
 }
@@ -0,0 +1,55 @@
+package com.cnpm.managehotel.repository;
+
+import com.cnpm.managehotel.entity.HousekeepingTask;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface HousekeepingTaskRepo extends JpaRepository<HousekeepingTask, Long> {
+
+    // Lock timeout -2 is Hibernate's SKIP LOCKED: rows another claimer holds are left out instead of waited for
+    String SKIP_LOCKED = "-2";
+
+    /**
+     * Locks the task if it is still pending; empty when it was claimed already or another claim holds the row.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = AvailableSettings.JAKARTA_LOCK_TIMEOUT, value = SKIP_LOCKED))
+    @Query("SELECT t FROM HousekeepingTask t WHERE t.id = :id AND t.status = 'PENDING'")
+    Optional<HousekeepingTask> lockPending(@Param("id") Long id);
+
+    /**
+     * Next pending task by arrival, picked in the database; used when the in-memory queue has nothing to offer.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = AvailableSettings.JAKARTA_LOCK_TIMEOUT, value = SKIP_LOCKED))
+    @Query("""
+    SELECT t FROM HousekeepingTask t
+    WHERE t.status = 'PENDING'
+    ORDER BY CASE WHEN t.nextArrival IS NULL THEN 1 ELSE 0 END, t.nextArrival, t.id
+    """)
+    List<HousekeepingTask> lockNextPending(Pageable pageable);
+
+    /**
+     * Plain read without a lock: still pending while another claim holds the row, no longer once it committed.
+     */
+    boolean existsByIdAndStatus(Long id, String status);
+
+    List<HousekeepingTask> findByStatus(String status);
+
+    List<HousekeepingTask> findByStatusInOrderByCreatedAtAsc(Collection<String> statuses);
+
+    List<HousekeepingTask> findByRoomIdAndStatusIn(Long roomId, Collection<String> statuses);
+
+    List<HousekeepingTask> findByRoomNoInAndStatus(Collection<Integer> roomNos, String status);
+}
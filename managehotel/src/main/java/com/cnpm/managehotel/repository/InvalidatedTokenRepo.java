@@ -2,7 +2,20 @@ package com.cnpm.managehotel.repository;
 
 import com.cnpm.managehotel.entity.InvalidatedToken;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Date;
+import java.util.List;
 
 public interface InvalidatedTokenRepo extends JpaRepository<InvalidatedToken, String> {
 
+    List<InvalidatedToken> findByExpiryTimeAfter(Date now);
+
+    List<InvalidatedToken> findByRevokedAtAfterAndExpiryTimeAfter(Date since, Date now);
+
+    @Modifying
+    @Query("DELETE FROM InvalidatedToken t WHERE t.expiryTime < :now")
+    int deleteExpired(@Param("now") Date now);
 }
@@ -5,11 +5,17 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Date;
 import java.util.Optional;
 
 public interface InvoiceRepo extends JpaRepository<Invoice, Long> {
-    Optional<Invoice> findByBookingId(Long id);
+    @Query("SELECT i FROM Invoice i WHERE i.booking.id = :bookingId")
+    Optional<Invoice> findByBookingId(@Param("bookingId") Long id);
 
-    @Query("SELECT SUM(i.totalAmount) FROM Invoice i WHERE MONTH(i.paidAt) = :month AND YEAR(i.paidAt) = :year")
-    Double getRevenueByMonth(@Param("month") int month, @Param("year") int year);
+    /**
+     * Revenue of invoices paid in {@code [from, to)}. A range rather than MONTH()/YEAR() on the column,
+     * so the paid_at index can answer it.
+     */
+    @Query("SELECT SUM(i.totalAmount) FROM Invoice i WHERE i.paidAt >= :from AND i.paidAt < :to")
+    Double getRevenueBetween(@Param("from") Date from, @Param("to") Date to);
 }
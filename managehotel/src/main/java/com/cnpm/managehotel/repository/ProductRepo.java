@@ -1,7 +1,21 @@
 package com.cnpm.managehotel.repository;
 
 import com.cnpm.managehotel.entity.Product;
+import com.cnpm.managehotel.inventory.StockLevel;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface ProductRepo extends JpaRepository<Product, Long> {
+import java.util.Collection;
+import java.util.List;
+
+public interface ProductRepo extends JpaRepository<Product, Long>, ProductRepoCustom {
+
+    @Modifying
+    @Query("UPDATE Product p SET p.amount = p.amount - :amount WHERE p.id = :id AND p.amount >= :amount")
+    int decrementStock(@Param("id") Long id, @Param("amount") int amount);
+
+    @Query("SELECT p.id AS id, p.amount AS amount FROM Product p WHERE p.id IN :ids")
+    List<StockLevel> findStockLevels(@Param("ids") Collection<Long> ids);
 }
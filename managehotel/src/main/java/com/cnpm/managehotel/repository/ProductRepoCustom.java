@@ -0,0 +1,16 @@
+package com.cnpm.managehotel.repository;
+
+import java.util.List;
+import java.util.Map;
+
+public interface ProductRepoCustom {
+    void restock(Map<Long, Integer> amountByProductId);
+
+    /**
+     * Takes the given amounts out of stock in one JDBC batch. Each row is only
+     * changed when enough stock is left.
+     *
+     * @return ids of the products that did not have enough stock
+     */
+    List<Long> decrementStock(Map<Long, Integer> amountByProductId);
+}
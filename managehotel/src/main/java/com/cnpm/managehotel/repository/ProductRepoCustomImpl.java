@@ -0,0 +1,54 @@
+package com.cnpm.managehotel.repository;
+
+import com.cnpm.managehotel.entity.Product;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@RequiredArgsConstructor
+public class ProductRepoCustomImpl implements ProductRepoCustom {
+
+    private static final String RESTOCK_SQL = "UPDATE product SET amount = amount + ? WHERE id = ?";
+
+    private static final String DECREMENT_SQL = "UPDATE product SET amount = amount - ? WHERE id = ? AND amount >= ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityCacheEvictor entityCacheEvictor;
+
+    @Override
+    public void restock(Map<Long, Integer> amountByProductId) {
+        if (amountByProductId.isEmpty()) {
+            return;
+        }
+        List<Object[]> args = amountByProductId.entrySet().stream()
+                .map(entry -> new Object[]{entry.getValue(), entry.getKey()})
+                .toList();
+        jdbcTemplate.batchUpdate(RESTOCK_SQL, args);
+        entityCacheEvictor.evictAfterCommit(Product.class, amountByProductId.keySet());
+    }
+
+    @Override
+    public List<Long> decrementStock(Map<Long, Integer> amountByProductId) {
+        if (amountByProductId.isEmpty()) {
+            return List.of();
+        }
+        List<Long> ids = new ArrayList<>(amountByProductId.keySet());
+        List<Object[]> args = ids.stream()
+                .map(id -> new Object[]{amountByProductId.get(id), id, amountByProductId.get(id)})
+                .toList();
+
+        int[] counts = jdbcTemplate.batchUpdate(DECREMENT_SQL, args);
+        entityCacheEvictor.evictAfterCommit(Product.class, ids);
+
+        List<Long> outOfStock = new ArrayList<>();
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] == 0) {
+                outOfStock.add(ids.get(i));
+            }
+        }
+        return outOfStock;
+    }
+}
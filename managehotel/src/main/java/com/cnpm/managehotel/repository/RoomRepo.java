@@ -1,39 +1,107 @@
 package com.cnpm.managehotel.repository;
 
+import com.cnpm.managehotel.catalog.RoomSummary;
 import com.cnpm.managehotel.entity.Room;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Optional;
 
-public interface RoomRepo extends JpaRepository<Room, Long> {
+public interface RoomRepo extends JpaRepository<Room, Long>, RoomRepoCustom {
 
+    // served from the query cache when entity.cache.enabled is on
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Room> findByRoomNo(int roomNo);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Room> findByRoomNoIn(List<Integer> roomNo);
 
+    @Query("SELECT r.id AS id, r.roomNo AS roomNo, r.type AS type, r.price AS price, r.maxNum AS maxNum, r.status AS status, r.description AS description FROM Room r WHERE r.archivedAt IS NULL")
+    List<RoomSummary> findAllSummaries();
+
+    @Query("SELECT r.id AS id, r.roomNo AS roomNo, r.type AS type, r.price AS price, r.maxNum AS maxNum, r.status AS status, r.description AS description FROM Room r WHERE r.roomNo IN :roomNos")
+    List<RoomSummary> findSummariesByRoomNoIn(@Param("roomNos") Collection<Integer> roomNos);
+
     @Query("SELECT bd.room FROM BookingDetail bd WHERE bd.booking.bookingCode = :bookingCode")
     List<Room> findRoomsByBookingCode(@Param("bookingCode") String bookingCode);
 
+    /**
+     * Sellable rooms with no stay overlapping {@code [checkIn, checkOut)}. A stay ending on the check-in day still
+     * blocks the room. A DIRTY room only blocks stays starting by {@code today}; housekeeping turns it around before
+     * any later arrival. Each room is one range probe on (room_id, stay_start, stay_end); no join to booking.
+     */
     @Query("""
     SELECT r FROM Room r
-    WHERE r.status != 'MAINTAIN'
-    AND r.id NOT IN (
-       SELECT bd.room.id
-       FROM BookingDetail bd
-       JOIN bd.booking b
-       WHERE FUNCTION('date', b.checkOut) >= FUNCTION('date', :checkInDate)
-       AND FUNCTION('date', b.checkIn) < FUNCTION('date', :checkOutDate)
+    WHERE r.status <> 'MAINTAIN'
+    AND (r.status <> 'DIRTY' OR :checkIn > :today)
+    AND r.archivedAt IS NULL
+    AND NOT EXISTS (
+       SELECT 1 FROM BookingDetail bd
+       WHERE bd.room.id = r.id
+       AND bd.stayStart < :checkOut
+       AND bd.stayEnd >= :checkIn
     )
     """)
     List<Room> findAvailableRoomsBetween(
-            @Param("checkInDate") Date checkInDate,
-            @Param("checkOutDate") Date checkOutDate);
+            @Param("checkIn") LocalDate checkIn,
+            @Param("checkOut") LocalDate checkOut,
+            @Param("today") LocalDate today);
+
+    /**
+     * Compare-and-set on the status column: only succeeds when the room still has the status the caller saw.
+     */
+    @Modifying
+    @Query("UPDATE Room r SET r.status = :to WHERE r.id = :id AND (r.status = :from OR (:from IS NULL AND r.status IS NULL))")
+    int updateStatus(@Param("id") Long id, @Param("from") String from, @Param("to") String to);
+
+    @Query("SELECT r.roomNo FROM Room r WHERE r.roomNo IN :roomNos AND r.archivedAt IS NULL")
+    List<Integer> findActiveRoomNos(@Param("roomNos") Collection<Integer> roomNos);
+
+    /**
+     * Rooms among {@code roomNos} that appear in any booking, answered with one semi-join instead of loading the history.
+     */
+    @Query("""
+    SELECT r.roomNo FROM Room r
+    WHERE r.roomNo IN :roomNos
+    AND EXISTS (SELECT 1 FROM BookingDetail bd WHERE bd.room.id = r.id)
+    """)
+    List<Integer> findRoomNosWithBookings(@Param("roomNos") Collection<Integer> roomNos);
+
+    /**
+     * Rooms among {@code roomNos} that are occupied or appear in any unpaid booking, whatever its dates: a stay past
+     * its check-out that was never paid is still open.
+     */
+    @Query("""
+    SELECT r.roomNo FROM Room r
+    WHERE r.roomNo IN :roomNos
+    AND (r.status = 'OCCUPIED' OR EXISTS (
+       SELECT 1 FROM BookingDetail bd JOIN bd.booking b
+       WHERE bd.room.id = r.id
+       AND b.isPaid = false
+    ))
+    """)
+    List<Integer> findRoomNosWithOpenBookings(@Param("roomNos") Collection<Integer> roomNos);
+
+    @Modifying
+    @Query("DELETE FROM Room r WHERE r.roomNo IN :roomNos")
+    int deleteByRoomNos(@Param("roomNos") Collection<Integer> roomNos);
+
+    @Modifying
+    @Query("UPDATE Room r SET r.archivedAt = :archivedAt WHERE r.roomNo IN :roomNos AND r.archivedAt IS NULL")
+    int archiveByRoomNos(@Param("roomNos") Collection<Integer> roomNos, @Param("archivedAt") Date archivedAt);
 
-    @Query("SELECT COUNT(r) FROM Room r")
+    @Query("SELECT COUNT(r) FROM Room r WHERE r.archivedAt IS NULL")
     int countTotalRooms();
 
-    int countByStatus(String status);
+    @Query("SELECT COUNT(r) FROM Room r WHERE r.status = :status AND r.archivedAt IS NULL")
+    int countByStatus(@Param("status") String status);
 }
@@ -0,0 +1,19 @@
+package com.cnpm.managehotel.repository;
+
+import com.cnpm.managehotel.entity.Room;
+
+import java.util.List;
+
+public interface RoomRepoCustom {
+
+    /**
+     * Inserts the rooms in one JDBC batch. Generated ids are not read back.
+     */
+    void insertAll(List<Room> rooms);
+
+    /**
+     * Updates type, price and capacity of the rooms by id in one JDBC batch. Status is left alone,
+     * it only changes through the room status machine.
+     */
+    void updateAll(List<Room> rooms);
+}
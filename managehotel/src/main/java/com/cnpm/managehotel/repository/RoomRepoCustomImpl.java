@@ -0,0 +1,44 @@
+package com.cnpm.managehotel.repository;
+
+import com.cnpm.managehotel.entity.Room;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+public class RoomRepoCustomImpl implements RoomRepoCustom {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO room (room_no, type, price, max_num, status) VALUES (?, ?, ?, ?, ?)";
+
+    private static final String UPDATE_SQL = "UPDATE room SET type = ?, price = ?, max_num = ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityCacheEvictor entityCacheEvictor;
+
+    @Override
+    public void insertAll(List<Room> rooms) {
+        if (rooms.isEmpty()) {
+            return;
+        }
+        List<Object[]> args = rooms.stream()
+                .map(room -> new Object[]{room.getRoomNo(), String.valueOf(room.getType()), room.getPrice(),
+                        room.getMaxNum(), room.getStatus()})
+                .toList();
+        jdbcTemplate.batchUpdate(INSERT_SQL, args);
+        entityCacheEvictor.evictAfterCommit(Room.class, List.of());
+    }
+
+    @Override
+    public void updateAll(List<Room> rooms) {
+        if (rooms.isEmpty()) {
+            return;
+        }
+        List<Object[]> args = rooms.stream()
+                .map(room -> new Object[]{String.valueOf(room.getType()), room.getPrice(), room.getMaxNum(), room.getId()})
+                .toList();
+        jdbcTemplate.batchUpdate(UPDATE_SQL, args);
+        entityCacheEvictor.evictAfterCommit(Room.class, rooms.stream().map(Room::getId).toList());
+    }
+}
@@ -0,0 +1,21 @@
+package com.cnpm.managehotel.repository;
+
+import com.cnpm.managehotel.entity.RoomStatusTransition;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+public interface RoomStatusTransitionRepo extends JpaRepository<RoomStatusTransition, Long> {
+
+    List<RoomStatusTransition> findByRoomNoOrderByChangedAtDesc(int roomNo);
+
+    // [roomId, last changedAt]
+    @Query("SELECT t.roomId, MAX(t.changedAt) FROM RoomStatusTransition t GROUP BY t.roomId")
+    List<Object[]> findLastChangePerRoom();
+
+    @Query("SELECT COALESCE(MAX(t.id), 0) FROM RoomStatusTransition t")
+    long findMaxId();
+
+    List<RoomStatusTransition> findByIdGreaterThanOrderByIdAsc(long id);
+}
@@ -2,9 +2,12 @@ package com.cnpm.managehotel.repository;
 
 import com.cnpm.managehotel.entity.ServiceEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
-public interface ServiceRepo extends JpaRepository<ServiceEntity, Long> {
-    List<ServiceEntity> findByBookingId(Long id);
+public interface ServiceRepo extends JpaRepository<ServiceEntity, Long>, ServiceRepoCustom {
+    @Query("SELECT s FROM ServiceEntity s WHERE s.booking.id = :bookingId")
+    List<ServiceEntity> findByBookingId(@Param("bookingId") Long id);
 }
@@ -0,0 +1,13 @@
+package com.cnpm.managehotel.repository;
+
+import com.cnpm.managehotel.entity.ServiceEntity;
+
+import java.util.List;
+
+public interface ServiceRepoCustom {
+    /**
+     * Inserts the services with one JDBC batch. IDENTITY ids stop Hibernate from
+     * batching these inserts itself, so the generated ids are not read back.
+     */
+    void insertAll(List<ServiceEntity> services);
+}
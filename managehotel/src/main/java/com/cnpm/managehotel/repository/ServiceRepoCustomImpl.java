@@ -0,0 +1,31 @@
+package com.cnpm.managehotel.repository;
+
+import com.cnpm.managehotel.entity.ServiceEntity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class ServiceRepoCustomImpl implements ServiceRepoCustom {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO service (price, amount, buy_date, product_id, booking_id) VALUES (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertAll(List<ServiceEntity> services) {
+        if (services.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, services, services.size(), (ps, service) -> {
+            ps.setDouble(1, service.getPrice());
+            ps.setInt(2, service.getAmount());
+            ps.setTimestamp(3, new Timestamp(service.getBuyDate().getTime()));
+            ps.setLong(4, service.getProduct().getId());
+            ps.setLong(5, service.getBooking().getId());
+        });
+    }
+}
@@ -0,0 +1,15 @@
+package com.cnpm.managehotel.roomimport;
+
+import com.cnpm.managehotel.dto.RoomDTO;
+import com.cnpm.managehotel.exception.ErrorCode;
+import lombok.Value;
+
+/**
+ * One parsed line of an import. {@code error} is set when the line could not be turned into a room.
+ */
+@Value
+public class RoomImportRow {
+    int row;
+    RoomDTO room;
+    ErrorCode error;
+}
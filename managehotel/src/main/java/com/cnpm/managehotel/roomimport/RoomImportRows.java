@@ -0,0 +1,191 @@
+package com.cnpm.managehotel.roomimport;
+
+import com.cnpm.managehotel.dto.RoomDTO;
+import com.cnpm.managehotel.exception.AppException;
+import com.cnpm.managehotel.exception.ErrorCode;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Lazy readers over an import body: rows are parsed one at a time as the importer asks for them,
+ * so a large file never sits in memory as a whole.
+ */
+public final class RoomImportRows {
+
+    static final String CSV_HEADER = "roomNo,type,price,maxNum,status";
+
+    private RoomImportRows() {
+    }
+
+    /**
+     * Streams the elements of a JSON array of rooms. An element that does not bind to a room becomes a row with
+     * {@link ErrorCode#INVALID_ROOM}; after a syntax error the parser cannot go on, so the rest of the body becomes
+     * one last row with {@link ErrorCode#INVALID_IMPORT_FILE}. Rows before it have been imported by then.
+     */
+    public static Iterator<RoomImportRow> fromJson(ObjectMapper objectMapper, InputStream body) {
+        MappingIterator<RoomDTO> rooms;
+        try {
+            rooms = objectMapper.readerFor(RoomDTO.class).readValues(body);
+        } catch (IOException e) {
+            throw new AppException(ErrorCode.INVALID_IMPORT_FILE);
+        }
+        return new Iterator<>() {
+            int row;
+            boolean unreadable;
+            boolean finished;
+
+            @Override
+            public boolean hasNext() {
+                if (finished) {
+                    return false;
+                }
+                if (unreadable) {
+                    return true;
+                }
+                try {
+                    return rooms.hasNextValue();
+                } catch (IOException e) {
+                    unreadable = true;
+                    return true;
+                }
+            }
+
+            @Override
+            public RoomImportRow next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                row++;
+                if (!unreadable) {
+                    try {
+                        return new RoomImportRow(row, rooms.nextValue(), null);
+                    } catch (JsonMappingException e) {
+                        // the iterator skips the rest of this element on the next call
+                        return new RoomImportRow(row, null, ErrorCode.INVALID_ROOM);
+                    } catch (IOException e) {
+                        unreadable = true;
+                    }
+                }
+                finished = true;
+                return new RoomImportRow(row, null, ErrorCode.INVALID_IMPORT_FILE);
+            }
+        };
+    }
+
+    /**
+     * Reads CSV with the header {@value #CSV_HEADER}. Fields may be double-quoted; blank lines are skipped.
+     * A line that does not parse becomes a row with {@link ErrorCode#INVALID_ROOM} instead of failing the import;
+     * a body that stops reading becomes one last row with {@link ErrorCode#INVALID_IMPORT_FILE}.
+     */
+    public static Iterator<RoomImportRow> fromCsv(InputStream body) {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        return new Iterator<>() {
+            int row;
+            boolean headerSkipped;
+            String line;
+            boolean unreadable;
+            boolean finished;
+
+            @Override
+            public boolean hasNext() {
+                if (finished) {
+                    return false;
+                }
+                if (unreadable) {
+                    return true;
+                }
+                try {
+                    while (line == null) {
+                        String read = reader.readLine();
+                        if (read == null) {
+                            return false;
+                        }
+                        if (read.isBlank()) {
+                            continue;
+                        }
+                        if (!headerSkipped) {
+                            headerSkipped = true;
+                            if (read.trim().replace(" ", "").equalsIgnoreCase(CSV_HEADER)) {
+                                continue;
+                            }
+                        }
+                        line = read;
+                    }
+                    return true;
+                } catch (IOException e) {
+                    unreadable = true;
+                    return true;
+                }
+            }
+
+            @Override
+            public RoomImportRow next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                if (unreadable) {
+                    finished = true;
+                    return new RoomImportRow(++row, null, ErrorCode.INVALID_IMPORT_FILE);
+                }
+                String current = line;
+                line = null;
+                return parseCsvLine(++row, current);
+            }
+        };
+    }
+
+    static RoomImportRow parseCsvLine(int row, String line) {
+        List<String> fields = splitCsv(line);
+        if (fields.size() < 4 || fields.size() > 5) {
+            return new RoomImportRow(row, null, ErrorCode.INVALID_ROOM);
+        }
+        try {
+            RoomDTO room = RoomDTO.builder()
+                    .roomNo(Integer.parseInt(fields.get(0).trim()))
+                    .type(fields.get(1).trim())
+                    .price(Double.parseDouble(fields.get(2).trim()))
+                    .maxNum(Integer.parseInt(fields.get(3).trim()))
+                    .status(fields.size() == 5 && !fields.get(4).isBlank() ? fields.get(4).trim() : null)
+                    .build();
+            return new RoomImportRow(row, room, null);
+        } catch (NumberFormatException e) {
+            return new RoomImportRow(row, null, ErrorCode.INVALID_ROOM);
+        }
+    }
+
+    private static List<String> splitCsv(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
@@ -0,0 +1,117 @@
+package com.cnpm.managehotel.roomstatus;
+
+import com.cnpm.managehotel.catalog.RoomSummary;
+import com.cnpm.managehotel.datasource.Workload;
+import com.cnpm.managehotel.datasource.WorkloadPool;
+import com.cnpm.managehotel.entity.RoomStatusTransition;
+import com.cnpm.managehotel.repository.RoomRepo;
+import com.cnpm.managehotel.repository.RoomStatusTransitionRepo;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.cnpm.managehotel.util.TransactionUtil.afterCommit;
+
+/**
+ * In-memory status board: the current status of every room, answered without touching the database.
+ * Built at startup from the room table and the transition log, then fed by {@link com.cnpm.managehotel.service.RoomStatusService}
+ * and room create/delete after their transactions commit.
+ *
+ * <p>Changes made on other nodes arrive by polling the transition log above the last id seen. An entry is only
+ * replaced by a change at least as recent as its own, so a late poll cannot undo a newer local change. Rooms created
+ * or deleted elsewhere, and transitions whose id was committed out of order, are picked up by the periodic
+ * reload.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoomStatusBoard {
+
+    private final RoomRepo roomRepo;
+    private final RoomStatusTransitionRepo roomStatusTransitionRepo;
+
+    private final Map<Integer, RoomStatusEntry> entries = new ConcurrentHashMap<>();
+
+    private volatile long lastTransitionId;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        // Taken first: transitions committed while the board loads are polled again by the next sync
+        long maxId = roomStatusTransitionRepo.findMaxId();
+        Map<Long, Instant> lastChange = new HashMap<>();
+        for (Object[] row : roomStatusTransitionRepo.findLastChangePerRoom()) {
+            lastChange.put((Long) row[0], ((Date) row[1]).toInstant());
+        }
+
+        Map<Integer, RoomStatusEntry> loaded = new HashMap<>();
+        for (RoomSummary room : roomRepo.findAllSummaries()) {
+            String status = RoomStatusMachine.normalize(room.getStatus());
+            loaded.put(room.getRoomNo(), new RoomStatusEntry(room.getRoomNo(),
+                    status != null ? status : room.getStatus(), lastChange.get(room.getId())));
+        }
+
+        // No clear(): readers never see an empty board while it is reloaded
+        entries.keySet().retainAll(loaded.keySet());
+        entries.putAll(loaded);
+        lastTransitionId = maxId;
+        log.info("Room status board rebuilt with {} rooms", loaded.size());
+    }
+
+    @Scheduled(initialDelayString = "${room.status-board.resync-interval-ms:300000}",
+            fixedDelayString = "${room.status-board.resync-interval-ms:300000}")
+    @WorkloadPool(Workload.BATCH)
+    public void resync() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${room.status-board.sync-interval-ms:2000}")
+    @WorkloadPool(Workload.BATCH)
+    public void sync() {
+        for (RoomStatusTransition transition : roomStatusTransitionRepo.findByIdGreaterThanOrderByIdAsc(lastTransitionId)) {
+            Instant since = transition.getChangedAt() != null ? transition.getChangedAt().toInstant() : null;
+            put(new RoomStatusEntry(transition.getRoomNo(), transition.getToStatus(), since));
+            lastTransitionId = transition.getId();
+        }
+    }
+
+    public List<RoomStatusEntry> findAll() {
+        List<RoomStatusEntry> result = new ArrayList<>(entries.values());
+        result.sort(Comparator.comparingInt(RoomStatusEntry::getRoomNo));
+        return result;
+    }
+
+    public Optional<RoomStatusEntry> find(int roomNo) {
+        return Optional.ofNullable(entries.get(roomNo));
+    }
+
+    public Map<String, Long> countByStatus() {
+        Map<String, Long> counts = new TreeMap<>();
+        entries.values().forEach(entry -> counts.merge(entry.getStatus(), 1L, Long::sum));
+        return counts;
+    }
+
+    public void apply(int roomNo, String status, Instant since) {
+        RoomStatusEntry entry = new RoomStatusEntry(roomNo, status, since);
+        afterCommit(() -> put(entry));
+    }
+
+    /**
+     * Applied right away; callers run it once the deletion has committed.
+     */
+    public void remove(int roomNo) {
+        entries.remove(roomNo);
+    }
+
+    private void put(RoomStatusEntry entry) {
+        entries.merge(entry.getRoomNo(), entry, (current, next) ->
+                current.getSince() != null && next.getSince() != null && next.getSince().isBefore(current.getSince())
+                        ? current : next);
+    }
+}
@@ -0,0 +1,15 @@
+package com.cnpm.managehotel.roomstatus;
+
+import lombok.Value;
+
+/**
+ * Published inside the transaction that applied a room status transition, so listeners can write in the same unit of work.
+ */
+@Value
+public class RoomStatusChangedEvent {
+    Long roomId;
+    int roomNo;
+    String fromStatus;
+    String toStatus;
+    String reason;
+}
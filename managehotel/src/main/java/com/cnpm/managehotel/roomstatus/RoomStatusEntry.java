@@ -0,0 +1,13 @@
+package com.cnpm.managehotel.roomstatus;
+
+import lombok.Value;
+
+import java.time.Instant;
+
+@Value
+public class RoomStatusEntry {
+    int roomNo;
+    String status;
+    // Time of the last recorded transition, null when the room never changed status since the log was introduced
+    Instant since;
+}
@@ -0,0 +1,48 @@
+package com.cnpm.managehotel.roomstatus;
+
+import com.cnpm.managehotel.constant.RoomStatus;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Allowed room status transitions.
+ * <pre>
+ * AVAILABLE -> OCCUPIED (check-in), MAINTAIN, DIRTY
+ * OCCUPIED  -> DIRTY (check-out), AVAILABLE (check-in undone)
+ * DIRTY     -> AVAILABLE (cleaned), MAINTAIN
+ * MAINTAIN  -> AVAILABLE, DIRTY
+ * </pre>
+ */
+public final class RoomStatusMachine {
+
+    private static final Map<String, Set<String>> TRANSITIONS = Map.of(
+            RoomStatus.AVAILABLE, Set.of(RoomStatus.OCCUPIED, RoomStatus.MAINTAIN, RoomStatus.DIRTY),
+            RoomStatus.OCCUPIED, Set.of(RoomStatus.DIRTY, RoomStatus.AVAILABLE),
+            RoomStatus.DIRTY, Set.of(RoomStatus.AVAILABLE, RoomStatus.MAINTAIN),
+            RoomStatus.MAINTAIN, Set.of(RoomStatus.AVAILABLE, RoomStatus.DIRTY)
+    );
+
+    private RoomStatusMachine() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Upper-cases a status and treats a missing one as {@link RoomStatus#AVAILABLE}, the default for new rooms.
+     *
+     * @return the normalized status, or {@code null} when it is not a known status
+     */
+    public static String normalize(String status) {
+        if (status == null || status.isBlank()) {
+            return RoomStatus.AVAILABLE;
+        }
+        String normalized = status.trim().toUpperCase(Locale.ROOT);
+        return TRANSITIONS.containsKey(normalized) ? normalized : null;
+    }
+
+    public static boolean canTransition(String from, String to) {
+        Set<String> targets = TRANSITIONS.get(from);
+        return targets != null && targets.contains(to);
+    }
+}
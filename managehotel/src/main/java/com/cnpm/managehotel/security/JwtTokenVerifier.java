@@ -0,0 +1,61 @@
+package com.cnpm.managehotel.security;
+
+import com.cnpm.managehotel.exception.AppException;
+import com.cnpm.managehotel.exception.ErrorCode;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.crypto.MACVerifier;
+import com.nimbusds.jwt.SignedJWT;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.text.ParseException;
+import java.util.Date;
+
+/**
+ * Parses and verifies access tokens with a single shared {@link MACVerifier}.
+ * The verifier is thread safe, so it is built once instead of on every call.
+ * Only HS512, the algorithm the tokens are signed with, is accepted.
+ */
+@Component
+public class JwtTokenVerifier {
+
+    private final JWSVerifier verifier;
+
+    private final TokenRevocationStore tokenRevocationStore;
+
+    public JwtTokenVerifier(@Value("${jwt.signerKey}") String signerKey,
+                            TokenRevocationStore tokenRevocationStore) throws JOSEException {
+        this.verifier = new MACVerifier(signerKey.getBytes());
+        this.tokenRevocationStore = tokenRevocationStore;
+    }
+
+    public SignedJWT verify(String token) throws JOSEException, ParseException {
+        SignedJWT signedJWT = SignedJWT.parse(token);
+
+        if (!JWSAlgorithm.HS512.equals(signedJWT.getHeader().getAlgorithm())) {
+            throw new AppException(ErrorCode.UNAUTHENTICATED);
+        }
+
+        Date now = new Date();
+        Date expiryTime = signedJWT.getJWTClaimsSet().getExpirationTime();
+        Date notBeforeTime = signedJWT.getJWTClaimsSet().getNotBeforeTime();
+
+        boolean verified = signedJWT.verify(verifier);
+
+        if (!(verified && expiryTime != null && expiryTime.after(now))) {
+            throw new AppException(ErrorCode.UNAUTHENTICATED);
+        }
+
+        if (notBeforeTime != null && notBeforeTime.after(now)) {
+            throw new AppException(ErrorCode.UNAUTHENTICATED);
+        }
+
+        if (tokenRevocationStore.isRevoked(signedJWT.getJWTClaimsSet().getJWTID())) {
+            throw new AppException(ErrorCode.UNAUTHENTICATED);
+        }
+
+        return signedJWT;
+    }
+}
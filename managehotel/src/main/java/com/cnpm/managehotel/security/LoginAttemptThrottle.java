@@ -0,0 +1,87 @@
+package com.cnpm.managehotel.security;
+
+import com.cnpm.managehotel.exception.AppException;
+import com.cnpm.managehotel.exception.ErrorCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Per account and per client IP login throttling.
+ *
+ * <p>Keys are hashed onto a fixed array of token buckets, so memory stays constant however many
+ * accounts or addresses show up; two keys sharing a stripe share its budget. An attempt has to take a
+ * token from both its account bucket and its IP bucket before any password hashing is done.</p>
+ */
+@Component
+public class LoginAttemptThrottle {
+
+    private final TokenBucket[] accountBuckets;
+
+    private final TokenBucket[] ipBuckets;
+
+    public LoginAttemptThrottle(@Value("${auth.throttle.stripes:4096}") int stripes,
+                                @Value("${auth.throttle.account.capacity:5}") int accountCapacity,
+                                @Value("${auth.throttle.account.refill-per-minute:5}") int accountRefillPerMinute,
+                                @Value("${auth.throttle.ip.capacity:30}") int ipCapacity,
+                                @Value("${auth.throttle.ip.refill-per-minute:60}") int ipRefillPerMinute) {
+        this.accountBuckets = buckets(stripes, accountCapacity, accountRefillPerMinute);
+        this.ipBuckets = buckets(stripes, ipCapacity, ipRefillPerMinute);
+    }
+
+    public void acquire(String account, String ipAddress) {
+        TokenBucket accountBucket = stripe(accountBuckets, account);
+        TokenBucket ipBucket = stripe(ipBuckets, ipAddress);
+
+        if (!ipBucket.tryConsume()) {
+            throw new AppException(ErrorCode.TOO_MANY_REQUESTS);
+        }
+        if (!accountBucket.tryConsume()) {
+            ipBucket.refund();
+            throw new AppException(ErrorCode.TOO_MANY_REQUESTS);
+        }
+    }
+
+    private static TokenBucket stripe(TokenBucket[] buckets, String key) {
+        int hash = key == null ? 0 : key.toLowerCase().hashCode();
+        hash ^= hash >>> 16;
+        return buckets[Math.floorMod(hash, buckets.length)];
+    }
+
+    private static TokenBucket[] buckets(int stripes, int capacity, int refillPerMinute) {
+        TokenBucket[] buckets = new TokenBucket[stripes];
+        for (int i = 0; i < stripes; i++) {
+            buckets[i] = new TokenBucket(capacity, refillPerMinute / 60_000_000_000d);
+        }
+        return buckets;
+    }
+
+    private static final class TokenBucket {
+
+        private final double capacity;
+        private final double tokensPerNano;
+        private double tokens;
+        private long lastRefill;
+
+        TokenBucket(double capacity, double tokensPerNano) {
+            this.capacity = capacity;
+            this.tokensPerNano = tokensPerNano;
+            this.tokens = capacity;
+            this.lastRefill = System.nanoTime();
+        }
+
+        synchronized boolean tryConsume() {
+            long now = System.nanoTime();
+            tokens = Math.min(capacity, tokens + (now - lastRefill) * tokensPerNano);
+            lastRefill = now;
+            if (tokens < 1) {
+                return false;
+            }
+            tokens -= 1;
+            return true;
+        }
+
+        synchronized void refund() {
+            tokens = Math.min(capacity, tokens + 1);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.cnpm.managehotel.security;
+
+import com.cnpm.managehotel.datasource.Workload;
+import com.cnpm.managehotel.datasource.WorkloadPool;
+import com.cnpm.managehotel.entity.InvalidatedToken;
+import com.cnpm.managehotel.repository.InvalidatedTokenRepo;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Keeps the ids of logged out, not yet expired tokens in memory.
+ *
+ * <p>A Bloom filter answers the common "not revoked" case without touching the map, the map holds
+ * each jti until its token's own {@code exp}. The invalidated_token table stays the source of truth:
+ * it is loaded at startup, polled by {@code revoked_at} so a logout on another node is seen within
+ * one sync interval, and expired rows are deleted in one statement by the purge job.</p>
+ */
+@Component
+@Slf4j
+public class TokenRevocationStore {
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final InvalidatedTokenRepo invalidatedTokenRepo;
+
+    private final long expectedRevocations;
+
+    private final long syncOverlapMillis;
+
+    private final Map<String, Date> revoked = new ConcurrentHashMap<>();
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    private volatile BloomFilter bloomFilter;
+
+    private volatile Date highWaterMark = new Date(0);
+
+    public TokenRevocationStore(InvalidatedTokenRepo invalidatedTokenRepo,
+                                @Value("${jwt.revocation.expected-size:100000}") long expectedRevocations,
+                                @Value("${jwt.revocation.sync-overlap-ms:5000}") long syncOverlapMillis) {
+        this.invalidatedTokenRepo = invalidatedTokenRepo;
+        this.expectedRevocations = expectedRevocations;
+        this.syncOverlapMillis = syncOverlapMillis;
+        this.bloomFilter = new BloomFilter(expectedRevocations, FALSE_POSITIVE_RATE);
+    }
+
+    @PostConstruct
+    public void load() {
+        List<InvalidatedToken> active = invalidatedTokenRepo.findByExpiryTimeAfter(new Date());
+        active.forEach(this::remember);
+        log.info("Loaded {} revoked tokens", active.size());
+    }
+
+    public boolean isRevoked(String jti) {
+        if (jti == null || !bloomFilter.mightContain(jti)) {
+            return false;
+        }
+        Date expiryTime = revoked.get(jti);
+        return expiryTime != null && expiryTime.after(new Date());
+    }
+
+    public void revoke(String jti, Date expiryTime) {
+        InvalidatedToken invalidatedToken = InvalidatedToken.builder()
+                .id(jti)
+                .expiryTime(expiryTime)
+                .revokedAt(new Date())
+                .build();
+
+        invalidatedTokenRepo.save(invalidatedToken);
+        remember(invalidatedToken);
+    }
+
+    public int size() {
+        return revoked.size();
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.revocation.sync-interval-ms:2000}")
+    @WorkloadPool(Workload.BATCH)
+    public void sync() {
+        Date since = new Date(highWaterMark.getTime() - syncOverlapMillis);
+        invalidatedTokenRepo.findByRevokedAtAfterAndExpiryTimeAfter(since, new Date())
+                .forEach(this::remember);
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.revocation.purge-interval-ms:600000}")
+    @WorkloadPool(Workload.BATCH)
+    @Transactional
+    public void purge() {
+        Date now = new Date();
+        int deleted = invalidatedTokenRepo.deleteExpired(now);
+
+        writeLock.lock();
+        try {
+            revoked.values().removeIf(expiryTime -> !expiryTime.after(now));
+            BloomFilter rebuilt = new BloomFilter(Math.max(expectedRevocations, revoked.size()), FALSE_POSITIVE_RATE);
+            revoked.keySet().forEach(rebuilt::put);
+            bloomFilter = rebuilt;
+        } finally {
+            writeLock.unlock();
+        }
+
+        if (deleted > 0) {
+            log.info("Purged {} expired revoked tokens", deleted);
+        }
+    }
+
+    private void remember(InvalidatedToken token) {
+        if (token.getExpiryTime() == null) {
+            return;
+        }
+        writeLock.lock();
+        try {
+            revoked.put(token.getId(), token.getExpiryTime());
+            bloomFilter.put(token.getId());
+            Date revokedAt = token.getRevokedAt();
+            if (revokedAt != null && revokedAt.after(highWaterMark)) {
+                highWaterMark = revokedAt;
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+}
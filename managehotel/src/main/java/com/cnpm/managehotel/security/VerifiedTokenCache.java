@@ -0,0 +1,69 @@
+package com.cnpm.managehotel.security;
+
+import com.cnpm.managehotel.util.HashUtil;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Bounded cache of already verified access tokens.
+ * Entries are keyed by the SHA-256 of the raw token and expire at the token's own {@code exp},
+ * so a repeated request with the same token skips parsing, signature checking and the revocation query.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final Cache<String, Jwt> cache;
+
+    public VerifiedTokenCache(@Value("${jwt.cache.maximum-size:10000}") long maximumSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<String, Jwt>() {
+                    @Override
+                    public long expireAfterCreate(String key, Jwt jwt, long currentTime) {
+                        return remainingNanos(jwt);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Jwt jwt, long currentTime, long currentDuration) {
+                        return remainingNanos(jwt);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Jwt jwt, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    public Jwt get(String token) {
+        return cache.getIfPresent(HashUtil.sha256Hex(token));
+    }
+
+    public void put(String token, Jwt jwt) {
+        cache.put(HashUtil.sha256Hex(token), jwt);
+    }
+
+    public void evict(String token) {
+        cache.invalidate(HashUtil.sha256Hex(token));
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    private static long remainingNanos(Jwt jwt) {
+        Instant expiresAt = jwt.getExpiresAt();
+        if (expiresAt == null) {
+            return 0;
+        }
+        return Math.max(0, Duration.between(Instant.now(), expiresAt).toNanos());
+    }
+}
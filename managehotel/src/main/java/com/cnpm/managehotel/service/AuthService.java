@@ -4,6 +4,7 @@ import com.cnpm.managehotel.dto.UserDTO;
 import com.cnpm.managehotel.dto.request.AuthenticationRequest;
 import com.cnpm.managehotel.dto.request.IntrospectRequest;
 import com.cnpm.managehotel.dto.request.LogoutRequest;
+import com.cnpm.managehotel.dto.request.RefreshRequest;
 import com.cnpm.managehotel.dto.response.AuthenticationResponse;
 import com.cnpm.managehotel.dto.response.IntrospectResponse;
 import com.nimbusds.jose.JOSEException;
@@ -12,7 +13,8 @@ import java.text.ParseException;
 
 public interface AuthService {
     void register(UserDTO request);
-    AuthenticationResponse authenticate(AuthenticationRequest request);
+    AuthenticationResponse authenticate(AuthenticationRequest request, String ipAddress);
     IntrospectResponse introspect(IntrospectRequest request) throws JOSEException, ParseException;
     void logout(LogoutRequest request) throws ParseException, JOSEException;
+    AuthenticationResponse refresh(RefreshRequest request);
 }
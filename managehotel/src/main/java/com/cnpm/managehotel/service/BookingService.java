@@ -5,6 +5,9 @@ import com.cnpm.managehotel.dto.request.CheckinRequest;
 import com.cnpm.managehotel.dto.request.IdentityRequest;
 import com.cnpm.managehotel.dto.response.BookingResponse;
 import com.cnpm.managehotel.dto.response.CheckinResponse;
+import com.cnpm.managehotel.stay.InHouseStay;
+
+import java.util.List;
 
 public interface BookingService {
     BookingResponse findAll();
@@ -12,4 +15,5 @@ public interface BookingService {
     void delete(String [] bookingCode);
     CheckinResponse checkIn(CheckinRequest request);
     BookingResponse findUnpaidBooking(IdentityRequest request);
+    List<InHouseStay> findInHouse();
 }
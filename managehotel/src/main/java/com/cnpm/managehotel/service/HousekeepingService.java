@@ -0,0 +1,14 @@
+package com.cnpm.managehotel.service;
+
+import com.cnpm.managehotel.entity.HousekeepingTask;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface HousekeepingService {
+    HousekeepingTask claim(String housekeeper);
+    HousekeepingTask complete(Long taskId, String housekeeper);
+    HousekeepingTask release(Long taskId, String housekeeper);
+    List<HousekeepingTask> findOpen();
+    void cancelPending(Collection<Integer> roomNos);
+}
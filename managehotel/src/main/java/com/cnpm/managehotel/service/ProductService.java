@@ -1,7 +1,11 @@
 package com.cnpm.managehotel.service;
 
 import com.cnpm.managehotel.dto.ProductDTO;
+import com.cnpm.managehotel.inventory.LowStockAlert;
+
+import java.util.List;
 
 public interface ProductService {
     ProductDTO save(ProductDTO request);
+    List<LowStockAlert> findLowStockAlerts();
 }
@@ -0,0 +1,10 @@
+package com.cnpm.managehotel.service;
+
+import com.cnpm.managehotel.entity.RefreshToken;
+import com.cnpm.managehotel.entity.User;
+
+public interface RefreshTokenService {
+    String issue(User user, String familyId);
+    RefreshToken consume(String refreshToken);
+    void revokeFamily(String refreshToken);
+}
@@ -0,0 +1,10 @@
+package com.cnpm.managehotel.service;
+
+import com.cnpm.managehotel.dto.response.RoomImportResponse;
+import com.cnpm.managehotel.roomimport.RoomImportRow;
+
+import java.util.Iterator;
+
+public interface RoomImportService {
+    RoomImportResponse importRooms(Iterator<RoomImportRow> rows);
+}
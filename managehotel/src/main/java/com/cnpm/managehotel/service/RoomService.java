@@ -1,12 +1,15 @@
 package com.cnpm.managehotel.service;
 
+import com.cnpm.managehotel.catalog.RoomCatalog;
 import com.cnpm.managehotel.dto.RoomDTO;
 
 import java.util.Date;
 
 public interface RoomService {
     RoomDTO findAll();
+    RoomCatalog.Snapshot findAllSnapshot();
     RoomDTO findAllAvailable(Date checkinDate, Date checkoutDate);
     RoomDTO save(RoomDTO request);
     void delete(int[] roomNo);
+    void archive(int[] roomNo);
 }
@@ -0,0 +1,16 @@
+package com.cnpm.managehotel.service;
+
+import com.cnpm.managehotel.dto.response.RoomStatusTransitionResponse;
+import com.cnpm.managehotel.entity.Room;
+import com.cnpm.managehotel.roomstatus.RoomStatusEntry;
+
+import java.util.List;
+import java.util.Map;
+
+public interface RoomStatusService {
+    RoomStatusEntry transition(int roomNo, String status, String reason);
+    RoomStatusEntry transition(Room room, String status, String reason);
+    List<RoomStatusEntry> findBoard();
+    Map<String, Long> countByStatus();
+    List<RoomStatusTransitionResponse> findHistory(int roomNo);
+}
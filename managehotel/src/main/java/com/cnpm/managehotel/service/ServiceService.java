@@ -3,7 +3,10 @@ package com.cnpm.managehotel.service;
 import com.cnpm.managehotel.dto.request.ServiceRequest;
 import com.cnpm.managehotel.dto.response.ServiceResponse;
 
+import java.util.List;
+
 public interface ServiceService {
     ServiceResponse save(ServiceRequest request);
+    List<ServiceResponse> saveAll(List<ServiceRequest> requests);
     void delete(Long[] id);
 }
@@ -5,19 +5,24 @@ import com.cnpm.managehotel.dto.UserDTO;
 import com.cnpm.managehotel.dto.request.AuthenticationRequest;
 import com.cnpm.managehotel.dto.request.IntrospectRequest;
 import com.cnpm.managehotel.dto.request.LogoutRequest;
+import com.cnpm.managehotel.dto.request.RefreshRequest;
 import com.cnpm.managehotel.dto.response.AuthenticationResponse;
 import com.cnpm.managehotel.dto.response.IntrospectResponse;
-import com.cnpm.managehotel.entity.InvalidatedToken;
+import com.cnpm.managehotel.entity.RefreshToken;
 import com.cnpm.managehotel.entity.User;
 import com.cnpm.managehotel.exception.AppException;
 import com.cnpm.managehotel.exception.ErrorCode;
-import com.cnpm.managehotel.repository.InvalidatedTokenRepo;
 import com.cnpm.managehotel.repository.UserRepo;
+import com.cnpm.managehotel.security.JwtTokenVerifier;
+import com.cnpm.managehotel.security.LoginAttemptThrottle;
+import com.cnpm.managehotel.security.PasswordHashingService;
+import com.cnpm.managehotel.security.TokenRevocationStore;
+import com.cnpm.managehotel.security.VerifiedTokenCache;
 import com.cnpm.managehotel.service.AuthService;
+import com.cnpm.managehotel.service.RefreshTokenService;
 import com.cnpm.managehotel.service.UserService;
 import com.nimbusds.jose.*;
 import com.nimbusds.jose.crypto.MACSigner;
-import com.nimbusds.jose.crypto.MACVerifier;
 import com.nimbusds.jwt.JWTClaimsSet;
 import com.nimbusds.jwt.SignedJWT;
 import lombok.AccessLevel;
@@ -26,9 +31,8 @@ import lombok.experimental.FieldDefaults;
 import lombok.experimental.NonFinal;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.text.ParseException;
 import java.time.Instant;
@@ -45,20 +49,30 @@ public class AuthServiceImpl implements AuthService {
     @NonFinal
     String signerKey;
 
-    final long expirationTime = 7200;
+    @Value("${jwt.access-token.ttl-seconds:900}")
+    @NonFinal
+    long expirationTime;
 
     private final UserRepo userRepo;
 
-    private final InvalidatedTokenRepo invalidatedTokenRepo;
-
     private final UserService userService;
 
+    private final JwtTokenVerifier jwtTokenVerifier;
+
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    private final TokenRevocationStore tokenRevocationStore;
+
+    private final PasswordHashingService passwordHashingService;
+
+    private final LoginAttemptThrottle loginAttemptThrottle;
+
+    private final RefreshTokenService refreshTokenService;
+
 
     @Override
     public void register(UserDTO request) {
 
-        PasswordEncoder passwordEncoder = new BCryptPasswordEncoder(10);
-
         if (request.getEmail() == null || request.getEmail().isEmpty()) {
             throw new AppException(ErrorCode.USERNAME_INVALID);
         }
@@ -67,7 +81,7 @@ public class AuthServiceImpl implements AuthService {
             throw new AppException(ErrorCode.INVALID_PASSWORD);
         }
 
-        request.setPassword(passwordEncoder.encode(request.getPassword()));
+        request.setPassword(passwordHashingService.encode(request.getPassword()));
 
         userService.save(request);
     }
@@ -95,24 +109,37 @@ public class AuthServiceImpl implements AuthService {
             String jit = signToken.getJWTClaimsSet().getJWTID();
             Date expiryTime = signToken.getJWTClaimsSet().getExpirationTime();
 
-            InvalidatedToken invalidatedToken =
-                    InvalidatedToken.builder()
-                            .id(jit)
-                            .expiryTime(expiryTime)
-                            .build();
-
-            invalidatedTokenRepo.save(invalidatedToken);
+            tokenRevocationStore.revoke(jit, expiryTime);
+            verifiedTokenCache.evict(request.getToken());
         } catch (AppException exception) {
             log.info("Token already expired");
         }
+
+        if (request.getRefreshToken() != null) {
+            refreshTokenService.revokeFamily(request.getRefreshToken());
+        }
+    }
+
+    @Override
+    @Transactional(noRollbackFor = AppException.class)
+    public AuthenticationResponse refresh(RefreshRequest request) {
+        RefreshToken current = refreshTokenService.consume(request.getRefreshToken());
+        User user = current.getUser();
+
+        return AuthenticationResponse.builder()
+                .authenticated(true)
+                .token(generateToken(user))
+                .refreshToken(refreshTokenService.issue(user, current.getFamilyId()))
+                .build();
     }
 
-    public AuthenticationResponse authenticate(AuthenticationRequest request){
-        PasswordEncoder passwordEncoder = new BCryptPasswordEncoder(10);
+    public AuthenticationResponse authenticate(AuthenticationRequest request, String ipAddress){
+        loginAttemptThrottle.acquire(request.getEmail(), ipAddress);
+
         var user = userRepo.findByEmail(request.getEmail())
                 .orElseThrow(() -> new AppException(ErrorCode.UNAUTHENTICATED));
 
-        boolean authenticated = passwordEncoder.matches(request.getPassword(), user.getPassword());
+        boolean authenticated = passwordHashingService.matches(request.getPassword(), user.getPassword());
 
         if(!authenticated)
             throw new AppException(ErrorCode.UNAUTHENTICATED);
@@ -122,6 +149,7 @@ public class AuthServiceImpl implements AuthService {
         return AuthenticationResponse.builder()
                 .authenticated(authenticated)
                 .token(token)
+                .refreshToken(refreshTokenService.issue(user, null))
                 .build();
     }
 
@@ -155,24 +183,7 @@ public class AuthServiceImpl implements AuthService {
 
 
     private SignedJWT verifyToken(String token) throws JOSEException, ParseException {
-
-        JWSVerifier verifier = new MACVerifier(signerKey.getBytes());
-
-        SignedJWT signedJWT = SignedJWT.parse(token);
-
-        Date expityTime = signedJWT.getJWTClaimsSet().getExpirationTime();
-
-        var verified = signedJWT.verify(verifier);
-
-        if (!(verified && expityTime.after(new Date()))) {
-            throw new AppException(ErrorCode.UNAUTHENTICATED);
-        }
-
-        if (invalidatedTokenRepo.existsById(signedJWT.getJWTClaimsSet().getJWTID())) {
-            throw new AppException(ErrorCode.UNAUTHENTICATED);
-        }
-
-        return signedJWT;
+        return jwtTokenVerifier.verify(token);
     }
 
     private String buildScope(User user) {
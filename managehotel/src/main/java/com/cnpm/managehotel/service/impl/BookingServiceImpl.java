@@ -25,8 +25,11 @@ import com.cnpm.managehotel.repository.RoomRepo;
 import com.cnpm.managehotel.repository.UserRepo;
 import com.cnpm.managehotel.service.BookingService;
 import com.cnpm.managehotel.service.BookingdetailService;
-import com.cnpm.managehotel.service.RoomService;
+import com.cnpm.managehotel.service.RoomStatusService;
 import com.cnpm.managehotel.service.UserService;
+import com.cnpm.managehotel.stay.InHouseRegistry;
+import com.cnpm.managehotel.stay.InHouseStay;
+import com.cnpm.managehotel.util.DateUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -51,10 +54,13 @@ public class BookingServiceImpl implements BookingService {
     private final BookingdetailMapper bookingdetailMapper;
 
     private final BookingdetailService bookingdetailService;
-    private final RoomService roomService;
+    private final RoomStatusService roomStatusService;
     private final UserService userService;
 
+    private final InHouseRegistry inHouseRegistry;
+
     @Override
+    @Transactional(readOnly = true)
     public BookingResponse findAll() {
         YearMonth currentMonth = YearMonth.now();
         LocalDate startOfMonth = currentMonth.atDay(1);
@@ -147,19 +153,23 @@ public class BookingServiceImpl implements BookingService {
         for (Booking booking : bookings) {
             bookingdetailService.delete(booking.getId(), RoomStatus.AVAILABLE);
             bookingRepo.delete(booking);
+            inHouseRegistry.removeBooking(booking.getId());
         }
     }
 
     @Override
     public CheckinResponse checkIn(CheckinRequest request) {
 
-        Booking booking = bookingRepo.findByBookingCode(request.getBookingCode())
+        Booking booking = bookingRepo.findWithUserByBookingCode(request.getBookingCode())
                 .orElseThrow(() -> new AppException(ErrorCode.BOOKING_NOT_FOUND));
 
         Room room = roomRepo.findByRoomNo(request.getRoomNo())
                 .orElseThrow(() -> new AppException(ErrorCode.ROOM_NOT_FOUND));
 
         BookingDetail detail = bookingdetailRepo.findByBookingIdAndRoomId(booking.getId(), room.getId());
+        // the booking and room are already loaded; reuse them instead of the detail's lazy proxies
+        detail.setBooking(booking);
+        detail.setRoom(room);
 
         if(!request.isForeign()){
             detail.setForeign(true);
@@ -175,10 +185,10 @@ public class BookingServiceImpl implements BookingService {
         if (!RoomStatus.AVAILABLE.equalsIgnoreCase(room.getStatus())) {
             throw new AppException(ErrorCode.ROOM_IN_USE);
         }
-        room.setStatus(RoomStatus.OCCUPIED);
+        roomStatusService.transition(room, RoomStatus.OCCUPIED, "Check-in " + booking.getBookingCode());
 
         RoomDTO roomDto = roomMapper.toDTO(room);
-        roomDto = roomService.save(roomDto);
+        inHouseRegistry.checkIn(room.getRoomNo(), booking.getId(), booking.getBookingCode());
 
         CheckinResponse response = new CheckinResponse();
         response.setBookingCode(booking.getBookingCode());
@@ -189,6 +199,12 @@ public class BookingServiceImpl implements BookingService {
     }
 
     @Override
+    public List<InHouseStay> findInHouse() {
+        return inHouseRegistry.findAll();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public BookingResponse findUnpaidBooking(IdentityRequest request) {
         User user = userRepo.findByIdentityNumber(request.getIdentityNumber())
                 .orElseThrow(() -> new AppException(ErrorCode.USER_NOT_EXISTED));
@@ -207,25 +223,23 @@ public class BookingServiceImpl implements BookingService {
         return response;
     }
 
+    /**
+     * Same rules as {@link RoomRepo#findAvailableRoomsBetween}, so search and booking agree on what is available;
+     * the stays are checked with one query over the rooms' stay dates instead of loading their history.
+     */
     private boolean areRoomsAvailable(List<Room> rooms, Date checkIn, Date checkOut) {
+        LocalDate stayStart = DateUtil.toLocalDate(checkIn);
+        // housekeeping turns a DIRTY room around before any arrival after today
+        boolean arrivesToday = !stayStart.isAfter(LocalDate.now());
         for (Room room : rooms) {
-
-            if (RoomStatus.MAINTAIN.equalsIgnoreCase(room.getStatus())) {
+            if (room.getArchivedAt() != null
+                    || RoomStatus.MAINTAIN.equalsIgnoreCase(room.getStatus())
+                    || (arrivesToday && RoomStatus.DIRTY.equalsIgnoreCase(room.getStatus()))) {
                 return false;
             }
-
-            for (BookingDetail detail : room.getBookingDetails()) {
-                Booking booking = detail.getBooking();
-                if (booking == null)
-                    continue;
-
-                boolean overlaps = booking.getCheckOut().after(checkIn) && booking.getCheckIn().before(checkOut);
-                if (overlaps) {
-                    return false;
-                }
-            }
         }
-        return true;
+        return !bookingdetailRepo.existsStayOverlapping(rooms.stream().map(Room::getId).toList(),
+                stayStart, DateUtil.toLocalDate(checkOut));
     }
 
 }
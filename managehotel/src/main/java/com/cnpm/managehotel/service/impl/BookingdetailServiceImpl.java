@@ -16,7 +16,8 @@ import com.cnpm.managehotel.repository.BookingRepo;
 import com.cnpm.managehotel.repository.BookingdetailRepo;
 import com.cnpm.managehotel.repository.RoomRepo;
 import com.cnpm.managehotel.service.BookingdetailService;
-import com.cnpm.managehotel.service.RoomService;
+import com.cnpm.managehotel.service.RoomStatusService;
+import com.cnpm.managehotel.util.DateUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -39,7 +40,7 @@ public class BookingdetailServiceImpl implements BookingdetailService {
 
     private final BookingMapper bookingMapper;
 
-    private final RoomService roomService;
+    private final RoomStatusService roomStatusService;
 
     @Override
     @Transactional
@@ -62,6 +63,8 @@ public class BookingdetailServiceImpl implements BookingdetailService {
 
         entity.setBooking(booking);
         entity.setRoom(room);
+        entity.setStayStart(DateUtil.toLocalDate(booking.getCheckIn()));
+        entity.setStayEnd(DateUtil.toLocalDate(booking.getCheckOut()));
 
         BookingDetail saved = bookingDetailRepo.save(entity);
 
@@ -73,18 +76,18 @@ public class BookingdetailServiceImpl implements BookingdetailService {
         List<BookingDetail> details = bookingDetailRepo.findByBookingId(id);
         for (BookingDetail detail : details) {
             Room room = detail.getRoom();
-            RoomDTO dto = roomMapper.toDTO(room);
-            dto.setStatus(status);
-            if (room != null) {
-                roomService.save(dto);
+            // Only rooms the booking actually occupies are released; rooms under maintenance keep their status
+            if (room != null && RoomStatus.OCCUPIED.equalsIgnoreCase(room.getStatus())) {
+                roomStatusService.transition(room, status, "Booking " + id + " deleted");
             }
         }
         bookingDetailRepo.deleteAll(details);
     }
 
+    @Transactional(readOnly = true)
     public BookingdetailDTO findAllBookingdetailByBooking(String bookingCode){
 
-        Booking booking = bookingRepo.findByBookingCode(bookingCode)
+        Booking booking = bookingRepo.findWithUserAndRoomsByBookingCode(bookingCode)
                 .orElseThrow(() -> new AppException(ErrorCode.BOOKING_NOT_FOUND));
 
         BookingResponse bookingResponse = bookingMapper.toDto(booking);
@@ -11,6 +11,7 @@ import com.cnpm.managehotel.repository.UserRepo;
 import com.cnpm.managehotel.service.FeedbackService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -24,6 +25,7 @@ public class FeedbackServiceImpl implements FeedbackService{
 
     private final UserRepo userRepo;
 
+    @Transactional
     public FeedbackDTO save(FeedbackDTO request) {
         Feedback feedback;
 
@@ -49,6 +51,7 @@ public class FeedbackServiceImpl implements FeedbackService{
     }
 
     @Override
+    @Transactional(readOnly = true)
     public FeedbackDTO findAll() {
         List<Feedback> feedbacks = feedbackRepo.findAll();
 
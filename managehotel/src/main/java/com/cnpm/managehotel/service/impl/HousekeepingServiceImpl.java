@@ -0,0 +1,158 @@
+package com.cnpm.managehotel.service.impl;
+
+import com.cnpm.managehotel.constant.HousekeepingStatus;
+import com.cnpm.managehotel.constant.RoomStatus;
+import com.cnpm.managehotel.entity.HousekeepingTask;
+import com.cnpm.managehotel.entity.Room;
+import com.cnpm.managehotel.exception.AppException;
+import com.cnpm.managehotel.exception.ErrorCode;
+import com.cnpm.managehotel.housekeeping.HousekeepingQueue;
+import com.cnpm.managehotel.housekeeping.QueuedTask;
+import com.cnpm.managehotel.repository.HousekeepingTaskRepo;
+import com.cnpm.managehotel.repository.RoomRepo;
+import com.cnpm.managehotel.roomstatus.RoomStatusChangedEvent;
+import com.cnpm.managehotel.service.HousekeepingService;
+import com.cnpm.managehotel.service.RoomStatusService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class HousekeepingServiceImpl implements HousekeepingService {
+
+    private static final List<String> OPEN = List.of(HousekeepingStatus.PENDING, HousekeepingStatus.CLAIMED);
+
+    private final HousekeepingTaskRepo housekeepingTaskRepo;
+    private final HousekeepingQueue housekeepingQueue;
+    private final RoomRepo roomRepo;
+    private final RoomStatusService roomStatusService;
+
+    /**
+     * Hands out the most urgent pending task. Candidates come from the in-memory heap and are locked with
+     * SKIP LOCKED, so a claim never waits on another one. A candidate that is no longer pending is dropped; one
+     * whose row another node holds goes back on the heap, since that claim may still roll back. When the heap
+     * runs dry the database picks the next task itself.
+     */
+    @Override
+    @Transactional
+    public HousekeepingTask claim(String housekeeper) {
+        HousekeepingTask task = null;
+        List<QueuedTask> lockedElsewhere = new ArrayList<>();
+        try {
+            QueuedTask next;
+            while (task == null && (next = housekeepingQueue.poll()) != null) {
+                task = housekeepingTaskRepo.lockPending(next.getTaskId()).orElse(null);
+                if (task != null) {
+                    housekeepingQueue.restoreOnRollback(next);
+                } else if (housekeepingTaskRepo.existsByIdAndStatus(next.getTaskId(), HousekeepingStatus.PENDING)) {
+                    lockedElsewhere.add(next);
+                }
+            }
+        } finally {
+            housekeepingQueue.requeue(lockedElsewhere);
+        }
+        if (task == null) {
+            task = housekeepingTaskRepo.lockNextPending(PageRequest.of(0, 1)).stream()
+                    .findFirst()
+                    .orElseThrow(() -> new AppException(ErrorCode.NO_HOUSEKEEPING_TASK));
+            housekeepingQueue.remove(task.getId());
+        }
+
+        task.setStatus(HousekeepingStatus.CLAIMED);
+        task.setAssignee(housekeeper);
+        task.setClaimedAt(new Date());
+        return task;
+    }
+
+    /**
+     * Closes the task and makes the room sellable again, unless it was moved out of DIRTY in the meantime.
+     */
+    @Override
+    @Transactional
+    public HousekeepingTask complete(Long taskId, String housekeeper) {
+        HousekeepingTask task = findClaimed(taskId, housekeeper);
+        task.setStatus(HousekeepingStatus.DONE);
+        task.setCompletedAt(new Date());
+
+        Room room = roomRepo.findById(task.getRoomId()).orElse(null);
+        if (room != null && RoomStatus.DIRTY.equalsIgnoreCase(room.getStatus())) {
+            roomStatusService.transition(room, RoomStatus.AVAILABLE, "Cleaned, housekeeping task " + task.getId());
+        }
+        return task;
+    }
+
+    @Override
+    @Transactional
+    public HousekeepingTask release(Long taskId, String housekeeper) {
+        HousekeepingTask task = findClaimed(taskId, housekeeper);
+        task.setStatus(HousekeepingStatus.PENDING);
+        task.setAssignee(null);
+        task.setClaimedAt(null);
+        housekeepingQueue.offer(task);
+        return task;
+    }
+
+    @Override
+    public List<HousekeepingTask> findOpen() {
+        return housekeepingTaskRepo.findByStatusInOrderByCreatedAtAsc(OPEN);
+    }
+
+    /**
+     * Cancels the pending tasks of rooms that are being deleted or archived, in the caller's transaction.
+     */
+    @Override
+    @Transactional
+    public void cancelPending(Collection<Integer> roomNos) {
+        for (HousekeepingTask task : housekeepingTaskRepo.findByRoomNoInAndStatus(roomNos, HousekeepingStatus.PENDING)) {
+            task.setStatus(HousekeepingStatus.CANCELLED);
+            housekeepingQueue.remove(task.getId());
+        }
+    }
+
+    /**
+     * Runs inside the transaction that changed the room status: a room turning DIRTY gets a task,
+     * a room leaving DIRTY any other way has its open tasks cancelled.
+     */
+    @EventListener
+    public void onRoomStatusChanged(RoomStatusChangedEvent event) {
+        if (RoomStatus.DIRTY.equals(event.getToStatus())) {
+            createTask(event);
+        } else if (RoomStatus.DIRTY.equals(event.getFromStatus())) {
+            for (HousekeepingTask task : housekeepingTaskRepo.findByRoomIdAndStatusIn(event.getRoomId(), OPEN)) {
+                task.setStatus(HousekeepingStatus.CANCELLED);
+                housekeepingQueue.remove(task.getId());
+            }
+        }
+    }
+
+    private void createTask(RoomStatusChangedEvent event) {
+        if (!housekeepingTaskRepo.findByRoomIdAndStatusIn(event.getRoomId(), OPEN).isEmpty()) {
+            return;
+        }
+        HousekeepingTask task = housekeepingTaskRepo.save(HousekeepingTask.builder()
+                .roomId(event.getRoomId())
+                .roomNo(event.getRoomNo())
+                .status(HousekeepingStatus.PENDING)
+                .reason(event.getReason())
+                .nextArrival(housekeepingQueue.nextArrivals(List.of(event.getRoomId())).get(event.getRoomId()))
+                .build());
+        housekeepingQueue.offer(task);
+    }
+
+    private HousekeepingTask findClaimed(Long taskId, String housekeeper) {
+        HousekeepingTask task = housekeepingTaskRepo.findById(taskId)
+                .orElseThrow(() -> new AppException(ErrorCode.HOUSEKEEPING_TASK_NOT_FOUND));
+        if (!HousekeepingStatus.CLAIMED.equals(task.getStatus()) || !housekeeper.equals(task.getAssignee())) {
+            throw new AppException(ErrorCode.HOUSEKEEPING_TASK_NOT_CLAIMED);
+        }
+        return task;
+    }
+}
@@ -1,5 +1,7 @@
 package com.cnpm.managehotel.service.impl;
 
+import com.cnpm.managehotel.catalog.CatalogCache;
+import com.cnpm.managehotel.catalog.CatalogProduct;
 import com.cnpm.managehotel.dto.request.BookingRequest;
 import com.cnpm.managehotel.dto.request.InvoiceRequest;
 import com.cnpm.managehotel.dto.response.InvoiceResponse;
@@ -30,6 +32,7 @@ public class InvoiceServiceImpl implements InvoiceService {
     private final BookingdetailRepo bookingdetailRepo;
     private final ServiceRepo serviceRepo;
     private final InvoiceRepo invoiceRepo;
+    private final CatalogCache catalogCache;
 
     private final BookingMapper bookingMapper;
 
@@ -38,7 +41,7 @@ public class InvoiceServiceImpl implements InvoiceService {
 
     @Override
     public InvoiceResponse preview(String bookingCode) {
-        Booking booking = bookingRepo.findByBookingCode(bookingCode)
+        Booking booking = bookingRepo.findWithUserByBookingCode(bookingCode)
                 .orElseThrow(() -> new AppException(ErrorCode.BOOKING_NOT_FOUND));
 
         User user = booking.getUser();
@@ -70,7 +73,7 @@ public class InvoiceServiceImpl implements InvoiceService {
         }
 
         List<ServiceResponse> serviceItems = services.stream().map(s -> {
-            Product product = s.getProduct();
+            CatalogProduct product = catalogCache.getProduct(s.getProduct().getId());
             double total = s.getAmount() * product.getPrice();
             return new ServiceResponse(product.getTitle(), s.getPrice(), s.getAmount(), total);
         }).toList();
@@ -1,17 +1,23 @@
 package com.cnpm.managehotel.service.impl;
 
+import com.cnpm.managehotel.catalog.CatalogCache;
 import com.cnpm.managehotel.dto.ProductDTO;
-import com.cnpm.managehotel.entity.Category;
 import com.cnpm.managehotel.entity.Product;
 import com.cnpm.managehotel.exception.AppException;
 import com.cnpm.managehotel.exception.ErrorCode;
+import com.cnpm.managehotel.inventory.InventoryChangedEvent;
+import com.cnpm.managehotel.inventory.LowStockAlert;
+import com.cnpm.managehotel.inventory.LowStockMonitor;
 import com.cnpm.managehotel.mapper.ProductMapper;
 import com.cnpm.managehotel.repository.CategoryRepo;
 import com.cnpm.managehotel.repository.ProductRepo;
 import com.cnpm.managehotel.service.ProductService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 public class ProductServiceImpl implements ProductService {
@@ -19,14 +25,19 @@ public class ProductServiceImpl implements ProductService {
     private final ProductRepo productRepo;
     private final CategoryRepo categoryRepo;
     private final ProductMapper productMapper;
+    private final CatalogCache catalogCache;
+    private final LowStockMonitor lowStockMonitor;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public ProductDTO save(ProductDTO request) {
         Product product;
+        int previousAmount = 0;
 
         if (request.getId() != null && productRepo.existsById(request.getId())) {
             product = productRepo.findById(request.getId())
                     .orElseThrow(() -> new AppException(ErrorCode.PRODUCT_NOT_FOUND));
+            previousAmount = product.getAmount();
 
             productMapper.updateEntity(request, product);
         } else {
@@ -34,12 +45,21 @@ public class ProductServiceImpl implements ProductService {
             product = productMapper.toEntity(request);
         }
 
-        Category category = categoryRepo.findById(request.getCategoryId())
-                .orElseThrow(() -> new AppException(ErrorCode.CATEGORY_NOT_FOUND));
-        product.setCategory(category);
+        if (catalogCache.getCategory(request.getCategoryId()) == null) {
+            throw new AppException(ErrorCode.CATEGORY_NOT_FOUND);
+        }
+        product.setCategory(categoryRepo.getReferenceById(request.getCategoryId()));
 
         Product saved = productRepo.save(product);
+        catalogCache.invalidateProduct(saved.getId());
+        eventPublisher.publishEvent(
+                new InventoryChangedEvent(saved.getId(), saved.getAmount() - previousAmount, saved.getAmount()));
 
         return productMapper.toDTO(saved);
     }
+
+    @Override
+    public List<LowStockAlert> findLowStockAlerts() {
+        return lowStockMonitor.getAlerts();
+    }
 }
@@ -0,0 +1,114 @@
+package com.cnpm.managehotel.service.impl;
+
+import com.cnpm.managehotel.datasource.Workload;
+import com.cnpm.managehotel.datasource.WorkloadPool;
+import com.cnpm.managehotel.entity.RefreshToken;
+import com.cnpm.managehotel.entity.User;
+import com.cnpm.managehotel.exception.AppException;
+import com.cnpm.managehotel.exception.ErrorCode;
+import com.cnpm.managehotel.repository.RefreshTokenRepo;
+import com.cnpm.managehotel.service.RefreshTokenService;
+import com.cnpm.managehotel.util.HashUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * Refresh tokens are handed out as {@code <id>.<secret>}. Only the SHA-256 of the secret is stored,
+ * and the id is the primary key, so renewal is one indexed lookup. Every token can be used once:
+ * presenting a used or revoked token is treated as theft and revokes its whole family.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RefreshTokenServiceImpl implements RefreshTokenService {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final RefreshTokenRepo refreshTokenRepo;
+
+    @Value("${jwt.refresh-token.ttl-seconds:43200}")
+    private long refreshTokenTtl;
+
+    @Override
+    @Transactional
+    public String issue(User user, String familyId) {
+        byte[] secretBytes = new byte[32];
+        RANDOM.nextBytes(secretBytes);
+        String secret = Base64.getUrlEncoder().withoutPadding().encodeToString(secretBytes);
+
+        RefreshToken refreshToken = RefreshToken.builder()
+                .id(UUID.randomUUID().toString())
+                .familyId(familyId != null ? familyId : UUID.randomUUID().toString())
+                .tokenHash(HashUtil.sha256Hex(secret))
+                .expiryTime(Date.from(Instant.now().plusSeconds(refreshTokenTtl)))
+                .user(user)
+                .build();
+
+        refreshTokenRepo.save(refreshToken);
+
+        return refreshToken.getId() + "." + secret;
+    }
+
+    @Override
+    @Transactional(noRollbackFor = AppException.class)
+    public RefreshToken consume(String refreshToken) {
+        String[] parts = split(refreshToken);
+
+        RefreshToken stored = refreshTokenRepo.findByIdForUpdate(parts[0])
+                .orElseThrow(() -> new AppException(ErrorCode.INVALID_REFRESH_TOKEN));
+
+        if (!HashUtil.constantTimeEquals(stored.getTokenHash(), HashUtil.sha256Hex(parts[1]))) {
+            throw new AppException(ErrorCode.INVALID_REFRESH_TOKEN);
+        }
+
+        if (stored.isRevoked() || stored.getUsedAt() != null) {
+            log.warn("Refresh token reuse detected, revoking family {}", stored.getFamilyId());
+            refreshTokenRepo.revokeFamily(stored.getFamilyId());
+            throw new AppException(ErrorCode.INVALID_REFRESH_TOKEN);
+        }
+
+        if (!stored.getExpiryTime().after(new Date())) {
+            throw new AppException(ErrorCode.INVALID_REFRESH_TOKEN);
+        }
+
+        stored.setUsedAt(new Date());
+        return stored;
+    }
+
+    @Override
+    @Transactional
+    public void revokeFamily(String refreshToken) {
+        String[] parts = split(refreshToken);
+        refreshTokenRepo.findById(parts[0])
+                .filter(stored -> HashUtil.constantTimeEquals(stored.getTokenHash(), HashUtil.sha256Hex(parts[1])))
+                .ifPresent(stored -> refreshTokenRepo.revokeFamily(stored.getFamilyId()));
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.refresh-token.purge-interval-ms:3600000}")
+    @WorkloadPool(Workload.BATCH)
+    @Transactional
+    public void purgeExpired() {
+        int deleted = refreshTokenRepo.deleteExpired(new Date());
+        if (deleted > 0) {
+            log.info("Purged {} expired refresh tokens", deleted);
+        }
+    }
+
+    private String[] split(String refreshToken) {
+        int separator = refreshToken == null ? -1 : refreshToken.indexOf('.');
+        if (separator <= 0 || separator == refreshToken.length() - 1) {
+            throw new AppException(ErrorCode.INVALID_REFRESH_TOKEN);
+        }
+        return new String[]{refreshToken.substring(0, separator), refreshToken.substring(separator + 1)};
+    }
+}
@@ -1,6 +1,8 @@
 package com.cnpm.managehotel.service.impl;
 
 import com.cnpm.managehotel.constant.RoomStatus;
+import com.cnpm.managehotel.datasource.Workload;
+import com.cnpm.managehotel.datasource.WorkloadPool;
 import com.cnpm.managehotel.dto.response.ReportResponse;
 import com.cnpm.managehotel.repository.BookingRepo;
 import com.cnpm.managehotel.repository.InvoiceRepo;
@@ -8,12 +10,15 @@ import com.cnpm.managehotel.repository.RoomRepo;
 import com.cnpm.managehotel.service.ReportService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.ZoneId;
 import java.util.Date;
 
 @Service
 @RequiredArgsConstructor
+@WorkloadPool(Workload.REPORTING)
 public class ReportServiceImpl implements ReportService {
 
 
@@ -24,13 +29,15 @@ public class ReportServiceImpl implements ReportService {
     private final InvoiceRepo invoiceRepo;
 
     @Override
+    @Transactional(readOnly = true)
     public ReportResponse getReportData() {
         int totalRooms = roomRepo.countTotalRooms();
         int bookedRooms = bookingRepo.countBookedRooms();
 
         double occupancyRate = totalRooms == 0 ? 0 : (bookedRooms * 100.0) / totalRooms;
 
-        Double revenue = invoiceRepo.getRevenueByMonth(LocalDate.now().getMonthValue(), LocalDate.now().getYear());
+        LocalDate firstOfMonth = LocalDate.now().withDayOfMonth(1);
+        Double revenue = invoiceRepo.getRevenueBetween(toDate(firstOfMonth), toDate(firstOfMonth.plusMonths(1)));
         revenue = revenue == null ? 0 : revenue;
 
         int upcomingCheckIns = bookingRepo.countByCheckInAfter(new Date());
@@ -50,4 +57,8 @@ public class ReportServiceImpl implements ReportService {
                 roomsInMaintenance
         );
     }
+
+    private static Date toDate(LocalDate date) {
+        return Date.from(date.atStartOfDay(ZoneId.systemDefault()).toInstant());
+    }
 }
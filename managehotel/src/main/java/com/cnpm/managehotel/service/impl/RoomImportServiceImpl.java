@@ -0,0 +1,198 @@
+package com.cnpm.managehotel.service.impl;
+
+import com.cnpm.managehotel.catalog.RoomCatalog;
+import com.cnpm.managehotel.catalog.RoomSummary;
+import com.cnpm.managehotel.datasource.Workload;
+import com.cnpm.managehotel.datasource.WorkloadPool;
+import com.cnpm.managehotel.dto.RoomDTO;
+import com.cnpm.managehotel.dto.response.RoomImportResponse;
+import com.cnpm.managehotel.dto.response.RoomImportResult;
+import com.cnpm.managehotel.entity.Room;
+import com.cnpm.managehotel.exception.AppException;
+import com.cnpm.managehotel.exception.ErrorCode;
+import com.cnpm.managehotel.repository.RoomRepo;
+import com.cnpm.managehotel.roomimport.RoomImportRow;
+import com.cnpm.managehotel.roomstatus.RoomStatusBoard;
+import com.cnpm.managehotel.roomstatus.RoomStatusMachine;
+import com.cnpm.managehotel.service.RoomImportService;
+import com.cnpm.managehotel.service.RoomStatusService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Upserts rooms by room number. Rows are read lazily and written in chunks: each chunk resolves existing rooms
+ * with one {@code IN} query and writes inserts and updates as JDBC batches in its own transaction, so a bad chunk
+ * only fails its own rows and memory stays bounded by the chunk size.
+ */
+@Slf4j
+@Service
+@WorkloadPool(Workload.BATCH)
+public class RoomImportServiceImpl implements RoomImportService {
+
+    private final RoomRepo roomRepo;
+    private final RoomStatusService roomStatusService;
+    private final RoomStatusBoard roomStatusBoard;
+    private final RoomCatalog roomCatalog;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public RoomImportServiceImpl(RoomRepo roomRepo,
+                                 RoomStatusService roomStatusService,
+                                 RoomStatusBoard roomStatusBoard,
+                                 RoomCatalog roomCatalog,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${room.import.chunk-size:500}") int chunkSize) {
+        this.roomRepo = roomRepo;
+        this.roomStatusService = roomStatusService;
+        this.roomStatusBoard = roomStatusBoard;
+        this.roomCatalog = roomCatalog;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public RoomImportResponse importRooms(Iterator<RoomImportRow> rows) {
+        RoomImportResponse response = new RoomImportResponse();
+        // Room numbers already taken earlier in this file, so a duplicate line is reported instead of applied twice
+        Set<Integer> seen = new HashSet<>();
+        List<RoomImportRow> chunk = new ArrayList<>(chunkSize);
+
+        while (rows.hasNext()) {
+            chunk.add(rows.next());
+            if (chunk.size() == chunkSize) {
+                importChunk(chunk, seen).forEach(response::add);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            importChunk(chunk, seen).forEach(response::add);
+        }
+
+        if (response.getCreated() + response.getUpdated() > 0) {
+            roomCatalog.invalidate();
+        }
+        log.info("Room import finished: {} created, {} updated, {} failed",
+                response.getCreated(), response.getUpdated(), response.getFailed());
+        return response;
+    }
+
+    private List<RoomImportResult> importChunk(List<RoomImportRow> chunk, Set<Integer> seen) {
+        List<RoomImportResult> results = new ArrayList<>(chunk.size());
+        List<RoomImportRow> valid = new ArrayList<>(chunk.size());
+        for (RoomImportRow row : chunk) {
+            ErrorCode error = row.getError() != null ? row.getError() : validate(row.getRoom());
+            if (error == null && !seen.add(row.getRoom().getRoomNo())) {
+                error = ErrorCode.ROOM_CONFLICT;
+            }
+            if (error != null) {
+                results.add(failed(row, error));
+            } else {
+                valid.add(row);
+            }
+        }
+        if (valid.isEmpty()) {
+            return sorted(results);
+        }
+
+        List<Room> inserts = new ArrayList<>();
+        try {
+            results.addAll(transactionTemplate.execute(status -> writeChunk(valid, inserts)));
+            // Committed: only now show the new rooms on the board
+            Instant now = Instant.now();
+            inserts.forEach(room -> roomStatusBoard.apply(room.getRoomNo(), room.getStatus(), now));
+        } catch (AppException e) {
+            valid.forEach(row -> results.add(failed(row, e.getErrorCode())));
+        } catch (RuntimeException e) {
+            log.warn("Room import chunk starting at row {} failed", valid.get(0).getRow(), e);
+            valid.forEach(row -> results.add(failed(row, ErrorCode.UNCATEGORIZED_EXCEPTION)));
+        }
+        return sorted(results);
+    }
+
+    private List<RoomImportResult> writeChunk(List<RoomImportRow> rows, List<Room> inserts) {
+        Map<Integer, RoomSummary> existing = roomRepo.findSummariesByRoomNoIn(
+                        rows.stream().map(row -> row.getRoom().getRoomNo()).toList())
+                .stream()
+                .collect(Collectors.toMap(RoomSummary::getRoomNo, Function.identity()));
+
+        List<RoomImportResult> results = new ArrayList<>(rows.size());
+        List<Room> updates = new ArrayList<>();
+        Map<Integer, String> statusChanges = new LinkedHashMap<>();
+
+        for (RoomImportRow row : rows) {
+            RoomDTO dto = row.getRoom();
+            RoomSummary current = existing.get(dto.getRoomNo());
+            if (current == null) {
+                String status = RoomStatusMachine.normalize(dto.getStatus());
+                if (status == null) {
+                    results.add(failed(row, ErrorCode.INVALID_ROOM_STATUS));
+                    continue;
+                }
+                inserts.add(toRoom(null, dto, status));
+                results.add(result(row, RoomImportResult.CREATED));
+            } else {
+                String requested = dto.getStatus() != null ? RoomStatusMachine.normalize(dto.getStatus()) : null;
+                String from = RoomStatusMachine.normalize(current.getStatus());
+                if (dto.getStatus() != null && requested == null) {
+                    results.add(failed(row, ErrorCode.INVALID_ROOM_STATUS));
+                    continue;
+                }
+                if (requested != null && !requested.equals(from)) {
+                    if (from == null || !RoomStatusMachine.canTransition(from, requested)) {
+                        results.add(failed(row, ErrorCode.ROOM_STATUS_TRANSITION_NOT_ALLOWED));
+                        continue;
+                    }
+                    statusChanges.put(dto.getRoomNo(), requested);
+                }
+                updates.add(toRoom(current.getId(), dto, current.getStatus()));
+                results.add(result(row, RoomImportResult.UPDATED));
+            }
+        }
+
+        roomRepo.insertAll(inserts);
+        roomRepo.updateAll(updates);
+        statusChanges.forEach((roomNo, status) -> roomStatusService.transition(roomNo, status, "Room import"));
+        return results;
+    }
+
+    private ErrorCode validate(RoomDTO room) {
+        if (room == null || room.getRoomNo() <= 0 || room.getType() == null || room.getType().trim().length() != 1
+                || room.getPrice() < 0 || room.getMaxNum() <= 0) {
+            return ErrorCode.INVALID_ROOM;
+        }
+        return null;
+    }
+
+    private Room toRoom(Long id, RoomDTO dto, String status) {
+        Room room = new Room();
+        room.setId(id);
+        room.setRoomNo(dto.getRoomNo());
+        room.setType(dto.getType().trim().charAt(0));
+        room.setPrice(dto.getPrice());
+        room.setMaxNum(dto.getMaxNum());
+        room.setStatus(status);
+        return room;
+    }
+
+    private RoomImportResult result(RoomImportRow row, String outcome) {
+        return new RoomImportResult(row.getRow(), row.getRoom().getRoomNo(), outcome, null, null);
+    }
+
+    private RoomImportResult failed(RoomImportRow row, ErrorCode error) {
+        Integer roomNo = row.getRoom() != null ? row.getRoom().getRoomNo() : null;
+        return new RoomImportResult(row.getRow(), roomNo, RoomImportResult.FAILED, error.getCode(), error.getMessage());
+    }
+
+    private List<RoomImportResult> sorted(List<RoomImportResult> results) {
+        results.sort(Comparator.comparingInt(RoomImportResult::getRow));
+        return results;
+    }
+}
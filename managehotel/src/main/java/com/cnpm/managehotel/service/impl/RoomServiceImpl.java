@@ -1,5 +1,7 @@
 package com.cnpm.managehotel.service.impl;
 
+import com.cnpm.managehotel.catalog.RoomCatalog;
+import com.cnpm.managehotel.catalog.RoomSummary;
 import com.cnpm.managehotel.constant.RoomStatus;
 import com.cnpm.managehotel.dto.RoomDTO;
 import com.cnpm.managehotel.entity.Room;
@@ -7,15 +9,25 @@ import com.cnpm.managehotel.exception.AppException;
 import com.cnpm.managehotel.exception.ErrorCode;
 import com.cnpm.managehotel.mapper.RoomMapper;
 import com.cnpm.managehotel.repository.RoomRepo;
+import com.cnpm.managehotel.roomstatus.RoomStatusBoard;
+import com.cnpm.managehotel.roomstatus.RoomStatusMachine;
+import com.cnpm.managehotel.service.HousekeepingService;
 import com.cnpm.managehotel.service.RoomService;
+import com.cnpm.managehotel.service.RoomStatusService;
+import com.cnpm.managehotel.util.DateUtil;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
 import java.util.Optional;
 
+import static com.cnpm.managehotel.util.TransactionUtil.afterCommit;
+
 @Service
 public class RoomServiceImpl implements RoomService {
 
@@ -25,11 +37,24 @@ public class RoomServiceImpl implements RoomService {
     @Autowired
     RoomMapper roomMapper;
 
+    @Autowired
+    RoomCatalog roomCatalog;
+
+    @Autowired
+    RoomStatusService roomStatusService;
+
+    @Autowired
+    RoomStatusBoard roomStatusBoard;
+
+    @Autowired
+    HousekeepingService housekeepingService;
+
     @Override
+    @Transactional(readOnly = true)
     public RoomDTO findAll() {
-        List<Room> rooms = roomRepo.findAll();
+        List<RoomSummary> rooms = roomRepo.findAllSummaries();
 
-        List<RoomDTO> roomDTOs = roomMapper.toListDTO(rooms);
+        List<RoomDTO> roomDTOs = roomMapper.toSummaryListDTO(rooms);
 
         RoomDTO result = new RoomDTO();
         result.setListResult(roomDTOs);
@@ -37,8 +62,15 @@ public class RoomServiceImpl implements RoomService {
     }
 
     @Override
+    public RoomCatalog.Snapshot findAllSnapshot() {
+        return roomCatalog.get(this::findAll);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public RoomDTO findAllAvailable(Date checkinDate, Date checkoutDate) {
-        List<Room> rooms = roomRepo.findAvailableRoomsBetween(checkinDate, checkoutDate);
+        List<Room> rooms = roomRepo.findAvailableRoomsBetween(
+                DateUtil.toLocalDate(checkinDate), DateUtil.toLocalDate(checkoutDate), LocalDate.now());
 
         List<RoomDTO> roomDTOs = roomMapper.toListDTO(rooms);
 
@@ -48,8 +80,10 @@ public class RoomServiceImpl implements RoomService {
     }
 
     @Override
+    @Transactional
     public RoomDTO save(RoomDTO request) {
         Room entity;
+        String requestedStatus = null;
 
         if (request.getId() != null) {
             Optional<Room> conflictRoom = roomRepo.findByRoomNo(request.getRoomNo());
@@ -60,34 +94,76 @@ public class RoomServiceImpl implements RoomService {
             entity = roomRepo.findById(request.getId())
                     .orElseThrow(() -> new AppException(ErrorCode.ROOM_NOT_FOUND));
 
+            // Status changes go through the state machine, never through a plain field update
+            String currentStatus = entity.getStatus();
             roomMapper.updateEntity(request, entity);
+            entity.setStatus(currentStatus);
+            requestedStatus = request.getStatus();
         } else {
             if (roomRepo.findByRoomNo(request.getRoomNo()).isPresent()) {
                 throw new AppException(ErrorCode.ROOM_CONFLICT);
             }
+            String status = RoomStatusMachine.normalize(request.getStatus());
+            if (status == null) {
+                throw new AppException(ErrorCode.INVALID_ROOM_STATUS);
+            }
             entity = roomMapper.toEntity(request);
+            entity.setStatus(status);
         }
 
         Room saved = roomRepo.save(entity);
+        if (requestedStatus != null && !requestedStatus.equalsIgnoreCase(saved.getStatus())) {
+            roomStatusService.transition(saved, requestedStatus, "Room updated");
+        }
+        if (request.getId() == null) {
+            roomStatusBoard.apply(saved.getRoomNo(), saved.getStatus(), Instant.now());
+        }
+        roomCatalog.invalidate();
         return roomMapper.toDTO(saved);
     }
 
+    /**
+     * Deletes rooms that were never booked. Rooms with booking history have to be archived instead.
+     */
     @Override
+    @Transactional
     public void delete(int[] roomNo) {
-        List<Integer> roomNoList = Arrays.stream(roomNo).boxed().toList();
-        List<Room> rooms = roomRepo.findByRoomNoIn(roomNoList);
+        List<Integer> roomNoList = findActive(roomNo);
 
-        if (rooms.size() != roomNoList.size()) {
-            throw new AppException(ErrorCode.ROOM_NOT_FOUND);
+        if (!roomRepo.findRoomNosWithBookings(roomNoList).isEmpty()) {
+            throw new AppException(ErrorCode.ROOM_IN_USE);
         }
 
-        for (Room room : rooms) {
-            if (!room.getBookingDetails().isEmpty()) {
-                throw new AppException(ErrorCode.ROOM_IN_USE);
-            }
+        housekeepingService.cancelPending(roomNoList);
+        roomRepo.deleteByRoomNos(roomNoList);
+        afterCommit(() -> roomNoList.forEach(roomStatusBoard::remove));
+        roomCatalog.invalidate();
+    }
+
+    /**
+     * Retires rooms while keeping their booking history. Occupied rooms and rooms in an unpaid booking are refused.
+     */
+    @Override
+    @Transactional
+    public void archive(int[] roomNo) {
+        List<Integer> roomNoList = findActive(roomNo);
+
+        if (!roomRepo.findRoomNosWithOpenBookings(roomNoList).isEmpty()) {
+            throw new AppException(ErrorCode.ROOM_IN_USE);
         }
 
-        roomRepo.deleteAll(rooms);
+        housekeepingService.cancelPending(roomNoList);
+        roomRepo.archiveByRoomNos(roomNoList, new Date());
+        afterCommit(() -> roomNoList.forEach(roomStatusBoard::remove));
+        roomCatalog.invalidate();
+    }
+
+    private List<Integer> findActive(int[] roomNo) {
+        List<Integer> roomNoList = Arrays.stream(roomNo).distinct().boxed().toList();
+        if (roomNoList.isEmpty() || roomRepo.findActiveRoomNos(roomNoList).size() != roomNoList.size()) {
+            throw new AppException(ErrorCode.ROOM_NOT_FOUND);
+        }
+        return roomNoList;
     }
 
 
@@ -0,0 +1,102 @@
+package com.cnpm.managehotel.service.impl;
+
+import com.cnpm.managehotel.catalog.RoomCatalog;
+import com.cnpm.managehotel.dto.response.RoomStatusTransitionResponse;
+import com.cnpm.managehotel.entity.Room;
+import com.cnpm.managehotel.entity.RoomStatusTransition;
+import com.cnpm.managehotel.exception.AppException;
+import com.cnpm.managehotel.exception.ErrorCode;
+import com.cnpm.managehotel.mapper.RoomStatusTransitionMapper;
+import com.cnpm.managehotel.repository.RoomRepo;
+import com.cnpm.managehotel.repository.RoomStatusTransitionRepo;
+import com.cnpm.managehotel.roomstatus.RoomStatusBoard;
+import com.cnpm.managehotel.roomstatus.RoomStatusChangedEvent;
+import com.cnpm.managehotel.roomstatus.RoomStatusEntry;
+import com.cnpm.managehotel.roomstatus.RoomStatusMachine;
+import com.cnpm.managehotel.service.RoomStatusService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+public class RoomStatusServiceImpl implements RoomStatusService {
+
+    private final RoomRepo roomRepo;
+    private final RoomStatusTransitionRepo roomStatusTransitionRepo;
+    private final RoomStatusBoard roomStatusBoard;
+    private final RoomCatalog roomCatalog;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RoomStatusTransitionMapper roomStatusTransitionMapper;
+
+    @Override
+    @Transactional
+    public RoomStatusEntry transition(int roomNo, String status, String reason) {
+        Room room = roomRepo.findByRoomNo(roomNo)
+                .orElseThrow(() -> new AppException(ErrorCode.ROOM_NOT_FOUND));
+        return transition(room, status, reason);
+    }
+
+    /**
+     * Moves the room from the status it was loaded with to {@code status}. The update only applies if nobody
+     * changed the room in between; otherwise {@link ErrorCode#ROOM_STATUS_CONFLICT} is thrown.
+     */
+    @Override
+    @Transactional
+    public RoomStatusEntry transition(Room room, String status, String reason) {
+        String to = RoomStatusMachine.normalize(status);
+        if (to == null || status == null) {
+            throw new AppException(ErrorCode.INVALID_ROOM_STATUS);
+        }
+
+        String loaded = room.getStatus();
+        String from = RoomStatusMachine.normalize(loaded);
+        if (to.equals(from)) {
+            return new RoomStatusEntry(room.getRoomNo(), to, null);
+        }
+        if (from == null || !RoomStatusMachine.canTransition(from, to)) {
+            throw new AppException(ErrorCode.ROOM_STATUS_TRANSITION_NOT_ALLOWED);
+        }
+
+        if (roomRepo.updateStatus(room.getId(), loaded, to) == 0) {
+            throw new AppException(ErrorCode.ROOM_STATUS_CONFLICT);
+        }
+        // Keep a managed instance in line with the row, so a later flush does not write the old status back
+        room.setStatus(to);
+
+        RoomStatusTransition saved = roomStatusTransitionRepo.save(RoomStatusTransition.builder()
+                .roomId(room.getId())
+                .roomNo(room.getRoomNo())
+                .fromStatus(loaded)
+                .toStatus(to)
+                .reason(reason)
+                .build());
+
+        Instant since = saved.getChangedAt() != null ? saved.getChangedAt().toInstant() : Instant.now();
+        roomStatusBoard.apply(room.getRoomNo(), to, since);
+        roomCatalog.invalidate();
+        eventPublisher.publishEvent(new RoomStatusChangedEvent(room.getId(), room.getRoomNo(), loaded, to, reason));
+
+        return new RoomStatusEntry(room.getRoomNo(), to, since);
+    }
+
+    @Override
+    public List<RoomStatusEntry> findBoard() {
+        return roomStatusBoard.findAll();
+    }
+
+    @Override
+    public Map<String, Long> countByStatus() {
+        return roomStatusBoard.countByStatus();
+    }
+
+    @Override
+    public List<RoomStatusTransitionResponse> findHistory(int roomNo) {
+        return roomStatusTransitionMapper.toResponseList(roomStatusTransitionRepo.findByRoomNoOrderByChangedAtDesc(roomNo));
+    }
+}
@@ -1,24 +1,29 @@
 package com.cnpm.managehotel.service.impl;
 
-import com.cnpm.managehotel.dto.ProductDTO;
+import com.cnpm.managehotel.catalog.CatalogCache;
+import com.cnpm.managehotel.catalog.CatalogProduct;
+import com.cnpm.managehotel.constant.ProductCategory;
 import com.cnpm.managehotel.dto.request.ServiceRequest;
 import com.cnpm.managehotel.dto.response.ServiceResponse;
-import com.cnpm.managehotel.entity.Booking;
-import com.cnpm.managehotel.entity.Product;
 import com.cnpm.managehotel.entity.ServiceEntity;
 import com.cnpm.managehotel.exception.AppException;
 import com.cnpm.managehotel.exception.ErrorCode;
-import com.cnpm.managehotel.mapper.ProductMapper;
+import com.cnpm.managehotel.inventory.InventoryChangedEvent;
+import com.cnpm.managehotel.inventory.StockLevel;
 import com.cnpm.managehotel.mapper.ServiceMapper;
 import com.cnpm.managehotel.repository.BookingRepo;
 import com.cnpm.managehotel.repository.ProductRepo;
 import com.cnpm.managehotel.repository.ServiceRepo;
-import com.cnpm.managehotel.service.ProductService;
 import com.cnpm.managehotel.service.ServiceService;
+import com.cnpm.managehotel.stay.InHouseRegistry;
+import com.cnpm.managehotel.stay.InHouseStay;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.*;
+
 @Service
 @RequiredArgsConstructor
 public class ServiceServiceImpl implements ServiceService {
@@ -26,58 +31,148 @@ public class ServiceServiceImpl implements ServiceService {
     private final ServiceRepo serviceRepo;
     private final ProductRepo productRepo;
     private final BookingRepo bookingRepo;
+    private final CatalogCache catalogCache;
+    private final InHouseRegistry inHouseRegistry;
 
     private final ServiceMapper serviceMapper;
-    private final ProductMapper productMapper;
 
-    private final ProductService productService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
     public ServiceResponse save(ServiceRequest request) {
-        Booking booking = bookingRepo.findByRoomNo(request.getRoomNo())
+        if (request.getAmount() <= 0) {
+            throw new AppException(ErrorCode.INVALID_AMOUNT);
+        }
+
+        InHouseStay stay = inHouseRegistry.find(request.getRoomNo())
                 .orElseThrow(() -> new AppException(ErrorCode.BOOKING_NOT_FOUND));
 
-        Product product = productRepo.findById(request.getProductId())
-                .orElseThrow(() -> new AppException(ErrorCode.PRODUCT_NOT_FOUND));
+        CatalogProduct product = catalogCache.getProduct(request.getProductId());
+        if (product == null) {
+            throw new AppException(ErrorCode.PRODUCT_NOT_FOUND);
+        }
 
         ServiceEntity service;
 
-        if (product.getCategory() != null && product.getCategory().getId() == 1L) {
-            if (product.getAmount() < request.getAmount()) {
+        if (isConsumable(product)) {
+            // Conditional update: the row is only changed when enough stock is left,
+            // so concurrent orders for the last item cannot both succeed.
+            if (productRepo.decrementStock(product.getId(), request.getAmount()) == 0) {
                 throw new AppException(ErrorCode.NOT_ENOUGH);
             }
+            publishStockChanges(Map.of(product.getId(), -request.getAmount()));
+        }
 
-            product.setAmount(product.getAmount() - request.getAmount());
+        service = serviceMapper.toEntity(request);
+        service.setProduct(productRepo.getReferenceById(product.getId()));
+        service.setBooking(bookingRepo.getReferenceById(stay.getBookingId()));
 
-            ProductDTO productDto = productMapper.toDTO(product);
+        ServiceEntity savedService = serviceRepo.save(service);
+        return toResponse(savedService, product);
+    }
 
-            productService.save(productDto);
+    @Override
+    @Transactional
+    public List<ServiceResponse> saveAll(List<ServiceRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            return List.of();
         }
 
-        service = serviceMapper.toEntity(request);
-        service.setProduct(product);
-        service.setBooking(booking);
+        Set<Integer> roomNos = new HashSet<>();
+        Set<Long> productIds = new HashSet<>();
+        for (ServiceRequest request : requests) {
+            if (request.getAmount() <= 0) {
+                throw new AppException(ErrorCode.INVALID_AMOUNT);
+            }
+            roomNos.add(request.getRoomNo());
+            productIds.add(request.getProductId());
+        }
 
-        ServiceEntity savedService = serviceRepo.save(service);
-        return serviceMapper.toDTO(savedService);
+        Map<Integer, InHouseStay> stayByRoomNo = inHouseRegistry.findAll(roomNos);
+
+        Map<Long, CatalogProduct> productById = catalogCache.getProducts(productIds);
+
+        // Sorted by product id so concurrent batches lock product rows in the same order.
+        Map<Long, Integer> decrement = new TreeMap<>();
+        List<ServiceEntity> services = new ArrayList<>(requests.size());
+        List<ServiceResponse> responses = new ArrayList<>(requests.size());
+        Date buyDate = new Date();
+
+        for (ServiceRequest request : requests) {
+            InHouseStay stay = stayByRoomNo.get(request.getRoomNo());
+            if (stay == null) {
+                throw new AppException(ErrorCode.BOOKING_NOT_FOUND);
+            }
+            CatalogProduct product = productById.get(request.getProductId());
+            if (product == null) {
+                throw new AppException(ErrorCode.PRODUCT_NOT_FOUND);
+            }
+            if (isConsumable(product)) {
+                decrement.merge(product.getId(), request.getAmount(), Integer::sum);
+            }
+
+            ServiceEntity service = serviceMapper.toEntity(request);
+            service.setProduct(productRepo.getReferenceById(product.getId()));
+            service.setBooking(bookingRepo.getReferenceById(stay.getBookingId()));
+            service.setBuyDate(buyDate);
+            services.add(service);
+            responses.add(toResponse(service, product));
+        }
+
+        if (!productRepo.decrementStock(decrement).isEmpty()) {
+            throw new AppException(ErrorCode.NOT_ENOUGH);
+        }
+        Map<Long, Integer> consumed = new HashMap<>();
+        decrement.forEach((id, amount) -> consumed.put(id, -amount));
+        publishStockChanges(consumed);
+
+        serviceRepo.insertAll(services);
+        return responses;
     }
 
     @Override
+    @Transactional
     public void delete(Long[] ids) {
-        for (Long id : ids) {
-            ServiceEntity service = serviceRepo.findById(id)
-                    .orElseThrow(() -> new AppException(ErrorCode.SERVICE_NOT_FOUND));
-
-            Product product = service.getProduct();
-            if (product.getCategory().getId() == 1) {
-                product.setAmount(product.getAmount() + service.getAmount());
-                ProductDTO productDto = productMapper.toDTO(product);
-                productService.save(productDto);
+        List<Long> idList = Arrays.asList(ids);
+        List<ServiceEntity> services = serviceRepo.findAllById(idList);
+
+        if (services.size() != new HashSet<>(idList).size()) {
+            throw new AppException(ErrorCode.SERVICE_NOT_FOUND);
+        }
+
+        Map<Long, Integer> restock = new HashMap<>();
+        for (ServiceEntity service : services) {
+            CatalogProduct product = catalogCache.getProduct(service.getProduct().getId());
+            if (product != null && isConsumable(product)) {
+                restock.merge(product.getId(), service.getAmount(), Integer::sum);
             }
+        }
 
-            serviceRepo.deleteById(id);
+        productRepo.restock(restock);
+        publishStockChanges(restock);
+        serviceRepo.deleteAllByIdInBatch(idList);
+    }
+
+    // Reads the stock back from the rows this transaction just updated and locked, so the values are exact.
+    private void publishStockChanges(Map<Long, Integer> deltaByProductId) {
+        if (deltaByProductId.isEmpty()) {
+            return;
+        }
+        for (StockLevel level : productRepo.findStockLevels(deltaByProductId.keySet())) {
+            eventPublisher.publishEvent(
+                    new InventoryChangedEvent(level.getId(), deltaByProductId.get(level.getId()), level.getAmount()));
         }
     }
 
+    private boolean isConsumable(CatalogProduct product) {
+        return product.getCategoryId() != null && product.getCategoryId() == ProductCategory.CONSUMABLE;
+    }
+
+    // The product on the entity is a lazy reference, so the title comes from the catalog instead of the mapper.
+    private ServiceResponse toResponse(ServiceEntity service, CatalogProduct product) {
+        return new ServiceResponse(product.getTitle(), service.getPrice(), service.getAmount(),
+                service.getPrice() * service.getAmount());
+    }
+
 }
@@ -13,7 +13,9 @@ import com.cnpm.managehotel.repository.BookingRepo;
 import com.cnpm.managehotel.repository.InvoiceRepo;
 import com.cnpm.managehotel.repository.RoomRepo;
 import com.cnpm.managehotel.service.RoomService;
+import com.cnpm.managehotel.service.RoomStatusService;
 import com.cnpm.managehotel.service.VnPayService;
+import com.cnpm.managehotel.stay.InHouseRegistry;
 import com.cnpm.managehotel.util.VnPayUtil;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
@@ -34,6 +36,10 @@ public class VnPayServiceImpl implements VnPayService {
 
     private final RoomRepo  roomRepo;
 
+    private final InHouseRegistry inHouseRegistry;
+
+    private final RoomStatusService roomStatusService;
+
 
 
     @Override
@@ -87,8 +93,10 @@ public class VnPayServiceImpl implements VnPayService {
         bookingRepo.save(booking);
 
         for (Room room : rooms) {
-            room.setStatus(RoomStatus.AVAILABLE);
-            roomRepo.save(room);
+            if (RoomStatus.OCCUPIED.equalsIgnoreCase(room.getStatus())) {
+                roomStatusService.transition(room, RoomStatus.DIRTY, "Checked out, booking " + bookingCode + " paid");
+            }
         }
+        inHouseRegistry.removeBooking(booking.getId());
     }
 }
@@ -0,0 +1,116 @@
+package com.cnpm.managehotel.stay;
+
+import com.cnpm.managehotel.datasource.Workload;
+import com.cnpm.managehotel.datasource.WorkloadPool;
+import com.cnpm.managehotel.repository.BookingRepo;
+import com.cnpm.managehotel.repository.BookingdetailRepo;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.cnpm.managehotel.util.TransactionUtil.afterCommit;
+
+/**
+ * In-memory projection of the rooms that are currently in house: {@code roomNo -> active booking}.
+ * It is rebuilt from the database at startup and kept up to date by check-in, payment and booking deletion.
+ * Changes made inside a transaction are applied only after it commits.
+ * A room missing from the map is looked up in the database once, so stays checked in on another node are still found.
+ * Stays paid or deleted on another node are dropped by a periodic sync that checks the bookings of the whole map
+ * with one query; lookups themselves never go to the database for a room that is in the map.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InHouseRegistry {
+
+    private final BookingdetailRepo bookingdetailRepo;
+
+    private final BookingRepo bookingRepo;
+
+    private final Map<Integer, InHouseStay> stayByRoomNo = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        Map<Integer, InHouseStay> loaded = new HashMap<>();
+        // Ordered by check-in, so the latest stay of a room wins
+        bookingdetailRepo.findInHouse().forEach(stay -> loaded.put(stay.getRoomNo(), stay));
+
+        stayByRoomNo.clear();
+        stayByRoomNo.putAll(loaded);
+        log.info("In-house registry rebuilt with {} rooms", loaded.size());
+    }
+
+    public Optional<InHouseStay> find(int roomNo) {
+        return Optional.ofNullable(findAll(List.of(roomNo)).get(roomNo));
+    }
+
+    /**
+     * Resolves many rooms at once; the rooms not in the map are loaded with a single query.
+     * Rooms without an in-house stay are absent from the result.
+     */
+    public Map<Integer, InHouseStay> findAll(Collection<Integer> roomNos) {
+        Map<Integer, InHouseStay> result = new HashMap<>();
+        List<Integer> missing = new ArrayList<>();
+        for (Integer roomNo : roomNos) {
+            InHouseStay stay = stayByRoomNo.get(roomNo);
+            if (stay != null) {
+                result.put(roomNo, stay);
+            } else {
+                missing.add(roomNo);
+            }
+        }
+        if (!missing.isEmpty()) {
+            result.putAll(loadMissing(missing));
+        }
+        return result;
+    }
+
+    public List<InHouseStay> findAll() {
+        List<InHouseStay> stays = new ArrayList<>(stayByRoomNo.values());
+        stays.sort(Comparator.comparingInt(InHouseStay::getRoomNo));
+        return stays;
+    }
+
+    /**
+     * Drops the stays whose booking was paid or deleted on another node since the last sync.
+     */
+    @Scheduled(fixedDelayString = "${stay.in-house.sync-interval-ms:2000}")
+    @WorkloadPool(Workload.BATCH)
+    public void sync() {
+        Map<Integer, InHouseStay> current = new HashMap<>(stayByRoomNo);
+        if (current.isEmpty()) {
+            return;
+        }
+        Set<Long> bookingIds = new HashSet<>();
+        current.values().forEach(stay -> bookingIds.add(stay.getBookingId()));
+        Set<Long> unpaid = new HashSet<>(bookingRepo.findUnpaidIds(bookingIds));
+        current.values().stream()
+                .filter(stay -> !unpaid.contains(stay.getBookingId()))
+                .forEach(stay -> stayByRoomNo.remove(stay.getRoomNo(), stay));
+    }
+
+    public void checkIn(int roomNo, Long bookingId, String bookingCode) {
+        InHouseStay stay = new InHouseStay(roomNo, bookingId, bookingCode);
+        afterCommit(() -> stayByRoomNo.put(roomNo, stay));
+    }
+
+    /**
+     * Removes every room of the booking, used on payment and on booking deletion.
+     */
+    public void removeBooking(Long bookingId) {
+        afterCommit(() -> stayByRoomNo.values().removeIf(stay -> stay.getBookingId().equals(bookingId)));
+    }
+
+    private Map<Integer, InHouseStay> loadMissing(List<Integer> roomNos) {
+        Map<Integer, InHouseStay> loaded = new HashMap<>();
+        bookingdetailRepo.findInHouseByRoomNos(roomNos).forEach(stay -> loaded.put(stay.getRoomNo(), stay));
+        loaded.forEach(stayByRoomNo::putIfAbsent);
+        return loaded;
+    }
+}
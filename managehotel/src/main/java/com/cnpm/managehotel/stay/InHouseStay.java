@@ -0,0 +1,13 @@
+package com.cnpm.managehotel.stay;
+
+import lombok.Value;
+
+/**
+ * A checked-in, not yet paid stay in one room.
+ */
+@Value
+public class InHouseStay {
+    int roomNo;
+    Long bookingId;
+    String bookingCode;
+}
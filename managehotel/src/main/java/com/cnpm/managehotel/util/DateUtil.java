@@ -0,0 +1,16 @@
+package com.cnpm.managehotel.util;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Date;
+
+public class DateUtil {
+
+    /**
+     * Calendar day of {@code date} in the server's zone, the same day MySQL's DATE() gives for a DATETIME column
+     * written by this JVM. {@code null} stays {@code null}.
+     */
+    public static LocalDate toLocalDate(Date date) {
+        return date == null ? null : date.toInstant().atZone(ZoneId.systemDefault()).toLocalDate();
+    }
+}
@@ -0,0 +1,8 @@
+-- One row stamped on the primary every heartbeat; its age on the replica is the replication lag.
+CREATE TABLE replication_heartbeat (
+    id      INTEGER NOT NULL,
+    beat_at BIGINT  NOT NULL,
+    PRIMARY KEY (id)
+);
+
+INSERT INTO replication_heartbeat (id, beat_at) VALUES (1, 0);
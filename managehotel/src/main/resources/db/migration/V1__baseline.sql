@@ -0,0 +1,109 @@
+-- Schema as Hibernate's ddl-auto=update produced it before migrations were introduced.
+-- Databases created that way are baselined at this version and start from V2.
+
+CREATE TABLE user (
+    id              BIGINT NOT NULL AUTO_INCREMENT,
+    address         VARCHAR(255),
+    email           VARCHAR(255),
+    full_name       VARCHAR(255),
+    gender          VARCHAR(255),
+    identity_number VARCHAR(255),
+    nationality     VARCHAR(255),
+    password        VARCHAR(255),
+    phone_number    VARCHAR(255),
+    role            VARCHAR(255),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE category (
+    id   BIGINT NOT NULL AUTO_INCREMENT,
+    name VARCHAR(255),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE product (
+    id                BIGINT NOT NULL AUTO_INCREMENT,
+    title             VARCHAR(255),
+    description       TEXT,
+    price             DOUBLE NOT NULL,
+    amount            INTEGER NOT NULL,
+    category_id       BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_product_category FOREIGN KEY (category_id) REFERENCES category (id)
+);
+
+CREATE TABLE room (
+    id          BIGINT NOT NULL AUTO_INCREMENT,
+    room_no     INTEGER,
+    type        CHAR(1) NOT NULL,
+    price       DOUBLE NOT NULL,
+    max_num     INTEGER,
+    status      VARCHAR(255),
+    description TEXT,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_room_room_no UNIQUE (room_no)
+);
+
+CREATE TABLE booking (
+    id           BIGINT NOT NULL AUTO_INCREMENT,
+    booking_code VARCHAR(255) NOT NULL,
+    check_in     DATETIME(6),
+    check_out    DATETIME(6),
+    guest_num    INTEGER,
+    is_paid      BIT,
+    user_id      BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_booking_booking_code UNIQUE (booking_code),
+    CONSTRAINT fk_booking_user FOREIGN KEY (user_id) REFERENCES user (id)
+);
+
+CREATE TABLE booking_detail (
+    id         BIGINT NOT NULL AUTO_INCREMENT,
+    price      DOUBLE NOT NULL,
+    unit       INTEGER NOT NULL,
+    is_foreign BIT,
+    extra_fee  DOUBLE,
+    booking_id BIGINT,
+    room_id    BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_booking_detail_booking FOREIGN KEY (booking_id) REFERENCES booking (id),
+    CONSTRAINT fk_booking_detail_room FOREIGN KEY (room_id) REFERENCES room (id)
+);
+
+CREATE TABLE service (
+    id         BIGINT NOT NULL AUTO_INCREMENT,
+    amount     INTEGER NOT NULL,
+    price      DOUBLE NOT NULL,
+    buy_date   DATETIME(6),
+    booking_id BIGINT,
+    product_id BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_service_booking FOREIGN KEY (booking_id) REFERENCES booking (id),
+    CONSTRAINT fk_service_product FOREIGN KEY (product_id) REFERENCES product (id)
+);
+
+CREATE TABLE invoice (
+    id           BIGINT NOT NULL AUTO_INCREMENT,
+    booking_id   BIGINT NOT NULL,
+    total_amount DOUBLE NOT NULL,
+    paid_at      DATETIME(6),
+    created_at   DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_invoice_booking_id UNIQUE (booking_id),
+    CONSTRAINT fk_invoice_booking FOREIGN KEY (booking_id) REFERENCES booking (id)
+);
+
+CREATE TABLE feedback (
+    id           BIGINT NOT NULL AUTO_INCREMENT,
+    content      VARCHAR(255),
+    submitted_at DATETIME(6),
+    customer_id  BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_feedback_user FOREIGN KEY (customer_id) REFERENCES user (id)
+);
+
+CREATE TABLE invalidated_token (
+    id          VARCHAR(255) NOT NULL,
+    expiry_time DATETIME(6),
+    PRIMARY KEY (id)
+);
@@ -0,0 +1,6 @@
+-- When a token was revoked, so other nodes can poll for revocations above their high-water mark
+-- (TokenRevocationStore.sync); expiry_time drives the purge of rows whose token has expired anyway.
+ALTER TABLE invalidated_token ADD COLUMN revoked_at DATETIME(6);
+
+CREATE INDEX idx_invalidated_token_expiry_time ON invalidated_token (expiry_time);
+CREATE INDEX idx_invalidated_token_revoked_at ON invalidated_token (revoked_at);
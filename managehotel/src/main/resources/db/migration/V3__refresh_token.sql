@@ -0,0 +1,16 @@
+-- Rotating refresh tokens: one row per issued token, stored as a hash. Tokens of one login share a family_id,
+-- so reusing a rotated token revokes the whole family.
+CREATE TABLE refresh_token (
+    id          VARCHAR(255) NOT NULL,
+    family_id   VARCHAR(255) NOT NULL,
+    token_hash  VARCHAR(64) NOT NULL,
+    expiry_time DATETIME(6) NOT NULL,
+    used_at     DATETIME(6),
+    revoked     BIT,
+    user_id     BIGINT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_refresh_token_user FOREIGN KEY (user_id) REFERENCES user (id)
+);
+
+CREATE INDEX idx_refresh_token_family_id ON refresh_token (family_id);
+CREATE INDEX idx_refresh_token_expiry_time ON refresh_token (expiry_time);
@@ -0,0 +1,2 @@
+-- Stock level at or below which LowStockMonitor raises an alert; NULL falls back to inventory.alert.default-threshold.
+ALTER TABLE product ADD COLUMN reorder_threshold INTEGER;
@@ -0,0 +1,14 @@
+-- Append-only log of room status changes made through RoomStatusService.
+CREATE TABLE room_status_transition (
+    id          BIGINT NOT NULL AUTO_INCREMENT,
+    room_id     BIGINT NOT NULL,
+    room_no     INTEGER NOT NULL,
+    from_status VARCHAR(255),
+    to_status   VARCHAR(255) NOT NULL,
+    reason      VARCHAR(255),
+    changed_by  VARCHAR(255),
+    changed_at  DATETIME(6),
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_room_status_transition_room_changed_at ON room_status_transition (room_id, changed_at);
@@ -0,0 +1,17 @@
+-- Cleaning tasks created when a room turns DIRTY, ordered by the room's next arrival.
+CREATE TABLE housekeeping_task (
+    id           BIGINT NOT NULL AUTO_INCREMENT,
+    room_id      BIGINT NOT NULL,
+    room_no      INTEGER NOT NULL,
+    status       VARCHAR(255) NOT NULL,
+    reason       VARCHAR(255),
+    next_arrival DATETIME(6),
+    assignee     VARCHAR(255),
+    created_at   DATETIME(6),
+    claimed_at   DATETIME(6),
+    completed_at DATETIME(6),
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_housekeeping_task_status_arrival ON housekeeping_task (status, next_arrival);
+CREATE INDEX idx_housekeeping_task_room ON housekeeping_task (room_id);
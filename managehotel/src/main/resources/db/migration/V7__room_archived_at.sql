@@ -0,0 +1,2 @@
+-- Set when a room with booking history is archived instead of deleted; archived rooms are hidden from listings.
+ALTER TABLE room ADD COLUMN archived_at DATETIME(6);
@@ -0,0 +1,35 @@
+-- Indexes for the repository queries on the request path. Each one names the queries it serves;
+-- QueryPlanTest fails when one of those queries goes back to a full scan.
+
+-- BookingRepo.findAllByCheckInBetween, countByCheckInAfter, getTotalGuestsNow (check_out filtered from the index)
+CREATE INDEX idx_booking_check_in_out ON booking (check_in, check_out);
+
+-- BookingRepo.countByCheckOutAfter
+CREATE INDEX idx_booking_check_out ON booking (check_out);
+
+-- BookingRepo.findByUserIdAndIsPaidFalse, findByUserId
+CREATE INDEX idx_booking_user_paid ON booking (user_id, is_paid);
+
+-- BookingRepo.countBookedRooms, BookingdetailRepo.findNextArrivals (unpaid bookings from a check-in on)
+CREATE INDEX idx_booking_paid_check_in ON booking (is_paid, check_in);
+
+-- BookingdetailRepo.findByBookingId, findByBookingIdAndRoomId; covers room_id for countBookedRooms
+CREATE INDEX idx_booking_detail_booking_room ON booking_detail (booking_id, room_id);
+
+-- RoomRepo.findAvailableRoomsBetween, findRoomNosWithBookings, findRoomNosWithOpenBookings,
+-- BookingdetailRepo.findInHouse: every lookup that starts from the room
+CREATE INDEX idx_booking_detail_room_booking ON booking_detail (room_id, booking_id);
+
+-- RoomRepo.countByStatus; BookingdetailRepo.findInHouse starts from the few OCCUPIED rooms
+CREATE INDEX idx_room_status_archived ON room (status, archived_at);
+
+-- UserRepo.findByIdentityNumber / existsByIdentityNumber, findByEmail / existsByEmail, findByPhoneNumber
+CREATE INDEX idx_user_identity_number ON user (identity_number);
+CREATE INDEX idx_user_email ON user (email);
+CREATE INDEX idx_user_phone_number ON user (phone_number);
+
+-- InvoiceRepo.getRevenueBetween: range on paid_at, amount read from the index
+CREATE INDEX idx_invoice_paid_at_amount ON invoice (paid_at, total_amount);
+
+-- service.booking_id (ServiceRepo.findByBookingId) and feedback.customer_id are served by the indexes
+-- InnoDB creates for their foreign keys.
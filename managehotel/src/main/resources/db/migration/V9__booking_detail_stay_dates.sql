@@ -0,0 +1,12 @@
+-- Calendar days of the booking's check-in and check-out, copied onto each line so availability can probe
+-- (room_id, stay_start, stay_end) without joining booking or applying DATE() to its columns.
+
+ALTER TABLE booking_detail ADD COLUMN stay_start DATE;
+ALTER TABLE booking_detail ADD COLUMN stay_end DATE;
+
+UPDATE booking_detail
+SET stay_start = (SELECT CAST(b.check_in AS DATE) FROM booking b WHERE b.id = booking_detail.booking_id),
+    stay_end   = (SELECT CAST(b.check_out AS DATE) FROM booking b WHERE b.id = booking_detail.booking_id);
+
+-- RoomRepo.findAvailableRoomsBetween
+CREATE INDEX idx_booking_detail_room_stay ON booking_detail (room_id, stay_start, stay_end);
@@ -0,0 +1,130 @@
+package com.cnpm.managehotel.catalog;
+
+import com.cnpm.managehotel.entity.Category;
+import com.cnpm.managehotel.entity.Product;
+import com.cnpm.managehotel.repository.CategoryRepo;
+import com.cnpm.managehotel.repository.ProductRepo;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CatalogCacheTest {
+
+    @Mock
+    private ProductRepo productRepo;
+
+    @Mock
+    private CategoryRepo categoryRepo;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CatalogCache catalogCache;
+    private Product water;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        catalogCache = new CatalogCache(productRepo, categoryRepo, meterRegistry,
+                100, Duration.ofMinutes(5), Duration.ofHours(1), true);
+
+        Category minibar = new Category();
+        minibar.setId(1L);
+        minibar.setName("Minibar");
+
+        water = new Product();
+        water.setId(1L);
+        water.setTitle("Water");
+        water.setPrice(10000);
+        water.setAmount(42);
+        water.setCategory(minibar);
+    }
+
+    @Test
+    void getProduct_RepeatedLookups_ShouldHitDatabaseOnce() {
+        // Arrange
+        when(productRepo.findById(1L)).thenReturn(Optional.of(water));
+
+        // Act
+        CatalogProduct first = catalogCache.getProduct(1L);
+        CatalogProduct second = catalogCache.getProduct(1L);
+
+        // Assert
+        assertEquals("Water", first.getTitle());
+        assertEquals(1L, first.getCategoryId());
+        assertSame(first, second);
+        verify(productRepo, times(1)).findById(1L);
+        assertEquals(0.5, catalogCache.productHitRate());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "catalog.products").tag("result", "hit")
+                .functionCounter().count());
+    }
+
+    @Test
+    void invalidateProduct_ShouldReloadOnNextLookup() {
+        // Arrange
+        when(productRepo.findById(1L)).thenReturn(Optional.of(water));
+        catalogCache.getProduct(1L);
+        water.setTitle("Sparkling water");
+
+        // Act
+        catalogCache.invalidateProduct(1L);
+        CatalogProduct reloaded = catalogCache.getProduct(1L);
+
+        // Assert
+        assertEquals("Sparkling water", reloaded.getTitle());
+        verify(productRepo, times(2)).findById(1L);
+    }
+
+    @Test
+    void getProduct_Missing_ShouldReturnNull() {
+        // Arrange
+        when(productRepo.findById(2L)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertNull(catalogCache.getProduct(2L));
+    }
+
+    @Test
+    void getProducts_ShouldLoadMissesWithOneQuery() {
+        // Arrange
+        when(productRepo.findAllById(any())).thenReturn(List.of(water));
+
+        // Act
+        Map<Long, CatalogProduct> result = catalogCache.getProducts(List.of(1L, 2L));
+
+        // Assert
+        assertEquals(1, result.size());
+        assertTrue(result.containsKey(1L));
+        verify(productRepo, times(1)).findAllById(any());
+        verify(productRepo, never()).findById(any());
+    }
+
+    @Test
+    void warmUp_ShouldPreloadCatalog() {
+        // Arrange
+        when(categoryRepo.findAll()).thenReturn(List.of(water.getCategory()));
+        when(productRepo.findAll()).thenReturn(List.of(water));
+
+        // Act
+        catalogCache.warmUp();
+        CatalogProduct product = catalogCache.getProduct(1L);
+        CatalogCategory category = catalogCache.getCategory(1L);
+
+        // Assert
+        assertEquals("Water", product.getTitle());
+        assertEquals("Minibar", category.getName());
+        verify(productRepo, never()).findById(any());
+        verify(categoryRepo, never()).findById(any());
+    }
+}
@@ -0,0 +1,116 @@
+package com.cnpm.managehotel.catalog;
+
+import com.cnpm.managehotel.dto.RoomDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RoomCatalogTest {
+
+    private final AtomicInteger loads = new AtomicInteger();
+    private RoomCatalog roomCatalog;
+    private String status;
+
+    private final Supplier<RoomDTO> loader = () -> {
+        loads.incrementAndGet();
+        RoomDTO room = RoomDTO.builder().id(1L).roomNo(101).type("A").status(status).build();
+        RoomDTO result = new RoomDTO();
+        result.setListResult(List.of(room));
+        return result;
+    };
+
+    @BeforeEach
+    void setUp() {
+        status = "AVAILABLE";
+        roomCatalog = new RoomCatalog(new ObjectMapper(), Duration.ofMinutes(1));
+    }
+
+    @Test
+    void get_Unchanged_ShouldReuseSnapshot() {
+        // Act
+        RoomCatalog.Snapshot first = roomCatalog.get(loader);
+        RoomCatalog.Snapshot second = roomCatalog.get(loader);
+
+        // Assert
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+        assertTrue(first.getEtag().startsWith("\"") && first.getEtag().endsWith("\""));
+        assertTrue(new String(first.getBody()).contains("\"roomNo\":101"));
+    }
+
+    @Test
+    void invalidate_ShouldRebuildWithNewETag() {
+        // Arrange
+        RoomCatalog.Snapshot before = roomCatalog.get(loader);
+        status = "OCCUPIED";
+
+        // Act
+        roomCatalog.invalidate();
+        RoomCatalog.Snapshot after = roomCatalog.get(loader);
+
+        // Assert
+        assertEquals(2, loads.get());
+        assertNotEquals(before.getEtag(), after.getEtag());
+    }
+
+    @Test
+    void invalidate_SameContent_ShouldKeepETag() {
+        // Arrange
+        RoomCatalog.Snapshot before = roomCatalog.get(loader);
+
+        // Act
+        roomCatalog.invalidate();
+        RoomCatalog.Snapshot after = roomCatalog.get(loader);
+
+        // Assert
+        assertEquals(2, loads.get());
+        assertEquals(before.getEtag(), after.getEtag());
+    }
+
+    @Test
+    void invalidate_InsideTransaction_ShouldWaitForCommit() {
+        // Arrange
+        roomCatalog.get(loader);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // Act
+            roomCatalog.invalidate();
+            roomCatalog.get(loader);
+            assertEquals(1, loads.get());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            roomCatalog.get(loader);
+
+            // Assert
+            assertEquals(2, loads.get());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void get_OlderThanMaxAge_ShouldRebuild() {
+        // Arrange
+        Instant start = Instant.parse("2025-01-01T00:00:00Z");
+        RoomCatalog expiring = new RoomCatalog(new ObjectMapper(), Clock.fixed(start, ZoneOffset.UTC), Duration.ZERO);
+
+        // Act
+        expiring.get(loader);
+        expiring.get(loader);
+
+        // Assert
+        assertEquals(2, loads.get());
+    }
+}
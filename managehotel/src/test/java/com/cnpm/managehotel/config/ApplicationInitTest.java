@@ -0,0 +1,53 @@
+package com.cnpm.managehotel.config;
+
+import com.cnpm.managehotel.constant.UserRole;
+import com.cnpm.managehotel.entity.User;
+import com.cnpm.managehotel.repository.UserRepo;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ApplicationInitTest {
+
+    @Mock
+    private UserRepo userRepo;
+
+    @Test
+    void applicationRunner_NoAdmin_ShouldSeedAdminWithPrecomputedHash() throws Exception {
+        // Arrange
+        when(userRepo.existsByEmail("admin@gmail.com")).thenReturn(false);
+
+        // Act
+        new ApplicationInit().applicationRunner(userRepo).run(new DefaultApplicationArguments());
+
+        // Assert
+        ArgumentCaptor<User> saved = ArgumentCaptor.forClass(User.class);
+        verify(userRepo).save(saved.capture());
+        assertEquals(UserRole.ADMIN, saved.getValue().getRole());
+        assertTrue(new BCryptPasswordEncoder(10).matches("admin", saved.getValue().getPassword()));
+    }
+
+    @Test
+    void applicationRunner_AdminExists_ShouldNotSave() throws Exception {
+        // Arrange
+        when(userRepo.existsByEmail("admin@gmail.com")).thenReturn(true);
+
+        // Act
+        new ApplicationInit().applicationRunner(userRepo).run(new DefaultApplicationArguments());
+
+        // Assert
+        verify(userRepo, never()).save(any());
+    }
+}
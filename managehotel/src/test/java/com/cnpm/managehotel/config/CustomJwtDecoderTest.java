@@ -0,0 +1,120 @@
+package com.cnpm.managehotel.config;
+
+import com.cnpm.managehotel.exception.AppException;
+import com.cnpm.managehotel.exception.ErrorCode;
+import com.cnpm.managehotel.security.JwtTokenVerifier;
+import com.cnpm.managehotel.security.TokenRevocationStore;
+import com.cnpm.managehotel.security.VerifiedTokenCache;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.MACSigner;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CustomJwtDecoderTest {
+
+    private static final String SIGNER_KEY = "YcDgXHZpD/FJgdzbrKrK//SSuoGRCr58coNezcuNkbGdc9tXGqgTAZiExeiHC3+R";
+
+    @Mock
+    private JwtTokenVerifier jwtTokenVerifier;
+
+    @Mock
+    private TokenRevocationStore tokenRevocationStore;
+
+    private VerifiedTokenCache verifiedTokenCache;
+
+    private CustomJwtDecoder customJwtDecoder;
+
+    private SignedJWT signedJWT;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        verifiedTokenCache = new VerifiedTokenCache(100);
+        customJwtDecoder = new CustomJwtDecoder(jwtTokenVerifier, verifiedTokenCache, tokenRevocationStore);
+
+        JWTClaimsSet claims = new JWTClaimsSet.Builder()
+                .subject("admin@gmail.com")
+                .issuer("managehotel.com")
+                .issueTime(new Date())
+                .expirationTime(Date.from(Instant.now().plusSeconds(3600)))
+                .jwtID(UUID.randomUUID().toString())
+                .claim("scope", "ADMIN")
+                .build();
+        signedJWT = new SignedJWT(new JWSHeader(JWSAlgorithm.HS512), claims);
+        signedJWT.sign(new MACSigner(SIGNER_KEY.getBytes()));
+    }
+
+    @Test
+    void decode_SameTokenTwice_ShouldVerifyOnce() throws Exception {
+        // Arrange
+        String token = signedJWT.serialize();
+        when(jwtTokenVerifier.verify(token)).thenReturn(signedJWT);
+
+        // Act
+        Jwt first = customJwtDecoder.decode(token);
+        Jwt second = customJwtDecoder.decode(token);
+
+        // Assert
+        assertEquals("admin@gmail.com", first.getSubject());
+        assertEquals("ADMIN", first.getClaimAsString("scope"));
+        assertNotNull(first.getExpiresAt());
+        assertSame(first, second);
+        verify(jwtTokenVerifier, times(1)).verify(token);
+    }
+
+    @Test
+    void decode_InvalidToken_ShouldThrowAndNotCache() throws Exception {
+        // Arrange
+        when(jwtTokenVerifier.verify(anyString())).thenThrow(new AppException(ErrorCode.UNAUTHENTICATED));
+
+        // Act & Assert
+        assertThrows(JwtException.class, () -> customJwtDecoder.decode("bad-token"));
+        assertThrows(JwtException.class, () -> customJwtDecoder.decode("bad-token"));
+        assertEquals(0, verifiedTokenCache.size());
+        verify(jwtTokenVerifier, times(2)).verify("bad-token");
+    }
+
+    @Test
+    void decode_AfterEvict_ShouldVerifyAgain() throws Exception {
+        // Arrange
+        String token = signedJWT.serialize();
+        when(jwtTokenVerifier.verify(token)).thenReturn(signedJWT);
+
+        // Act
+        customJwtDecoder.decode(token);
+        verifiedTokenCache.evict(token);
+        customJwtDecoder.decode(token);
+
+        // Assert
+        verify(jwtTokenVerifier, times(2)).verify(token);
+    }
+
+    @Test
+    void decode_CachedTokenRevokedElsewhere_ShouldThrow() throws Exception {
+        // Arrange
+        String token = signedJWT.serialize();
+        when(jwtTokenVerifier.verify(token)).thenReturn(signedJWT);
+        customJwtDecoder.decode(token);
+        when(tokenRevocationStore.isRevoked(signedJWT.getJWTClaimsSet().getJWTID())).thenReturn(true);
+
+        // Act & Assert
+        assertThrows(JwtException.class, () -> customJwtDecoder.decode(token));
+        assertEquals(0, verifiedTokenCache.size());
+    }
+}
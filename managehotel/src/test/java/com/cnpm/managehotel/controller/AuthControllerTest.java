@@ -2,6 +2,8 @@ package com.cnpm.managehotel.controller;
 
 import com.cnpm.managehotel.config.TestSecurityConfig;
 import com.cnpm.managehotel.dto.UserDTO;
+import com.cnpm.managehotel.dto.request.AuthenticationRequest;
+import com.cnpm.managehotel.dto.response.AuthenticationResponse;
 import com.cnpm.managehotel.exception.AppException;
 import com.cnpm.managehotel.exception.ErrorCode;
 import com.cnpm.managehotel.service.AuthService;
@@ -16,8 +18,11 @@ import org.springframework.test.web.servlet.MockMvc;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -78,4 +83,26 @@ public class AuthControllerTest {
                 .andExpect(jsonPath("$.code").value(1004))  // INVALID_PASSWORD code
                 .andExpect(jsonPath("$.message").value("Password must be at least {min} characters"));
     }
-} 
\ No newline at end of file
+
+    @Test
+    void login_WithForwardedForHeader_ShouldThrottleOnPeerAddress() throws Exception {
+        AuthenticationRequest request = AuthenticationRequest.builder()
+                .email("test@example.com")
+                .password("password123")
+                .build();
+        when(authService.authenticate(any(AuthenticationRequest.class), any()))
+                .thenReturn(AuthenticationResponse.builder().token("token").build());
+
+        mockMvc.perform(post("/auth/login")
+                .with(r -> {
+                    r.setRemoteAddr("203.0.113.7");
+                    return r;
+                })
+                .header("X-Forwarded-For", "198.51.100.1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk());
+
+        verify(authService).authenticate(any(AuthenticationRequest.class), eq("203.0.113.7"));
+    }
+}
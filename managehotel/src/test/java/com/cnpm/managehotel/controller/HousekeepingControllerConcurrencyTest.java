@@ -0,0 +1,141 @@
+package com.cnpm.managehotel.controller;
+
+import com.cnpm.managehotel.base.BaseControllerTest;
+import com.cnpm.managehotel.constant.HousekeepingStatus;
+import com.cnpm.managehotel.constant.RoomStatus;
+import com.cnpm.managehotel.constant.UserRole;
+import com.cnpm.managehotel.exception.ErrorCode;
+import com.cnpm.managehotel.housekeeping.HousekeepingQueue;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Fires hundreds of parallel {@code POST /housekeeping/tasks/claim} requests at a queue of dirty rooms and checks
+ * that every task goes to exactly one housekeeper, then cleans a room through {@code /complete}.
+ */
+class HousekeepingControllerConcurrencyTest extends BaseControllerTest {
+
+    private static final int TASKS = 150;
+    private static final int REQUESTS = 250;
+    private static final int FIRST_ROOM_NO = 9200;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private HousekeepingQueue housekeepingQueue;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM housekeeping_task");
+        jdbcTemplate.update("DELETE FROM room WHERE room_no >= ?", FIRST_ROOM_NO);
+
+        Timestamp createdAt = Timestamp.from(Instant.now());
+        for (int i = 0; i < TASKS; i++) {
+            long id = 9200L + i;
+            jdbcTemplate.update("INSERT INTO room (id, room_no, type, price, max_num, status) VALUES (?, ?, 'A', 500000, 2, ?)",
+                    id, FIRST_ROOM_NO + i, RoomStatus.DIRTY);
+            jdbcTemplate.update("INSERT INTO housekeeping_task (id, room_id, room_no, status, next_arrival, created_at) " +
+                            "VALUES (?, ?, ?, ?, ?, ?)",
+                    id, id, FIRST_ROOM_NO + i, HousekeepingStatus.PENDING,
+                    Timestamp.from(Instant.now().plus(TASKS - i, ChronoUnit.HOURS)), createdAt);
+        }
+        housekeepingQueue.rebuild();
+    }
+
+    @Test
+    void claim_ParallelHousekeepers_ShouldHandOutEachTaskOnce() throws Exception {
+        // Arrange
+        ExecutorService pool = Executors.newFixedThreadPool(64);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<MvcResult>> results = new ArrayList<>();
+
+        // Act
+        for (int i = 0; i < REQUESTS; i++) {
+            String housekeeper = "housekeeper-" + i;
+            results.add(pool.submit(() -> {
+                start.await();
+                return mockMvc.perform(post("/housekeeping/tasks/claim")
+                                .with(user(housekeeper).roles(UserRole.HOUSEKEEPER)))
+                        .andReturn();
+            }));
+        }
+        start.countDown();
+
+        Set<Long> claimed = new HashSet<>();
+        int empty = 0;
+        for (Future<MvcResult> future : results) {
+            MvcResult result = future.get(60, TimeUnit.SECONDS);
+            String content = result.getResponse().getContentAsString();
+            if (result.getResponse().getStatus() == 200) {
+                JsonNode task = objectMapper.readTree(content).get("result");
+                assertTrue(claimed.add(task.get("id").asLong()), "Task handed out twice: " + content);
+            } else if (content.contains("\"code\":" + ErrorCode.NO_HOUSEKEEPING_TASK.getCode())) {
+                empty++;
+            } else {
+                fail("Unexpected response " + result.getResponse().getStatus() + ": " + content);
+            }
+        }
+        pool.shutdown();
+
+        // Assert
+        Integer pending = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM housekeeping_task WHERE status = ?",
+                Integer.class, HousekeepingStatus.PENDING);
+
+        assertEquals(TASKS, claimed.size());
+        assertEquals(REQUESTS - TASKS, empty);
+        assertEquals(0, pending);
+    }
+
+    @Test
+    void claimThenComplete_ShouldPickSoonestArrivalAndMakeRoomAvailable() throws Exception {
+        // Act
+        MvcResult claimed = mockMvc.perform(post("/housekeeping/tasks/claim")
+                        .with(user("anna").roles(UserRole.HOUSEKEEPER)))
+                .andExpect(status().isOk())
+                .andReturn();
+        long taskId = objectMapper.readTree(claimed.getResponse().getContentAsString()).get("result").get("id").asLong();
+
+        mockMvc.perform(post("/housekeeping/tasks/{id}/complete", taskId)
+                        .with(user("anna").roles(UserRole.HOUSEKEEPER)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.result.status").value(HousekeepingStatus.DONE));
+
+        // Assert
+        String roomStatus = jdbcTemplate.queryForObject("SELECT status FROM room WHERE id = ?", String.class, taskId);
+
+        assertEquals(9200L + TASKS - 1, taskId);
+        assertEquals(RoomStatus.AVAILABLE, roomStatus);
+    }
+
+    @Test
+    void complete_ByOtherHousekeeper_ShouldBeRejected() throws Exception {
+        // Arrange
+        MvcResult claimed = mockMvc.perform(post("/housekeeping/tasks/claim")
+                        .with(user("anna").roles(UserRole.HOUSEKEEPER)))
+                .andReturn();
+        long taskId = objectMapper.readTree(claimed.getResponse().getContentAsString()).get("result").get("id").asLong();
+
+        // Act & Assert
+        mockMvc.perform(post("/housekeeping/tasks/{id}/complete", taskId)
+                        .with(user("bob").roles(UserRole.HOUSEKEEPER)))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.code").value(ErrorCode.HOUSEKEEPING_TASK_NOT_CLAIMED.getCode()));
+    }
+}
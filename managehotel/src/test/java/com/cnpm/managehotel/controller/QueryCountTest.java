@@ -0,0 +1,186 @@
+package com.cnpm.managehotel.controller;
+
+import com.cnpm.managehotel.base.BaseControllerTest;
+import com.cnpm.managehotel.base.QueryCounter;
+import com.cnpm.managehotel.constant.RoomStatus;
+import com.cnpm.managehotel.constant.UserRole;
+import com.cnpm.managehotel.dto.request.BookingRequest;
+import com.cnpm.managehotel.dto.request.CheckinRequest;
+import com.cnpm.managehotel.dto.request.IdentityRequest;
+import com.cnpm.managehotel.util.DateUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Guards the entity graphs of the hot read paths: each request below must run a fixed number of statements no
+ * matter how many bookings, rooms or feedbacks it returns, so a lazy association touched outside its graph shows
+ * up here as an N+1.
+ */
+class QueryCountTest extends BaseControllerTest {
+
+    private static final int BOOKINGS = 5;
+    private static final int ROOMS_PER_BOOKING = 3;
+    private static final long FIRST_ID = 9500L;
+    private static final long HISTORY_ROOM_ID = 9600L;
+    private static final int PAST_BOOKINGS = 5;
+    private static final String IDENTITY = "QC-079200009500";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        tearDown();
+
+        Timestamp checkIn = Timestamp.from(Instant.now());
+        Timestamp checkOut = Timestamp.from(Instant.now().plus(2, ChronoUnit.DAYS));
+        java.sql.Date stayStart = java.sql.Date.valueOf(DateUtil.toLocalDate(checkIn));
+        java.sql.Date stayEnd = java.sql.Date.valueOf(DateUtil.toLocalDate(checkOut));
+        for (int b = 0; b < BOOKINGS; b++) {
+            long userId = FIRST_ID + b;
+            long bookingId = FIRST_ID + b;
+            jdbcTemplate.update("INSERT INTO user (id, full_name, identity_number, role) VALUES (?, ?, ?, ?)",
+                    userId, "Guest " + b, b == 0 ? IDENTITY : IDENTITY + b, UserRole.CUSTOMER);
+            jdbcTemplate.update("INSERT INTO booking (id, booking_code, check_in, check_out, guest_num, is_paid, user_id) " +
+                            "VALUES (?, ?, ?, ?, 2, FALSE, ?)",
+                    bookingId, code(b), checkIn, checkOut, userId);
+            jdbcTemplate.update("INSERT INTO feedback (id, content, submitted_at, customer_id) VALUES (?, 'ok', ?, ?)",
+                    FIRST_ID + b, checkIn, userId);
+            for (int r = 0; r < ROOMS_PER_BOOKING; r++) {
+                long roomId = FIRST_ID + b * ROOMS_PER_BOOKING + r;
+                jdbcTemplate.update("INSERT INTO room (id, room_no, type, price, max_num, status) VALUES (?, ?, 'A', 500000, 2, ?)",
+                        roomId, roomId, RoomStatus.AVAILABLE);
+                jdbcTemplate.update("INSERT INTO booking_detail (id, price, unit, is_foreign, extra_fee, booking_id, room_id, " +
+                                "stay_start, stay_end) VALUES (?, 500000, 2, FALSE, 0, ?, ?, ?, ?)",
+                        roomId, bookingId, roomId, stayStart, stayEnd);
+            }
+        }
+        // a second unpaid booking for the same guest, so the unpaid lookup returns more than one row
+        jdbcTemplate.update("UPDATE booking SET user_id = ? WHERE id = ?", FIRST_ID, FIRST_ID + 1);
+
+        // a room with a paid booking history, so checking its availability has past stays to walk
+        jdbcTemplate.update("INSERT INTO room (id, room_no, type, price, max_num, status) VALUES (?, ?, 'A', 500000, 2, ?)",
+                HISTORY_ROOM_ID, HISTORY_ROOM_ID, RoomStatus.AVAILABLE);
+        for (int b = 0; b < PAST_BOOKINGS; b++) {
+            long bookingId = HISTORY_ROOM_ID + b;
+            Instant pastCheckIn = Instant.now().minus(60 + 3L * b, ChronoUnit.DAYS);
+            Instant pastCheckOut = pastCheckIn.plus(2, ChronoUnit.DAYS);
+            jdbcTemplate.update("INSERT INTO booking (id, booking_code, check_in, check_out, guest_num, is_paid, user_id) " +
+                            "VALUES (?, ?, ?, ?, 2, TRUE, ?)",
+                    bookingId, "QC-" + bookingId, Timestamp.from(pastCheckIn), Timestamp.from(pastCheckOut), FIRST_ID);
+            jdbcTemplate.update("INSERT INTO booking_detail (id, price, unit, is_foreign, extra_fee, booking_id, room_id, " +
+                            "stay_start, stay_end) VALUES (?, 500000, 2, FALSE, 0, ?, ?, ?, ?)",
+                    bookingId, bookingId, HISTORY_ROOM_ID,
+                    java.sql.Date.valueOf(DateUtil.toLocalDate(Date.from(pastCheckIn))),
+                    java.sql.Date.valueOf(DateUtil.toLocalDate(Date.from(pastCheckOut))));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM invoice WHERE booking_id >= ?", FIRST_ID);
+        // bookings made through the API get generated ids, but belong to a seeded guest and room
+        jdbcTemplate.update("DELETE FROM booking_detail WHERE id >= ? OR room_id >= ?", FIRST_ID, FIRST_ID);
+        jdbcTemplate.update("DELETE FROM booking WHERE id >= ? OR user_id >= ?", FIRST_ID, FIRST_ID);
+        jdbcTemplate.update("DELETE FROM feedback WHERE id >= ?", FIRST_ID);
+        jdbcTemplate.update("DELETE FROM room_status_transition WHERE room_id >= ?", FIRST_ID);
+        jdbcTemplate.update("DELETE FROM room WHERE id >= ?", FIRST_ID);
+        jdbcTemplate.update("DELETE FROM user WHERE id >= ?", FIRST_ID);
+    }
+
+    @Test
+    void listBookings_ShouldFetchUsersInOneStatement() throws Exception {
+        assertStatementsAtMost(1, get("/booking").with(user("reception").roles(UserRole.RECEPTIONIST)));
+    }
+
+    @Test
+    void unpaidBookings_ShouldFetchUsersWithTheBookings() throws Exception {
+        IdentityRequest request = new IdentityRequest(IDENTITY);
+
+        assertStatementsAtMost(2, post("/booking/unpaid")
+                .with(user("reception").roles(UserRole.RECEPTIONIST))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(asJsonString(request)));
+    }
+
+    @Test
+    void bookingDetail_ShouldFetchUserAndRoomsInOneStatement() throws Exception {
+        assertStatementsAtMost(1, get("/booking/{bookingCode}/detail", code(0))
+                .with(user("reception").roles(UserRole.RECEPTIONIST)));
+    }
+
+    @Test
+    void invoicePreview_ShouldNotLoadRoomsOneByOne() throws Exception {
+        // booking + user, details + rooms, services, invoice insert
+        assertStatementsAtMost(4, get("/payment/{bookingCode}/invoice-preview", code(0))
+                .with(user("reception").roles(UserRole.RECEPTIONIST)));
+    }
+
+    @Test
+    void checkIn_ShouldNotReloadTheBookingGraph() throws Exception {
+        CheckinRequest request = CheckinRequest.builder()
+                .bookingCode(code(0))
+                .roomNo((int) FIRST_ID)
+                .isForeign(true)
+                .extraFree(true)
+                .build();
+
+        assertStatementsAtMost(8, post("/booking/checkin")
+                .with(user("reception").roles(UserRole.RECEPTIONIST))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(asJsonString(request)));
+    }
+
+    @Test
+    void createBooking_ShouldNotWalkTheRoomsBookingHistory() throws Exception {
+        Instant checkIn = Instant.now().plus(7, ChronoUnit.DAYS);
+        BookingRequest request = BookingRequest.builder()
+                .fullName("Guest 0")
+                .identityNumber(IDENTITY)
+                .guestNum(2)
+                .checkIn(Date.from(checkIn))
+                .checkOut(Date.from(checkIn.plus(2, ChronoUnit.DAYS)))
+                .roomNo(new int[]{(int) HISTORY_ROOM_ID})
+                .build();
+
+        // rooms, stay overlap, guest, booking insert, then booking line insert
+        assertStatementsAtMost(5, post("/booking")
+                .with(user("reception").roles(UserRole.RECEPTIONIST))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(asJsonString(request)));
+    }
+
+    @Test
+    void listFeedback_ShouldFetchUsersInOneStatement() throws Exception {
+        assertStatementsAtMost(1, get("/feedback").with(user("admin").roles(UserRole.ADMIN)));
+    }
+
+    private void assertStatementsAtMost(int expected, RequestBuilder request) throws Exception {
+        QueryCounter.reset();
+
+        mockMvc.perform(request).andExpect(status().isOk());
+
+        int statements = QueryCounter.count();
+        assertTrue(statements <= expected, "expected at most " + expected + " statements but ran " + statements);
+    }
+
+    private static String code(int booking) {
+        return "QC-" + (FIRST_ID + booking);
+    }
+}
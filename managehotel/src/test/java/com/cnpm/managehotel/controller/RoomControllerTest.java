@@ -1,11 +1,15 @@
 package com.cnpm.managehotel.controller;
 
+import com.cnpm.managehotel.catalog.RoomCatalog;
 import com.cnpm.managehotel.config.TestSecurityConfig;
 import com.cnpm.managehotel.constant.RoomStatus;
 import com.cnpm.managehotel.dto.RoomDTO;
 import com.cnpm.managehotel.exception.AppException;
 import com.cnpm.managehotel.exception.ErrorCode;
+import com.cnpm.managehotel.roomstatus.RoomStatusEntry;
+import com.cnpm.managehotel.service.RoomImportService;
 import com.cnpm.managehotel.service.RoomService;
+import com.cnpm.managehotel.service.RoomStatusService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
@@ -16,11 +20,15 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.text.SimpleDateFormat;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Date;
+import java.util.List;
+import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
@@ -38,6 +46,12 @@ class RoomControllerTest {
     @MockBean
     private RoomService roomService;
 
+    @MockBean
+    private RoomStatusService roomStatusService;
+
+    @MockBean
+    private RoomImportService roomImportService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -62,22 +76,59 @@ class RoomControllerTest {
     }
 
     @Test
+    @WithMockUser
     void getAllRooms_ShouldReturnRoomList() throws Exception {
         // Arrange
         RoomDTO response = RoomDTO.builder().build();
         response.setListResult(Arrays.asList(roomDTO));
-        when(roomService.findAll()).thenReturn(response);
+        RoomCatalog.Snapshot snapshot = new RoomCatalog(objectMapper, Duration.ofMinutes(1)).get(() -> response);
+        when(roomService.findAllSnapshot()).thenReturn(snapshot);
 
         // Act & Assert
         mockMvc.perform(get("/room")
                 .accept(MediaType.APPLICATION_JSON))
                 .andDo(print())
                 .andExpect(status().isOk())
+                .andExpect(header().string("ETag", snapshot.getEtag()))
                 .andExpect(jsonPath("$.code").value(1000))
                 .andExpect(jsonPath("$.message").value("Success"))
                 .andExpect(jsonPath("$.result.listResult[0].roomNo").value(roomDTO.getRoomNo()));
 
-        verify(roomService).findAll();
+        verify(roomService).findAllSnapshot();
+    }
+
+    @Test
+    @WithMockUser
+    void getStatusBoard_ShouldReturnCountsAndRooms() throws Exception {
+        // Arrange
+        when(roomStatusService.countByStatus()).thenReturn(Map.of(RoomStatus.DIRTY, 1L));
+        when(roomStatusService.findBoard()).thenReturn(List.of(new RoomStatusEntry(101, RoomStatus.DIRTY, null)));
+
+        // Act & Assert
+        mockMvc.perform(get("/room/status-board")
+                .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.result.counts.DIRTY").value(1))
+                .andExpect(jsonPath("$.result.rooms[0].roomNo").value(101))
+                .andExpect(jsonPath("$.result.rooms[0].status").value(RoomStatus.DIRTY));
+    }
+
+    @Test
+    @WithMockUser
+    void getAllRooms_WithMatchingETag_ShouldReturnNotModified() throws Exception {
+        // Arrange
+        RoomDTO response = RoomDTO.builder().build();
+        response.setListResult(Arrays.asList(roomDTO));
+        RoomCatalog.Snapshot snapshot = new RoomCatalog(objectMapper, Duration.ofMinutes(1)).get(() -> response);
+        when(roomService.findAllSnapshot()).thenReturn(snapshot);
+
+        // Act & Assert
+        mockMvc.perform(get("/room")
+                .header("If-None-Match", snapshot.getEtag())
+                .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", snapshot.getEtag()))
+                .andExpect(content().string(""));
     }
 
     @Test
@@ -85,11 +136,12 @@ class RoomControllerTest {
         // Arrange
         RoomDTO response = RoomDTO.builder().build();
         response.setListResult(Arrays.asList(roomDTO));
-        when(roomService.findAllAvailable(any(Date.class))).thenReturn(response);
+        when(roomService.findAllAvailable(any(Date.class), any(Date.class))).thenReturn(response);
 
         // Act & Assert
         mockMvc.perform(get("/room/available")
                 .param("checkinDate", "2024-03-20")
+                .param("checkoutDate", "2024-03-22")
                 .accept(MediaType.APPLICATION_JSON))
                 .andDo(print())
                 .andExpect(status().isOk())
@@ -97,7 +149,7 @@ class RoomControllerTest {
                 .andExpect(jsonPath("$.message").value("Success"))
                 .andExpect(jsonPath("$.result.listResult[0].roomNo").value(roomDTO.getRoomNo()));
 
-        verify(roomService).findAllAvailable(any(Date.class));
+        verify(roomService).findAllAvailable(any(Date.class), any(Date.class));
     }
 
     @Test
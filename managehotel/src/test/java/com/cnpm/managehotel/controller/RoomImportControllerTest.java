@@ -0,0 +1,136 @@
+package com.cnpm.managehotel.controller;
+
+import com.cnpm.managehotel.base.BaseControllerTest;
+import com.cnpm.managehotel.constant.RoomStatus;
+import com.cnpm.managehotel.constant.UserRole;
+import com.cnpm.managehotel.dto.RoomDTO;
+import com.cnpm.managehotel.dto.response.RoomImportResult;
+import com.cnpm.managehotel.exception.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Imports rooms through {@code POST /room/bulk} as CSV and as JSON against the test database.
+ */
+class RoomImportControllerTest extends BaseControllerTest {
+
+    private static final int FIRST_ROOM_NO = 7000;
+    private static final int ROOMS = 600;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM room WHERE room_no BETWEEN ? AND ?", FIRST_ROOM_NO, FIRST_ROOM_NO + 999);
+    }
+
+    @Test
+    void importCsv_LargeProperty_ShouldCreateEveryRoom() throws Exception {
+        // Arrange
+        StringBuilder csv = new StringBuilder("roomNo,type,price,maxNum,status\n");
+        for (int i = 0; i < ROOMS; i++) {
+            csv.append(FIRST_ROOM_NO + i).append(",A,500000,2,\n");
+        }
+
+        // Act
+        mockMvc.perform(post("/room/bulk")
+                        .with(user("admin").roles(UserRole.ADMIN))
+                        .contentType("text/csv")
+                        .content(csv.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.result.created").value(ROOMS))
+                .andExpect(jsonPath("$.result.failed").value(0))
+                .andExpect(jsonPath("$.result.rows.length()").value(ROOMS));
+
+        // Assert
+        Integer imported = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM room WHERE room_no BETWEEN ? AND ? AND status = ?",
+                Integer.class, FIRST_ROOM_NO, FIRST_ROOM_NO + ROOMS - 1, RoomStatus.AVAILABLE);
+        assertEquals(ROOMS, imported);
+    }
+
+    @Test
+    void importCsv_BadLine_ShouldOnlyFailThatRow() throws Exception {
+        // Arrange
+        String csv = "7001,A,500000,2\nnot-a-number,A,1,1\n\"7002\",B,\"650000\",3,MAINTAIN\n";
+
+        // Act & Assert
+        mockMvc.perform(post("/room/bulk")
+                        .with(user("admin").roles(UserRole.ADMIN))
+                        .contentType("text/csv")
+                        .content(csv))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.result.created").value(2))
+                .andExpect(jsonPath("$.result.failed").value(1))
+                .andExpect(jsonPath("$.result.rows[1].row").value(2))
+                .andExpect(jsonPath("$.result.rows[1].code").value(ErrorCode.INVALID_ROOM.getCode()))
+                .andExpect(jsonPath("$.result.rows[2].roomNo").value(7002));
+    }
+
+    @Test
+    void importJson_MixedRows_ShouldReportEachOutcome() throws Exception {
+        // Arrange
+        jdbcTemplate.update("INSERT INTO room (room_no, type, price, max_num, status) VALUES (?, 'A', 400000, 2, ?)",
+                FIRST_ROOM_NO, RoomStatus.AVAILABLE);
+        List<RoomDTO> rooms = List.of(
+                RoomDTO.builder().roomNo(FIRST_ROOM_NO).type("A").price(450000).maxNum(2).build(),
+                RoomDTO.builder().roomNo(FIRST_ROOM_NO + 1).type("B").price(650000).maxNum(3).build(),
+                RoomDTO.builder().roomNo(FIRST_ROOM_NO + 1).type("B").price(650000).maxNum(3).build(),
+                RoomDTO.builder().roomNo(FIRST_ROOM_NO + 2).type("XL").price(650000).maxNum(3).build(),
+                RoomDTO.builder().roomNo(FIRST_ROOM_NO + 3).type("C").price(900000).maxNum(4).status("BROKEN").build());
+
+        // Act
+        mockMvc.perform(post("/room/bulk")
+                        .with(user("admin").roles(UserRole.ADMIN))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(asJsonString(rooms)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.result.updated").value(1))
+                .andExpect(jsonPath("$.result.created").value(1))
+                .andExpect(jsonPath("$.result.failed").value(3))
+                .andExpect(jsonPath("$.result.rows[0].outcome").value(RoomImportResult.UPDATED))
+                .andExpect(jsonPath("$.result.rows[2].code").value(ErrorCode.ROOM_CONFLICT.getCode()))
+                .andExpect(jsonPath("$.result.rows[3].code").value(ErrorCode.INVALID_ROOM.getCode()))
+                .andExpect(jsonPath("$.result.rows[4].code").value(ErrorCode.INVALID_ROOM_STATUS.getCode()));
+
+        // Assert
+        Double price = jdbcTemplate.queryForObject("SELECT price FROM room WHERE room_no = ?", Double.class, FIRST_ROOM_NO);
+        assertEquals(450000, price);
+    }
+
+    @Test
+    void importJson_BrokenBodyMidStream_ShouldKeepRowsBeforeIt() throws Exception {
+        // Arrange
+        String json = "[{\"roomNo\":" + FIRST_ROOM_NO + ",\"type\":\"A\",\"price\":500000,\"maxNum\":2},"
+                + "{\"roomNo\":\"abc\",\"type\":\"A\",\"price\":500000,\"maxNum\":2},"
+                + "{\"roomNo\":" + (FIRST_ROOM_NO + 1) + ",\"type\":\"B\",\"price\":650000,\"maxNum\":3},"
+                + "{\"roomNo\":";
+
+        // Act
+        mockMvc.perform(post("/room/bulk")
+                        .with(user("admin").roles(UserRole.ADMIN))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.result.created").value(2))
+                .andExpect(jsonPath("$.result.failed").value(2))
+                .andExpect(jsonPath("$.result.rows[1].code").value(ErrorCode.INVALID_ROOM.getCode()))
+                .andExpect(jsonPath("$.result.rows[3].code").value(ErrorCode.INVALID_IMPORT_FILE.getCode()));
+
+        // Assert
+        Integer imported = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM room WHERE room_no BETWEEN ? AND ?",
+                Integer.class, FIRST_ROOM_NO, FIRST_ROOM_NO + 1);
+        assertEquals(2, imported);
+    }
+}
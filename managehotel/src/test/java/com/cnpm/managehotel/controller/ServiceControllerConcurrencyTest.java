@@ -0,0 +1,166 @@
+package com.cnpm.managehotel.controller;
+
+import com.cnpm.managehotel.base.BaseControllerTest;
+import com.cnpm.managehotel.constant.RoomStatus;
+import com.cnpm.managehotel.constant.UserRole;
+import com.cnpm.managehotel.dto.request.ServiceRequest;
+import com.cnpm.managehotel.exception.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Fires hundreds of parallel {@code POST /service} orders at a product with limited stock
+ * and checks that it is never oversold, and posts a batch through {@code POST /service/batch}.
+ */
+class ServiceControllerConcurrencyTest extends BaseControllerTest {
+
+    private static final int STOCK = 100;
+    private static final int REQUESTS = 300;
+    private static final int ROOM_NO = 9101;
+    private static final long PRODUCT_ID = 9001L;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM service");
+        jdbcTemplate.update("DELETE FROM product");
+        jdbcTemplate.update("DELETE FROM booking_detail");
+        jdbcTemplate.update("DELETE FROM booking");
+        jdbcTemplate.update("DELETE FROM room");
+        jdbcTemplate.update("DELETE FROM category");
+        jdbcTemplate.update("DELETE FROM `user` WHERE id = 9001");
+
+        Timestamp checkIn = Timestamp.from(Instant.now().minus(1, ChronoUnit.DAYS));
+        Timestamp checkOut = Timestamp.from(Instant.now().plus(2, ChronoUnit.DAYS));
+
+        jdbcTemplate.update("INSERT INTO category (id, name) VALUES (1, 'Minibar')");
+        jdbcTemplate.update("INSERT INTO product (id, title, price, amount, category_id) VALUES (?, 'Water', 10000, ?, 1)",
+                PRODUCT_ID, STOCK);
+        jdbcTemplate.update("INSERT INTO `user` (id, full_name, identity_number, role) VALUES (9001, 'Guest', 'ID-9001', ?)",
+                UserRole.CUSTOMER);
+        jdbcTemplate.update("INSERT INTO room (id, room_no, type, price, max_num, status) VALUES (9001, ?, 'A', 500000, 2, ?)",
+                ROOM_NO, RoomStatus.OCCUPIED);
+        jdbcTemplate.update("INSERT INTO booking (id, booking_code, check_in, check_out, guest_num, is_paid, user_id) " +
+                "VALUES (9001, 'BK-STRESS', ?, ?, 1, false, 9001)", checkIn, checkOut);
+        jdbcTemplate.update("INSERT INTO booking_detail (id, price, unit, is_foreign, extra_fee, booking_id, room_id) " +
+                "VALUES (9001, 500000, 3, false, 0, 9001, 9001)");
+    }
+
+    @Test
+    void createService_ParallelOrders_ShouldNeverOversell() throws Exception {
+        // Arrange
+        ServiceRequest request = ServiceRequest.builder()
+                .roomNo(ROOM_NO)
+                .productId(PRODUCT_ID)
+                .amount(1)
+                .price(10000)
+                .build();
+        String body = asJsonString(request);
+
+        ExecutorService pool = Executors.newFixedThreadPool(64);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<MvcResult>> results = new ArrayList<>();
+
+        // Act
+        for (int i = 0; i < REQUESTS; i++) {
+            results.add(pool.submit(() -> {
+                start.await();
+                return mockMvc.perform(post("/service")
+                                .with(user("reception").roles(UserRole.RECEPTIONIST))
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(body))
+                        .andReturn();
+            }));
+        }
+        start.countDown();
+
+        int succeeded = 0;
+        int outOfStock = 0;
+        for (Future<MvcResult> future : results) {
+            MvcResult result = future.get(60, TimeUnit.SECONDS);
+            String content = result.getResponse().getContentAsString();
+            if (result.getResponse().getStatus() == 200) {
+                succeeded++;
+            } else if (content.contains("\"code\":" + ErrorCode.NOT_ENOUGH.getCode())) {
+                outOfStock++;
+            } else {
+                fail("Unexpected response " + result.getResponse().getStatus() + ": " + content);
+            }
+        }
+        pool.shutdown();
+
+        // Assert
+        Integer remaining = jdbcTemplate.queryForObject("SELECT amount FROM product WHERE id = ?", Integer.class, PRODUCT_ID);
+        Integer posted = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM service WHERE product_id = ?", Integer.class, PRODUCT_ID);
+
+        assertEquals(STOCK, succeeded);
+        assertEquals(REQUESTS - STOCK, outOfStock);
+        assertEquals(0, remaining);
+        assertEquals(STOCK, posted);
+    }
+
+    @Test
+    void createServices_Batch_ShouldPostAllLinesInOneRequest() throws Exception {
+        // Arrange
+        List<ServiceRequest> lines = List.of(
+                ServiceRequest.builder().roomNo(ROOM_NO).productId(PRODUCT_ID).amount(2).price(10000).build(),
+                ServiceRequest.builder().roomNo(ROOM_NO).productId(PRODUCT_ID).amount(3).price(10000).build());
+
+        // Act
+        mockMvc.perform(post("/service/batch")
+                        .with(user("reception").roles(UserRole.RECEPTIONIST))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(lines)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.result.length()").value(2));
+
+        // Assert
+        Integer remaining = jdbcTemplate.queryForObject("SELECT amount FROM product WHERE id = ?", Integer.class, PRODUCT_ID);
+        Integer posted = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM service WHERE booking_id = 9001", Integer.class);
+
+        assertEquals(STOCK - 5, remaining);
+        assertEquals(2, posted);
+    }
+
+    @Test
+    void createServices_BatchOverStock_ShouldPostNothing() throws Exception {
+        // Arrange
+        List<ServiceRequest> lines = List.of(
+                ServiceRequest.builder().roomNo(ROOM_NO).productId(PRODUCT_ID).amount(60).price(10000).build(),
+                ServiceRequest.builder().roomNo(ROOM_NO).productId(PRODUCT_ID).amount(60).price(10000).build());
+
+        // Act
+        mockMvc.perform(post("/service/batch")
+                        .with(user("reception").roles(UserRole.RECEPTIONIST))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(lines)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value(ErrorCode.NOT_ENOUGH.getCode()));
+
+        // Assert
+        Integer remaining = jdbcTemplate.queryForObject("SELECT amount FROM product WHERE id = ?", Integer.class, PRODUCT_ID);
+        Integer posted = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM service", Integer.class);
+
+        assertEquals(STOCK, remaining);
+        assertEquals(0, posted);
+    }
+}
@@ -0,0 +1,81 @@
+package com.cnpm.managehotel.dataset;
+
+import org.flywaydb.core.Flyway;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Generates into its own H2 database so the rows never reach the shared test database.
+ */
+class DatasetGeneratorTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-06-15T08:00:00Z"), ZoneOffset.UTC);
+
+    private JdbcDataSource dataSource;
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:datasetdb;MODE=MySQL;NON_KEYWORDS=USER,VALUE;DB_CLOSE_DELAY=-1");
+        dataSource.setUser("sa");
+        Flyway.configure().dataSource(dataSource).locations("classpath:db/migration").load().migrate();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+    }
+
+    @Test
+    void generate_ShouldWriteAConsistentHotel() throws Exception {
+        // Arrange
+        DatasetScale scale = DatasetScale.of(0.01, 1);
+
+        // Act
+        DatasetReport report = new DatasetGenerator(dataSource, scale, 42, LoadMode.BATCH, CLOCK).generate();
+
+        // Assert
+        assertEquals(10L, report.getRows().get("room"));
+        assertEquals(100L, report.getRows().get("user"));
+        assertEquals(count("booking"), report.getRows().get("booking"));
+        assertEquals(count("booking_detail"), report.getRows().get("booking_detail"));
+        assertTrue(report.getRows().get("booking_detail") > 500);
+        assertEquals(count("booking WHERE is_paid = TRUE"), count("invoice"));
+        assertEquals(0, count("booking_detail a JOIN booking_detail b ON a.room_id = b.room_id AND a.id < b.id "
+                + "AND a.stay_start < b.stay_end AND b.stay_start < a.stay_end"));
+        assertEquals(count("booking_detail WHERE stay_start <= DATE '2026-06-15' AND stay_end > DATE '2026-06-15'"),
+                count("room WHERE status = 'OCCUPIED'"));
+    }
+
+    @Test
+    void generate_Twice_ShouldAppendTheSameData() throws Exception {
+        // Arrange
+        DatasetGenerator generator = new DatasetGenerator(dataSource, DatasetScale.of(0.005, 1), 7, LoadMode.BATCH, CLOCK);
+        long first = generator.generate().getRows().get("booking");
+
+        // Act
+        DatasetReport second = generator.generate();
+
+        // Assert
+        assertEquals(first, second.getRows().get("booking"));
+        assertEquals(2 * first, count("booking"));
+        assertEquals(10L, count("room"));
+    }
+
+    private long count(String from) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + from, Long.class);
+    }
+}
@@ -0,0 +1,72 @@
+package com.cnpm.managehotel.datasource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ConnectionLimitDataSourceTest {
+
+    @Mock
+    private DataSource pool;
+
+    private ConnectionLimitDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new ConnectionLimitDataSource(pool, 2, Duration.ofMillis(50));
+    }
+
+    @Test
+    void getConnection_AllPermitsTaken_ShouldTimeOut() throws SQLException {
+        // Arrange
+        when(pool.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+        dataSource.getConnection();
+        dataSource.getConnection();
+
+        // Act & Assert
+        assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+        assertEquals(0, dataSource.getAvailablePermits());
+    }
+
+    @Test
+    void close_Twice_ShouldReturnThePermitOnce() throws SQLException {
+        // Arrange
+        Connection target = mock(Connection.class);
+        when(pool.getConnection()).thenReturn(target);
+        Connection connection = dataSource.getConnection();
+
+        // Act
+        connection.close();
+        connection.close();
+
+        // Assert
+        assertEquals(2, dataSource.getAvailablePermits());
+        verify(target, times(2)).close();
+    }
+
+    @Test
+    void getConnection_PoolFails_ShouldReturnThePermit() throws SQLException {
+        // Arrange
+        when(pool.getConnection()).thenThrow(new SQLTransientConnectionException("pool exhausted"));
+
+        // Act & Assert
+        assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+        assertEquals(2, dataSource.getAvailablePermits());
+    }
+}
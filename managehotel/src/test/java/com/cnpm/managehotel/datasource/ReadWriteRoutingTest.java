@@ -0,0 +1,168 @@
+package com.cnpm.managehotel.datasource;
+
+import com.cnpm.managehotel.dto.FeedbackDTO;
+import com.cnpm.managehotel.service.FeedbackService;
+import com.zaxxer.hikari.HikariDataSource;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Primary and replica are two separate H2 databases with no replication between them, so a row inserted into just
+ * one of them shows which database answered. The test copies the heartbeat by hand to play the replication stream.
+ */
+@SpringBootTest(properties = {
+        "datasource.replica.enabled=true",
+        "datasource.replica.url=jdbc:h2:mem:replicadb;MODE=MySQL;NON_KEYWORDS=USER,VALUE;DB_CLOSE_DELAY=-1",
+        "datasource.replica.username=sa",
+        "datasource.replica.password=",
+        // probed by hand below
+        "datasource.replica.heartbeat-interval-ms=3600000",
+        "datasource.replica.read-your-writes-window=1h",
+        "datasource.connection-limit.enabled=true"
+})
+@ActiveProfiles("test")
+class ReadWriteRoutingTest {
+
+    private static final String PHONE = "RW-0900000001";
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    @Autowired
+    @Qualifier("replicaReadDataSource")
+    private DataSource replicaReadDataSource;
+
+    @Autowired
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    @Autowired
+    private FeedbackService feedbackService;
+
+    private JdbcTemplate primary;
+
+    private JdbcTemplate replica;
+
+    @BeforeEach
+    void setUp() {
+        Flyway.configure().dataSource(replicaDataSource).locations("classpath:db/migration").load().migrate();
+        primary = new JdbcTemplate(primaryDataSource);
+        replica = new JdbcTemplate(replicaDataSource);
+        tearDown();
+
+        primary.update("INSERT INTO user (full_name, phone_number, role) VALUES ('Routing Guest', ?, 'CUSTOMER')", PHONE);
+        primary.update("INSERT INTO feedback (content) VALUES ('RW-primary')");
+        replica.update("INSERT INTO feedback (content) VALUES ('RW-replica')");
+        replicate();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        primary.update("DELETE FROM feedback WHERE content LIKE 'RW-%'");
+        replica.update("DELETE FROM feedback WHERE content LIKE 'RW-%'");
+        primary.update("DELETE FROM user WHERE phone_number = ?", PHONE);
+    }
+
+    @Test
+    void readOnlyTransaction_ShouldReadFromReplica() {
+        // Act
+        List<String> contents = feedbackContents();
+
+        // Assert
+        assertTrue(contents.contains("RW-replica"));
+        assertFalse(contents.contains("RW-primary"));
+    }
+
+    @Test
+    void write_ShouldGoToPrimaryAndPinWriterToPrimary() {
+        // Arrange
+        signIn("writer@hotel.test");
+        FeedbackDTO request = new FeedbackDTO();
+        request.setContent("RW-written");
+        request.setPhoneNumber(PHONE);
+
+        // Act
+        feedbackService.save(request);
+
+        // Assert
+        assertEquals(1, count(primary, "RW-written"));
+        assertEquals(0, count(replica, "RW-written"));
+        // the writer reads their own write from the primary; everyone else keeps using the replica
+        assertTrue(feedbackContents().contains("RW-written"));
+        signIn("other@hotel.test");
+        assertTrue(feedbackContents().contains("RW-replica"));
+    }
+
+    @Test
+    void laggingReplica_ShouldSendReadsToPrimary() {
+        // Arrange
+        replica.update("UPDATE replication_heartbeat SET beat_at = 0 WHERE id = 1");
+
+        // Act
+        replicaLagMonitor.probe();
+
+        // Assert
+        assertFalse(replicaLagMonitor.isReplicaUsable());
+        assertTrue(feedbackContents().contains("RW-primary"));
+
+        replicate();
+        assertTrue(feedbackContents().contains("RW-replica"));
+    }
+
+    @Test
+    void replicaReads_ShouldPassTheConnectionLimitAndReturnPermits() {
+        // Act
+        feedbackContents();
+
+        // Assert
+        ConnectionLimitDataSource limited = assertInstanceOf(ConnectionLimitDataSource.class, replicaReadDataSource);
+        assertEquals(((HikariDataSource) replicaDataSource).getMaximumPoolSize(), limited.getAvailablePermits());
+    }
+
+    /**
+     * Stamps the primary, copies the stamp to the replica as replication would, then lets the monitor measure.
+     */
+    private void replicate() {
+        replicaLagMonitor.probe();
+        Long beatAt = primary.queryForObject(ReplicaLagMonitor.READ_SQL, Long.class);
+        replica.update("UPDATE replication_heartbeat SET beat_at = ? WHERE id = 1", beatAt);
+        replicaLagMonitor.probe();
+        assertTrue(replicaLagMonitor.isReplicaUsable());
+    }
+
+    private List<String> feedbackContents() {
+        return feedbackService.findAll().getListResult().stream().map(FeedbackDTO::getContent).toList();
+    }
+
+    private static int count(JdbcTemplate jdbcTemplate, String content) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM feedback WHERE content = ?", Integer.class, content);
+    }
+
+    private static void signIn(String name) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(name, null, AuthorityUtils.createAuthorityList("ROLE_ADMIN")));
+    }
+}
@@ -0,0 +1,103 @@
+package com.cnpm.managehotel.datasource;
+
+import com.cnpm.managehotel.service.FeedbackService;
+import com.cnpm.managehotel.service.ReportService;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The three workload pools share one H2 database; which pool served a call is read from Hikari's per-pool meters.
+ */
+@SpringBootTest(properties = "datasource.pool.reporting.connection-timeout=500")
+@ActiveProfiles("test")
+class WorkloadPoolTest {
+
+    @Autowired
+    @Qualifier("reportingDataSource")
+    private HikariDataSource reportingDataSource;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+
+    @Autowired
+    private ReportService reportService;
+
+    @Autowired
+    private FeedbackService feedbackService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void reportService_ShouldUseReportingPool() {
+        // Arrange
+        long before = connectionsServed("reporting");
+
+        // Act
+        reportService.getReportData();
+
+        // Assert
+        assertTrue(connectionsServed("reporting") > before);
+    }
+
+    @Test
+    void exhaustedReportingPool_ShouldNotBlockFrontDesk() throws Exception {
+        // Arrange
+        List<Connection> held = new ArrayList<>();
+        try {
+            for (int i = 0; i < reportingDataSource.getMaximumPoolSize(); i++) {
+                held.add(reportingDataSource.getConnection());
+            }
+
+            // Act & Assert
+            assertDoesNotThrow(() -> feedbackService.findAll());
+            assertThrows(RuntimeException.class, () -> reportService.getReportData());
+            assertEquals(1.0, meterRegistry.get("datasource.pool.utilization").tag("pool", "reporting").gauge().value());
+        } finally {
+            for (Connection connection : held) {
+                connection.close();
+            }
+        }
+    }
+
+    @Test
+    void statements_ShouldCarryTheirPoolTimeout() throws Exception {
+        assertEquals(10, queryTimeoutIn(Workload.OLTP));
+        assertEquals(60, queryTimeoutIn(Workload.REPORTING));
+        assertEquals(300, queryTimeoutIn(Workload.BATCH));
+    }
+
+    private int queryTimeoutIn(Workload workload) throws Exception {
+        Workload previous = WorkloadContext.enter(workload);
+        try (Connection connection = primaryDataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("SELECT 1")) {
+            return statement.getQueryTimeout();
+        } finally {
+            WorkloadContext.restore(previous);
+        }
+    }
+
+    private long connectionsServed(String pool) {
+        // Hikari registers its meters when the pool starts
+        Timer usage = meterRegistry.find("hikaricp.connections.usage").tag("pool", pool).timer();
+        return usage == null ? 0 : usage.count();
+    }
+}
@@ -0,0 +1,137 @@
+package com.cnpm.managehotel.housekeeping;
+
+import com.cnpm.managehotel.constant.HousekeepingStatus;
+import com.cnpm.managehotel.entity.HousekeepingTask;
+import com.cnpm.managehotel.repository.BookingdetailRepo;
+import com.cnpm.managehotel.repository.HousekeepingTaskRepo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class HousekeepingQueueTest {
+
+    private static final Instant NOW = Instant.parse("2026-03-01T08:00:00Z");
+
+    @Mock
+    private HousekeepingTaskRepo housekeepingTaskRepo;
+
+    @Mock
+    private BookingdetailRepo bookingdetailRepo;
+
+    private HousekeepingQueue housekeepingQueue;
+
+    @BeforeEach
+    void setUp() {
+        housekeepingQueue = new HousekeepingQueue(housekeepingTaskRepo, bookingdetailRepo, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void poll_ShouldReturnSoonestArrivalFirstAndRoomsWithoutArrivalLast() {
+        // Arrange
+        housekeepingQueue.offer(task(1L, 101, null));
+        housekeepingQueue.offer(task(2L, 102, NOW.plus(2, ChronoUnit.DAYS)));
+        housekeepingQueue.offer(task(3L, 103, NOW.plus(3, ChronoUnit.HOURS)));
+
+        // Act & Assert
+        assertEquals(3L, housekeepingQueue.poll().getTaskId());
+        assertEquals(2L, housekeepingQueue.poll().getTaskId());
+        assertEquals(1L, housekeepingQueue.poll().getTaskId());
+        assertNull(housekeepingQueue.poll());
+    }
+
+    @Test
+    void rebuild_ShouldReorderByCurrentBookingCalendar() {
+        // Arrange
+        when(housekeepingTaskRepo.findByStatus(HousekeepingStatus.PENDING)).thenReturn(List.of(
+                task(1L, 101, NOW.plus(5, ChronoUnit.DAYS)),
+                task(2L, 102, NOW.plus(1, ChronoUnit.DAYS))));
+        when(bookingdetailRepo.findNextArrivals(any(), any())).thenReturn(List.<Object[]>of(
+                new Object[]{101L, Date.from(NOW.plus(1, ChronoUnit.HOURS))}));
+
+        // Act
+        housekeepingQueue.rebuild();
+
+        // Assert
+        assertEquals(2, housekeepingQueue.size());
+        assertEquals(1L, housekeepingQueue.poll().getTaskId());
+    }
+
+    @Test
+    void offerInsideTransaction_ShouldApplyOnlyAfterCommit() {
+        // Arrange
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        housekeepingQueue.offer(task(1L, 101, null));
+
+        // Assert
+        assertEquals(0, housekeepingQueue.size());
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertEquals(1, housekeepingQueue.size());
+    }
+
+    @Test
+    void restoreOnRollback_ShouldPutPolledTaskBack() {
+        // Arrange
+        housekeepingQueue.offer(task(1L, 101, null));
+        TransactionSynchronizationManager.initSynchronization();
+        QueuedTask polled = housekeepingQueue.poll();
+
+        // Act
+        housekeepingQueue.restoreOnRollback(polled);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // Assert
+        assertEquals(1L, housekeepingQueue.poll().getTaskId());
+    }
+
+    @Test
+    void requeue_InsideTransaction_ShouldPutTasksBackAtOnce() {
+        // Arrange
+        housekeepingQueue.offer(task(1L, 101, null));
+        TransactionSynchronizationManager.initSynchronization();
+        QueuedTask polled = housekeepingQueue.poll();
+
+        // Act
+        housekeepingQueue.requeue(List.of(polled));
+
+        // Assert
+        assertEquals(1L, housekeepingQueue.poll().getTaskId());
+    }
+
+    private HousekeepingTask task(Long id, int roomNo, Instant nextArrival) {
+        return HousekeepingTask.builder()
+                .id(id)
+                .roomId(roomNo + 0L)
+                .roomNo(roomNo)
+                .status(HousekeepingStatus.PENDING)
+                .nextArrival(nextArrival != null ? Date.from(nextArrival) : null)
+                .createdAt(Date.from(NOW))
+                .build();
+    }
+}
@@ -0,0 +1,144 @@
+package com.cnpm.managehotel.inventory;
+
+import com.cnpm.managehotel.catalog.CatalogCache;
+import com.cnpm.managehotel.catalog.CatalogProduct;
+import com.cnpm.managehotel.constant.ProductCategory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LowStockMonitorTest {
+
+    @Mock
+    private CatalogCache catalogCache;
+
+    private MutableClock clock;
+    private LowStockMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock();
+        monitor = new LowStockMonitor(catalogCache, clock, 5, 24, Duration.ofHours(6), 100);
+
+        lenient().when(catalogCache.getProduct(1L))
+                .thenReturn(new CatalogProduct(1L, "Water", null, 10000, ProductCategory.CONSUMABLE, null));
+        lenient().when(catalogCache.getProduct(2L))
+                .thenReturn(new CatalogProduct(2L, "Laundry", null, 50000, 2L, null));
+    }
+
+    @Test
+    void flush_StockAtThreshold_ShouldRaiseOneAlert() {
+        // Arrange
+        monitor.onInventoryChanged(new InventoryChangedEvent(1L, -1, 6));
+        monitor.onInventoryChanged(new InventoryChangedEvent(1L, -1, 5));
+
+        // Act
+        monitor.flush();
+        monitor.onInventoryChanged(new InventoryChangedEvent(1L, -1, 4));
+        clock.advance(Duration.ofMinutes(1));
+        monitor.flush();
+
+        // Assert
+        List<LowStockAlert> alerts = monitor.getAlerts();
+        assertEquals(1, alerts.size());
+        assertEquals(4, alerts.get(0).getRemaining());
+        assertEquals(5, alerts.get(0).getReorderThreshold());
+        assertTrue(alerts.get(0).getRaisedAt().isBefore(alerts.get(0).getUpdatedAt()));
+    }
+
+    @Test
+    void flush_FastConsumption_ShouldAlertBeforeThreshold() {
+        // Arrange: 60 units taken within an hour, 100 left
+        for (int i = 0; i < 6; i++) {
+            monitor.onInventoryChanged(new InventoryChangedEvent(1L, -10, 160 - 10 * i));
+            monitor.flush();
+            clock.advance(Duration.ofMinutes(10));
+        }
+        monitor.onInventoryChanged(new InventoryChangedEvent(1L, 0, 100));
+
+        // Act
+        monitor.flush();
+
+        // Assert
+        List<LowStockAlert> alerts = monitor.getAlerts();
+        assertEquals(1, alerts.size());
+        assertNotNull(alerts.get(0).getHoursToStockout());
+        assertTrue(alerts.get(0).getHoursToStockout() <= 24);
+    }
+
+    @Test
+    void flush_SlowConsumption_ShouldNotAlert() {
+        // Arrange
+        monitor.onInventoryChanged(new InventoryChangedEvent(1L, -1, 100));
+
+        // Act
+        monitor.flush();
+
+        // Assert
+        assertTrue(monitor.getAlerts().isEmpty());
+    }
+
+    @Test
+    void flush_Restocked_ShouldClearAlert() {
+        // Arrange
+        monitor.onInventoryChanged(new InventoryChangedEvent(1L, -3, 0));
+        monitor.flush();
+        assertEquals(1, monitor.getAlerts().size());
+
+        // Act
+        clock.advance(Duration.ofDays(2));
+        monitor.onInventoryChanged(new InventoryChangedEvent(1L, 50, 50));
+        monitor.flush();
+
+        // Assert
+        assertTrue(monitor.getAlerts().isEmpty());
+    }
+
+    @Test
+    void flush_NonConsumable_ShouldBeIgnored() {
+        // Arrange
+        monitor.onInventoryChanged(new InventoryChangedEvent(2L, -1, 0));
+
+        // Act
+        monitor.flush();
+
+        // Assert
+        assertTrue(monitor.getAlerts().isEmpty());
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now = Instant.parse("2025-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.cnpm.managehotel.repository;
+
+import com.cnpm.managehotel.base.QueryCounter;
+import com.cnpm.managehotel.constant.RoomStatus;
+import com.cnpm.managehotel.entity.Product;
+import com.cnpm.managehotel.entity.Room;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Second-level cache switched on: repeated reads of rooms, products and room-number lookups stay off the database,
+ * and every write path, Hibernate or JDBC, makes the next read see the new row.
+ */
+@SpringBootTest(properties = "entity.cache.enabled=true")
+@ActiveProfiles("test")
+class EntityCacheTest {
+
+    private static final long ROOM_ID = 22000L;
+    private static final int ROOM_NO = 22000;
+    private static final long PRODUCT_ID = 22000L;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private RoomRepo roomRepo;
+
+    @Autowired
+    private ProductRepo productRepo;
+
+    @BeforeEach
+    void setUp() {
+        tearDown();
+        jdbcTemplate.update("INSERT INTO room (id, room_no, type, price, max_num, status) VALUES (?, ?, 'A', 500000, 2, ?)",
+                ROOM_ID, ROOM_NO, RoomStatus.AVAILABLE);
+        jdbcTemplate.update("INSERT INTO category (id, name) VALUES (?, 'Minibar')", PRODUCT_ID);
+        jdbcTemplate.update("INSERT INTO product (id, title, price, amount, category_id) VALUES (?, 'Water', 10000, 20, ?)",
+                PRODUCT_ID, PRODUCT_ID);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM product WHERE id >= ?", PRODUCT_ID);
+        jdbcTemplate.update("DELETE FROM category WHERE id >= ?", PRODUCT_ID);
+        jdbcTemplate.update("DELETE FROM room WHERE id >= ? OR room_no >= ?", ROOM_ID, ROOM_NO);
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    void findByRoomNo_ShouldBeCachedUntilJdbcUpdate() {
+        // Arrange
+        Room room = roomRepo.findByRoomNo(ROOM_NO).orElseThrow();
+
+        // Act & Assert
+        QueryCounter.reset();
+        assertEquals(500000, roomRepo.findByRoomNo(ROOM_NO).orElseThrow().getPrice());
+        assertEquals(0, QueryCounter.count());
+
+        room.setPrice(650000);
+        roomRepo.updateAll(List.of(room));
+
+        QueryCounter.reset();
+        assertEquals(650000, roomRepo.findByRoomNo(ROOM_NO).orElseThrow().getPrice());
+        assertTrue(QueryCounter.count() > 0);
+    }
+
+    @Test
+    void findByRoomNoIn_ShouldSeeRoomsInsertedThroughJdbc() {
+        // Arrange
+        assertEquals(1, roomRepo.findByRoomNoIn(List.of(ROOM_NO, ROOM_NO + 1)).size());
+
+        Room added = new Room();
+        added.setRoomNo(ROOM_NO + 1);
+        added.setType('B');
+        added.setPrice(700000);
+        added.setMaxNum(3);
+        added.setStatus(RoomStatus.AVAILABLE);
+
+        // Act
+        roomRepo.insertAll(List.of(added));
+
+        // Assert
+        assertEquals(2, roomRepo.findByRoomNoIn(List.of(ROOM_NO, ROOM_NO + 1)).size());
+    }
+
+    @Test
+    void updateStatus_ShouldInvalidateCachedRoom() {
+        // Arrange
+        roomRepo.findById(ROOM_ID).orElseThrow();
+
+        // Act
+        transactionTemplate.executeWithoutResult(status ->
+                roomRepo.updateStatus(ROOM_ID, RoomStatus.AVAILABLE, RoomStatus.OCCUPIED));
+
+        // Assert
+        assertEquals(RoomStatus.OCCUPIED, roomRepo.findById(ROOM_ID).orElseThrow().getStatus());
+        assertEquals(RoomStatus.OCCUPIED, roomRepo.findByRoomNo(ROOM_NO).orElseThrow().getStatus());
+    }
+
+    @Test
+    void findById_ShouldBeCachedUntilJdbcStockChange() {
+        // Arrange
+        productRepo.findById(PRODUCT_ID).orElseThrow();
+
+        // Act & Assert
+        QueryCounter.reset();
+        assertEquals(20, productRepo.findById(PRODUCT_ID).map(Product::getAmount).orElseThrow());
+        assertEquals(0, QueryCounter.count());
+
+        transactionTemplate.executeWithoutResult(status -> productRepo.restock(Map.of(PRODUCT_ID, 5)));
+        assertEquals(25, productRepo.findById(PRODUCT_ID).map(Product::getAmount).orElseThrow());
+
+        transactionTemplate.executeWithoutResult(status -> productRepo.decrementStock(Map.of(PRODUCT_ID, 3)));
+        assertEquals(Optional.of(22), productRepo.findById(PRODUCT_ID).map(Product::getAmount));
+    }
+}
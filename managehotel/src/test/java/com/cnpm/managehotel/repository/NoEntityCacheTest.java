@@ -0,0 +1,35 @@
+package com.cnpm.managehotel.repository;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cache.internal.NoCachingRegionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+/**
+ * With {@code entity.cache.enabled} left at its default the second-level cache must be off, even though
+ * hibernate-jcache is on the classpath.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class NoEntityCacheTest {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void defaultConfiguration_ShouldNotStartARegionFactory() {
+        // Arrange
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+
+        // Act & Assert
+        assertFalse(sessionFactory.getSessionFactoryOptions().isSecondLevelCacheEnabled());
+        assertFalse(sessionFactory.getSessionFactoryOptions().isQueryCacheEnabled());
+        assertInstanceOf(NoCachingRegionFactory.class, sessionFactory.getCache().getRegionFactory());
+    }
+}
@@ -0,0 +1,204 @@
+package com.cnpm.managehotel.repository;
+
+import com.cnpm.managehotel.base.QueryCounter;
+import com.cnpm.managehotel.constant.RoomStatus;
+import com.cnpm.managehotel.constant.UserRole;
+import com.cnpm.managehotel.util.DateUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs the hot repository queries against the migrated schema and EXPLAINs the SQL Hibernate generated for them.
+ * A plan that scans a whole table, or does not use the index V8__hot_path_indexes.sql created for the query, fails.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class QueryPlanTest {
+
+    private static final long FIRST_ID = 20000L;
+    private static final int USERS = 200;
+    private static final int ROOMS = 100;
+    private static final int BOOKINGS = 400;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private BookingRepo bookingRepo;
+
+    @Autowired
+    private BookingdetailRepo bookingdetailRepo;
+
+    @Autowired
+    private RoomRepo roomRepo;
+
+    @Autowired
+    private InvoiceRepo invoiceRepo;
+
+    @Autowired
+    private UserRepo userRepo;
+
+    @Autowired
+    private ServiceRepo serviceRepo;
+
+    private final Date now = new Date();
+    private final Date nextWeek = Date.from(Instant.now().plus(7, ChronoUnit.DAYS));
+
+    @BeforeEach
+    void setUp() {
+        tearDown();
+
+        List<Object[]> users = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            long id = FIRST_ID + i;
+            users.add(new Object[]{id, "Guest " + i, "guest" + id + "@hotel.test", "09" + id, "0792" + id, UserRole.CUSTOMER});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO user (id, full_name, email, phone_number, identity_number, role) VALUES (?, ?, ?, ?, ?, ?)", users);
+
+        List<Object[]> rooms = new ArrayList<>();
+        for (int i = 0; i < ROOMS; i++) {
+            long id = FIRST_ID + i;
+            rooms.add(new Object[]{id, (int) id, i % 10 == 0 ? RoomStatus.MAINTAIN : RoomStatus.AVAILABLE});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO room (id, room_no, type, price, max_num, status) VALUES (?, ?, 'A', 500000, 2, ?)", rooms);
+
+        List<Object[]> bookings = new ArrayList<>();
+        List<Object[]> details = new ArrayList<>();
+        List<Object[]> invoices = new ArrayList<>();
+        Instant start = Instant.now().minus(BOOKINGS / 2, ChronoUnit.DAYS);
+        for (int i = 0; i < BOOKINGS; i++) {
+            long id = FIRST_ID + i;
+            Instant checkIn = start.plus(i, ChronoUnit.DAYS);
+            bookings.add(new Object[]{id, "QP-" + id, Timestamp.from(checkIn), Timestamp.from(checkIn.plus(2, ChronoUnit.DAYS)),
+                    i < BOOKINGS / 2, FIRST_ID + i % USERS});
+            details.add(new Object[]{id, id, FIRST_ID + i % ROOMS,
+                    java.sql.Date.valueOf(DateUtil.toLocalDate(Date.from(checkIn))),
+                    java.sql.Date.valueOf(DateUtil.toLocalDate(Date.from(checkIn.plus(2, ChronoUnit.DAYS))))});
+            if (i < BOOKINGS / 2) {
+                invoices.add(new Object[]{id, id, Timestamp.from(checkIn.plus(2, ChronoUnit.DAYS))});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO booking (id, booking_code, check_in, check_out, guest_num, is_paid, user_id) " +
+                "VALUES (?, ?, ?, ?, 2, ?, ?)", bookings);
+        jdbcTemplate.batchUpdate("INSERT INTO booking_detail (id, price, unit, is_foreign, extra_fee, booking_id, room_id, " +
+                "stay_start, stay_end) VALUES (?, 500000, 2, FALSE, 0, ?, ?, ?, ?)", details);
+        jdbcTemplate.batchUpdate("INSERT INTO invoice (id, booking_id, total_amount, paid_at) VALUES (?, ?, 1000000, ?)", invoices);
+
+        // H2 keeps the old selectivity when ANALYZE runs under a query timeout, and the oltp pool sets one
+        jdbcTemplate.execute((Statement statement) -> {
+            statement.setQueryTimeout(0);
+            return statement.execute("ANALYZE");
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM invoice WHERE id >= ?", FIRST_ID);
+        jdbcTemplate.update("DELETE FROM booking_detail WHERE id >= ?", FIRST_ID);
+        jdbcTemplate.update("DELETE FROM booking WHERE id >= ?", FIRST_ID);
+        jdbcTemplate.update("DELETE FROM room WHERE id >= ?", FIRST_ID);
+        jdbcTemplate.update("DELETE FROM user WHERE id >= ?", FIRST_ID);
+    }
+
+    @Test
+    void bookingQueries_ShouldUseIndexes() {
+        assertIndexed(() -> bookingRepo.findAllByCheckInBetween(now, nextWeek), "IDX_BOOKING_CHECK_IN_OUT");
+        assertIndexed(() -> bookingRepo.findByUserIdAndIsPaidFalse(FIRST_ID), "IDX_BOOKING_USER_PAID");
+        assertIndexed(() -> bookingRepo.countByCheckInAfter(now), "IDX_BOOKING_CHECK_IN_OUT");
+        assertIndexed(() -> bookingRepo.countByCheckOutAfter(now), "IDX_BOOKING_CHECK_OUT");
+        assertIndexed(() -> bookingRepo.getTotalGuestsNow(), "IDX_BOOKING_CHECK_IN_OUT");
+        assertIndexed(() -> bookingRepo.findByBookingCode("QP-" + FIRST_ID), "UK_BOOKING_BOOKING_CODE");
+    }
+
+    @Test
+    void bookingDetailQueries_ShouldUseIndexes() {
+        assertIndexed(() -> bookingdetailRepo.findByBookingId(FIRST_ID), "BOOKING_DETAIL_BOOKING");
+        assertIndexed(() -> bookingdetailRepo.findByBookingIdAndRoomId(FIRST_ID, FIRST_ID), "BOOKING_DETAIL_");
+        assertIndexed(() -> bookingdetailRepo.findNextArrivals(List.of(FIRST_ID, FIRST_ID + 1), now),
+                "IDX_BOOKING_PAID_CHECK_IN");
+        assertIndexed(() -> bookingdetailRepo.findInHouse(), "IDX_ROOM_STATUS_ARCHIVED");
+        assertIndexed(() -> bookingdetailRepo.existsStayOverlapping(List.of(FIRST_ID, FIRST_ID + 1),
+                LocalDate.now(), LocalDate.now().plusDays(2)), "IDX_BOOKING_DETAIL_ROOM_STAY");
+    }
+
+    @Test
+    void roomQueries_ShouldUseIndexes() {
+        List<Integer> roomNos = List.of((int) FIRST_ID, (int) FIRST_ID + 1);
+
+        assertIndexed(() -> roomRepo.findByRoomNo((int) FIRST_ID), "UK_ROOM_ROOM_NO");
+        // the semi-joins only need room_id, so either the composite index or the foreign key's own index will do
+        assertIndexed(() -> roomRepo.findRoomNosWithBookings(roomNos), "BOOKING_DETAIL_ROOM");
+        assertIndexed(() -> roomRepo.findRoomNosWithOpenBookings(roomNos), "BOOKING_DETAIL_ROOM");
+        assertIndexed(() -> roomRepo.countByStatus(RoomStatus.MAINTAIN), "IDX_ROOM_STATUS_ARCHIVED");
+        // every room is a candidate, so room itself is read in full; each one costs a single range probe
+        assertIndexed(() -> roomRepo.findAvailableRoomsBetween(LocalDate.now(), LocalDate.now().plusDays(2), LocalDate.now()),
+                "IDX_BOOKING_DETAIL_ROOM_STAY", "ROOM");
+    }
+
+    @Test
+    void invoiceAndServiceQueries_ShouldUseIndexes() {
+        assertIndexed(() -> invoiceRepo.findByBookingId(FIRST_ID), "UK_INVOICE_BOOKING_ID");
+        assertIndexed(() -> invoiceRepo.getRevenueBetween(now, nextWeek), "IDX_INVOICE_PAID_AT_AMOUNT");
+        assertIndexed(() -> serviceRepo.findByBookingId(FIRST_ID), "FK_SERVICE_BOOKING");
+    }
+
+    @Test
+    void userQueries_ShouldUseIndexes() {
+        String id = String.valueOf(FIRST_ID);
+
+        assertIndexed(() -> userRepo.findByIdentityNumber("0792" + id), "IDX_USER_IDENTITY_NUMBER");
+        assertIndexed(() -> userRepo.existsByIdentityNumber("0792" + id), "IDX_USER_IDENTITY_NUMBER");
+        assertIndexed(() -> userRepo.findByEmail("guest" + id + "@hotel.test"), "IDX_USER_EMAIL");
+        assertIndexed(() -> userRepo.existsByEmail("guest" + id + "@hotel.test"), "IDX_USER_EMAIL");
+        assertIndexed(() -> userRepo.findByPhoneNumber("09" + id), "IDX_USER_PHONE_NUMBER");
+    }
+
+    private void assertIndexed(Runnable query, String expectedIndex, String... scannedTables) {
+        QueryCounter.reset();
+        query.run();
+        List<String> statements = QueryCounter.statements();
+        assertFalse(statements.isEmpty(), "query did not reach the database");
+
+        String plan = String.join("\n", statements.stream().map(this::explain).toList());
+        String unexpected = plan;
+        for (String table : scannedTables) {
+            unexpected = unexpected.replace("PUBLIC." + table + ".tableScan", "");
+        }
+        assertFalse(unexpected.contains(".tableScan"), "full scan in plan:\n" + plan);
+        assertTrue(plan.toUpperCase(Locale.ROOT).contains(expectedIndex), expectedIndex + " not used:\n" + plan);
+    }
+
+    private String explain(String sql) {
+        return jdbcTemplate.execute((java.sql.Connection connection) -> {
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+                int parameters = statement.getParameterMetaData().getParameterCount();
+                for (int i = 1; i <= parameters; i++) {
+                    statement.setObject(i, null);
+                }
+                try (ResultSet rs = statement.executeQuery()) {
+                    return rs.next() ? rs.getString(1) : "";
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,129 @@
+package com.cnpm.managehotel.repository;
+
+import com.cnpm.managehotel.constant.RoomStatus;
+import com.cnpm.managehotel.dto.request.BookingRequest;
+import com.cnpm.managehotel.entity.Room;
+import com.cnpm.managehotel.service.BookingService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Books a room through {@link BookingService} and checks the stay dates written on the booking line and the
+ * availability probe that reads them.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class RoomAvailabilityTest {
+
+    private static final long FIRST_ID = 21000L;
+    private static final String IDENTITY = "AV-079200021000";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private RoomRepo roomRepo;
+
+    @BeforeEach
+    void setUp() {
+        tearDown();
+        for (int i = 0; i < 3; i++) {
+            jdbcTemplate.update("INSERT INTO room (id, room_no, type, price, max_num, status) VALUES (?, ?, 'A', 500000, 2, ?)",
+                    FIRST_ID + i, (int) FIRST_ID + i, RoomStatus.AVAILABLE);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        List<Long> bookingIds = jdbcTemplate.queryForList(
+                "SELECT booking_id FROM booking_detail WHERE room_id >= ?", Long.class, FIRST_ID);
+        jdbcTemplate.update("DELETE FROM booking_detail WHERE room_id >= ?", FIRST_ID);
+        bookingIds.forEach(id -> jdbcTemplate.update("DELETE FROM booking WHERE id = ?", id));
+        jdbcTemplate.update("DELETE FROM room WHERE id >= ?", FIRST_ID);
+        jdbcTemplate.update("DELETE FROM user WHERE identity_number = ?", IDENTITY);
+    }
+
+    @Test
+    void save_ShouldWriteStayDatesOnEachLine() {
+        // Act
+        book(LocalDate.of(2030, 6, 10), LocalDate.of(2030, 6, 12), (int) FIRST_ID, (int) FIRST_ID + 1);
+
+        // Assert
+        List<Map<String, Object>> lines = jdbcTemplate.queryForList(
+                "SELECT stay_start, stay_end FROM booking_detail WHERE room_id >= ?", FIRST_ID);
+        assertEquals(2, lines.size());
+        for (Map<String, Object> line : lines) {
+            assertEquals(Date.valueOf("2030-06-10"), line.get("STAY_START"));
+            assertEquals(Date.valueOf("2030-06-12"), line.get("STAY_END"));
+        }
+    }
+
+    @Test
+    void findAvailableRoomsBetween_ShouldExcludeRoomsWithOverlappingStays() {
+        // Arrange
+        book(LocalDate.of(2030, 6, 10), LocalDate.of(2030, 6, 12), (int) FIRST_ID);
+
+        // Act & Assert
+        assertEquals(List.of((int) FIRST_ID + 1, (int) FIRST_ID + 2),
+                available(LocalDate.of(2030, 6, 11), LocalDate.of(2030, 6, 13)));
+        // a stay ending on the requested check-in day still blocks the room, as the DATE() query did
+        assertEquals(List.of((int) FIRST_ID + 1, (int) FIRST_ID + 2),
+                available(LocalDate.of(2030, 6, 12), LocalDate.of(2030, 6, 14)));
+        assertEquals(List.of((int) FIRST_ID, (int) FIRST_ID + 1, (int) FIRST_ID + 2),
+                available(LocalDate.of(2030, 6, 13), LocalDate.of(2030, 6, 15)));
+        assertEquals(List.of((int) FIRST_ID, (int) FIRST_ID + 1, (int) FIRST_ID + 2),
+                available(LocalDate.of(2030, 6, 5), LocalDate.of(2030, 6, 10)));
+    }
+
+    @Test
+    void findAvailableRoomsBetween_DirtyRoom_ShouldOnlyBlockArrivalsToday() {
+        // Arrange
+        jdbcTemplate.update("UPDATE room SET status = ? WHERE id = ?", RoomStatus.DIRTY, FIRST_ID);
+        LocalDate today = LocalDate.now();
+
+        // Act & Assert
+        assertEquals(List.of((int) FIRST_ID + 1, (int) FIRST_ID + 2), available(today, today.plusDays(2)));
+        assertEquals(List.of((int) FIRST_ID, (int) FIRST_ID + 1, (int) FIRST_ID + 2),
+                available(today.plusDays(7), today.plusDays(9)));
+    }
+
+    private void book(LocalDate checkIn, LocalDate checkOut, int... roomNos) {
+        BookingRequest request = new BookingRequest();
+        request.setFullName("Availability Guest");
+        request.setIdentityNumber(IDENTITY);
+        request.setGuestNum(2);
+        request.setCheckIn(at(checkIn.atTime(14, 0)));
+        request.setCheckOut(at(checkOut.atTime(12, 0)));
+        request.setRoomNo(roomNos);
+        bookingService.save(request);
+    }
+
+    private List<Integer> available(LocalDate checkIn, LocalDate checkOut) {
+        return roomRepo.findAvailableRoomsBetween(checkIn, checkOut, LocalDate.now()).stream()
+                .map(Room::getRoomNo)
+                .filter(roomNo -> roomNo >= FIRST_ID)
+                .sorted()
+                .toList();
+    }
+
+    private static java.util.Date at(LocalDateTime time) {
+        return java.util.Date.from(time.atZone(ZoneId.systemDefault()).toInstant());
+    }
+}
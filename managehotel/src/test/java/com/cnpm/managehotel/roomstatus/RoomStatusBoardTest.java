@@ -0,0 +1,105 @@
+package com.cnpm.managehotel.roomstatus;
+
+import com.cnpm.managehotel.catalog.RoomSummary;
+import com.cnpm.managehotel.constant.RoomStatus;
+import com.cnpm.managehotel.entity.RoomStatusTransition;
+import com.cnpm.managehotel.repository.RoomRepo;
+import com.cnpm.managehotel.repository.RoomStatusTransitionRepo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RoomStatusBoardTest {
+
+    private static final Instant CHANGED_AT = Instant.parse("2026-01-10T10:00:00Z");
+
+    @Mock
+    private RoomRepo roomRepo;
+
+    @Mock
+    private RoomStatusTransitionRepo roomStatusTransitionRepo;
+
+    @InjectMocks
+    private RoomStatusBoard roomStatusBoard;
+
+    @BeforeEach
+    void setUp() {
+        when(roomStatusTransitionRepo.findMaxId()).thenReturn(5L);
+        when(roomStatusTransitionRepo.findLastChangePerRoom())
+                .thenReturn(List.<Object[]>of(new Object[]{1L, Date.from(CHANGED_AT)}));
+        RoomSummary room101 = summary(1L, 101, RoomStatus.OCCUPIED);
+        RoomSummary room102 = summary(2L, 102, RoomStatus.AVAILABLE);
+        when(roomRepo.findAllSummaries()).thenReturn(List.of(room101, room102));
+        roomStatusBoard.rebuild();
+    }
+
+    @Test
+    void sync_TransitionFromAnotherNode_ShouldApplyItAndPollAfterIt() {
+        // Arrange
+        when(roomStatusTransitionRepo.findByIdGreaterThanOrderByIdAsc(5L))
+                .thenReturn(List.of(transition(6L, 101, RoomStatus.DIRTY, CHANGED_AT.plusSeconds(60))));
+
+        // Act
+        roomStatusBoard.sync();
+        roomStatusBoard.sync();
+
+        // Assert
+        assertEquals(RoomStatus.DIRTY, roomStatusBoard.find(101).orElseThrow().getStatus());
+        verify(roomStatusTransitionRepo).findByIdGreaterThanOrderByIdAsc(6L);
+    }
+
+    @Test
+    void sync_TransitionOlderThanEntry_ShouldKeepNewerStatus() {
+        // Arrange
+        when(roomStatusTransitionRepo.findByIdGreaterThanOrderByIdAsc(5L))
+                .thenReturn(List.of(transition(6L, 101, RoomStatus.AVAILABLE, CHANGED_AT.minusSeconds(60))));
+
+        // Act
+        roomStatusBoard.sync();
+
+        // Assert
+        assertEquals(RoomStatus.OCCUPIED, roomStatusBoard.find(101).orElseThrow().getStatus());
+    }
+
+    @Test
+    void resync_RoomDeletedOnAnotherNode_ShouldDropIt() {
+        // Arrange
+        RoomSummary room101 = summary(1L, 101, RoomStatus.OCCUPIED);
+        when(roomRepo.findAllSummaries()).thenReturn(List.of(room101));
+
+        // Act
+        roomStatusBoard.resync();
+
+        // Assert
+        assertTrue(roomStatusBoard.find(102).isEmpty());
+        assertEquals(1, roomStatusBoard.findAll().size());
+    }
+
+    private static RoomSummary summary(Long id, int roomNo, String status) {
+        RoomSummary summary = mock(RoomSummary.class);
+        when(summary.getId()).thenReturn(id);
+        when(summary.getRoomNo()).thenReturn(roomNo);
+        when(summary.getStatus()).thenReturn(status);
+        return summary;
+    }
+
+    private static RoomStatusTransition transition(Long id, int roomNo, String to, Instant changedAt) {
+        return RoomStatusTransition.builder()
+                .id(id)
+                .roomNo(roomNo)
+                .toStatus(to)
+                .changedAt(Date.from(changedAt))
+                .build();
+    }
+}
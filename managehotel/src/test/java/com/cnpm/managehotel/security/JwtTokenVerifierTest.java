@@ -0,0 +1,85 @@
+package com.cnpm.managehotel.security;
+
+import com.cnpm.managehotel.exception.AppException;
+import com.cnpm.managehotel.exception.ErrorCode;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.MACSigner;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JwtTokenVerifierTest {
+
+    private static final String SIGNER_KEY = "YcDgXHZpD/FJgdzbrKrK//SSuoGRCr58coNezcuNkbGdc9tXGqgTAZiExeiHC3+R";
+
+    @Mock
+    private TokenRevocationStore tokenRevocationStore;
+
+    private JwtTokenVerifier jwtTokenVerifier;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        jwtTokenVerifier = new JwtTokenVerifier(SIGNER_KEY, tokenRevocationStore);
+    }
+
+    @Test
+    void verify_ValidToken_ShouldReturnIt() throws Exception {
+        // Arrange
+        String token = sign(JWSAlgorithm.HS512, claims().build());
+
+        // Act
+        SignedJWT signedJWT = jwtTokenVerifier.verify(token);
+
+        // Assert
+        assertEquals("admin@gmail.com", signedJWT.getJWTClaimsSet().getSubject());
+    }
+
+    @Test
+    void verify_OtherMacAlgorithm_ShouldThrow() throws Exception {
+        // Arrange
+        String token = sign(JWSAlgorithm.HS256, claims().build());
+
+        // Act & Assert
+        AppException exception = assertThrows(AppException.class, () -> jwtTokenVerifier.verify(token));
+        assertEquals(ErrorCode.UNAUTHENTICATED, exception.getErrorCode());
+        verifyNoInteractions(tokenRevocationStore);
+    }
+
+    @Test
+    void verify_NotBeforeInTheFuture_ShouldThrow() throws Exception {
+        // Arrange
+        String token = sign(JWSAlgorithm.HS512, claims().notBeforeTime(Date.from(Instant.now().plusSeconds(600))).build());
+
+        // Act & Assert
+        AppException exception = assertThrows(AppException.class, () -> jwtTokenVerifier.verify(token));
+        assertEquals(ErrorCode.UNAUTHENTICATED, exception.getErrorCode());
+    }
+
+    private static JWTClaimsSet.Builder claims() {
+        return new JWTClaimsSet.Builder()
+                .subject("admin@gmail.com")
+                .issuer("managehotel.com")
+                .issueTime(new Date())
+                .expirationTime(Date.from(Instant.now().plusSeconds(3600)))
+                .jwtID(UUID.randomUUID().toString());
+    }
+
+    private static String sign(JWSAlgorithm algorithm, JWTClaimsSet claims) throws Exception {
+        SignedJWT signedJWT = new SignedJWT(new JWSHeader(algorithm), claims);
+        signedJWT.sign(new MACSigner(SIGNER_KEY.getBytes()));
+        return signedJWT.serialize();
+    }
+}
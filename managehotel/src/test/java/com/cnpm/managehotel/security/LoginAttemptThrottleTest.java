@@ -0,0 +1,39 @@
+package com.cnpm.managehotel.security;
+
+import com.cnpm.managehotel.exception.AppException;
+import com.cnpm.managehotel.exception.ErrorCode;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoginAttemptThrottleTest {
+
+    @Test
+    void acquire_OverAccountBudget_ShouldReject() {
+        // Arrange
+        LoginAttemptThrottle throttle = new LoginAttemptThrottle(1024, 3, 0, 100, 0);
+
+        // Act
+        for (int i = 0; i < 3; i++) {
+            throttle.acquire("staff@hotel.vn", "10.0.0." + i);
+        }
+
+        // Assert
+        AppException exception = assertThrows(AppException.class,
+                () -> throttle.acquire("staff@hotel.vn", "10.0.0.9"));
+        assertEquals(ErrorCode.TOO_MANY_REQUESTS, exception.getErrorCode());
+        assertEquals(429, exception.getErrorCode().getStatusCode().value());
+    }
+
+    @Test
+    void acquire_OverIpBudget_ShouldRejectOtherAccounts() {
+        // Arrange
+        LoginAttemptThrottle throttle = new LoginAttemptThrottle(1024, 100, 0, 2, 0);
+        throttle.acquire("a@hotel.vn", "10.0.0.1");
+        throttle.acquire("b@hotel.vn", "10.0.0.1");
+
+        // Act & Assert
+        assertThrows(AppException.class, () -> throttle.acquire("c@hotel.vn", "10.0.0.1"));
+        assertDoesNotThrow(() -> throttle.acquire("c@hotel.vn", "10.0.0.2"));
+    }
+}
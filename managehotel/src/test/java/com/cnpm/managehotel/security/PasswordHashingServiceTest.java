@@ -0,0 +1,66 @@
+package com.cnpm.managehotel.security;
+
+import com.cnpm.managehotel.exception.AppException;
+import com.cnpm.managehotel.exception.ErrorCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class PasswordHashingServiceTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private final ExecutorService callers = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        callers.shutdownNow();
+    }
+
+    @Test
+    void encode_ShouldDelegateToPasswordEncoder() {
+        // Arrange
+        PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
+        when(passwordEncoder.encode("secret")).thenReturn("hashed");
+        PasswordHashingService service = new PasswordHashingService(passwordEncoder, 1, 1, 1000);
+
+        // Act & Assert
+        assertEquals("hashed", service.encode("secret"));
+        service.shutdown();
+    }
+
+    @Test
+    void encode_WhenQueueIsFull_ShouldRejectWithTooManyRequests() throws Exception {
+        // Arrange
+        PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
+        CountDownLatch started = new CountDownLatch(1);
+        when(passwordEncoder.encode(any())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return "hashed";
+        });
+        PasswordHashingService service = new PasswordHashingService(passwordEncoder, 1, 1, 5000);
+
+        callers.submit(() -> service.encode("running"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        callers.submit(() -> service.encode("queued"));
+        while (service.queueDepth() < 1) {
+            Thread.onSpinWait();
+        }
+
+        // Act & Assert
+        AppException exception = assertThrows(AppException.class, () -> service.encode("rejected"));
+        assertEquals(ErrorCode.TOO_MANY_REQUESTS, exception.getErrorCode());
+        service.shutdown();
+    }
+}
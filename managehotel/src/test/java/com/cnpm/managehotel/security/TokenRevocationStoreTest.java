@@ -0,0 +1,93 @@
+package com.cnpm.managehotel.security;
+
+import com.cnpm.managehotel.entity.InvalidatedToken;
+import com.cnpm.managehotel.repository.InvalidatedTokenRepo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationStoreTest {
+
+    @Mock
+    private InvalidatedTokenRepo invalidatedTokenRepo;
+
+    private TokenRevocationStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new TokenRevocationStore(invalidatedTokenRepo, 1000, 5000);
+    }
+
+    @Test
+    void load_ShouldRememberActiveRows() {
+        // Arrange
+        InvalidatedToken active = InvalidatedToken.builder()
+                .id("jti-1")
+                .expiryTime(new Date(System.currentTimeMillis() + 60_000))
+                .revokedAt(new Date())
+                .build();
+        when(invalidatedTokenRepo.findByExpiryTimeAfter(any(Date.class))).thenReturn(List.of(active));
+
+        // Act
+        store.load();
+
+        // Assert
+        assertTrue(store.isRevoked("jti-1"));
+        assertFalse(store.isRevoked("jti-2"));
+    }
+
+    @Test
+    void revoke_ShouldPersistAndAnswerFromMemory() {
+        // Act
+        store.revoke("jti-1", new Date(System.currentTimeMillis() + 60_000));
+
+        // Assert
+        assertTrue(store.isRevoked("jti-1"));
+        verify(invalidatedTokenRepo).save(any(InvalidatedToken.class));
+        verify(invalidatedTokenRepo, never()).existsById(any());
+    }
+
+    @Test
+    void purge_ShouldDropExpiredEntries() {
+        // Arrange
+        store.revoke("expired", new Date(System.currentTimeMillis() - 1_000));
+        store.revoke("active", new Date(System.currentTimeMillis() + 60_000));
+
+        // Act
+        store.purge();
+
+        // Assert
+        assertFalse(store.isRevoked("expired"));
+        assertTrue(store.isRevoked("active"));
+        assertEquals(1, store.size());
+        verify(invalidatedTokenRepo).deleteExpired(any(Date.class));
+    }
+
+    @Test
+    void sync_ShouldPickUpRevocationsFromOtherNodes() {
+        // Arrange
+        InvalidatedToken remote = InvalidatedToken.builder()
+                .id("remote-jti")
+                .expiryTime(new Date(System.currentTimeMillis() + 60_000))
+                .revokedAt(new Date())
+                .build();
+        when(invalidatedTokenRepo.findByRevokedAtAfterAndExpiryTimeAfter(any(Date.class), any(Date.class)))
+                .thenReturn(List.of(remote));
+
+        // Act
+        store.sync();
+
+        // Assert
+        assertTrue(store.isRevoked("remote-jti"));
+    }
+}
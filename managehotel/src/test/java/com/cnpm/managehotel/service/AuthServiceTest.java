@@ -2,6 +2,7 @@ package com.cnpm.managehotel.service;
 
 import com.cnpm.managehotel.dto.UserDTO;
 import com.cnpm.managehotel.exception.AppException;
+import com.cnpm.managehotel.security.PasswordHashingService;
 import com.cnpm.managehotel.service.impl.AuthServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -9,7 +10,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.crypto.password.PasswordEncoder;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -22,7 +22,7 @@ class AuthServiceTest {
     private UserService userService;
 
     @Mock
-    private PasswordEncoder passwordEncoder;
+    private PasswordHashingService passwordHashingService;
 
     @InjectMocks
     private AuthServiceImpl authService;
@@ -46,14 +46,14 @@ class AuthServiceTest {
     @Test
     void register_WithValidData_ShouldSucceed() {
         // Arrange
-        when(passwordEncoder.encode(any())).thenReturn("encodedPassword");
+        when(passwordHashingService.encode(any())).thenReturn("encodedPassword");
         when(userService.save(any())).thenReturn(validUser);
 
         // Act
         assertDoesNotThrow(() -> authService.register(validUser));
 
         // Assert
-        verify(passwordEncoder).encode("password123");
+        verify(passwordHashingService).encode("password123");
         verify(userService).save(any(UserDTO.class));
     }
 
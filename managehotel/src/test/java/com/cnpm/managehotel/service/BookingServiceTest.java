@@ -23,6 +23,7 @@ import com.cnpm.managehotel.repository.BookingdetailRepo;
 import com.cnpm.managehotel.repository.RoomRepo;
 import com.cnpm.managehotel.repository.UserRepo;
 import com.cnpm.managehotel.service.impl.BookingServiceImpl;
+import com.cnpm.managehotel.stay.InHouseRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -69,11 +70,14 @@ class BookingServiceTest {
     private BookingdetailService bookingdetailService;
 
     @Mock
-    private RoomService roomService;
+    private RoomStatusService roomStatusService;
 
     @Mock
     private UserService userService;
 
+    @Mock
+    private InHouseRegistry inHouseRegistry;
+
     @InjectMocks
     private BookingServiceImpl bookingService;
 
@@ -204,6 +208,50 @@ class BookingServiceTest {
         assertEquals(ErrorCode.INVALID_DATE, exception.getErrorCode());
     }
 
+    @Test
+    void save_RoomWithOverlappingStay_ShouldThrowRoomInUse() {
+        // Arrange
+        when(roomRepo.findByRoomNoIn(any())).thenReturn(List.of(room));
+        when(bookingdetailRepo.existsStayOverlapping(List.of(1L), LocalDate.now(), LocalDate.now().plusDays(2)))
+                .thenReturn(true);
+
+        // Act & Assert
+        AppException exception = assertThrows(AppException.class, () -> bookingService.save(bookingRequest));
+        assertEquals(ErrorCode.ROOM_IN_USE, exception.getErrorCode());
+        verify(bookingRepo, never()).save(any(Booking.class));
+    }
+
+    @Test
+    void save_DirtyRoomArrivingToday_ShouldThrowRoomInUse() {
+        // Arrange
+        room.setStatus(RoomStatus.DIRTY);
+        when(roomRepo.findByRoomNoIn(any())).thenReturn(List.of(room));
+
+        // Act & Assert
+        AppException exception = assertThrows(AppException.class, () -> bookingService.save(bookingRequest));
+        assertEquals(ErrorCode.ROOM_IN_USE, exception.getErrorCode());
+    }
+
+    @Test
+    void save_DirtyRoomArrivingNextWeek_ShouldCreateBooking() {
+        // Arrange
+        room.setStatus(RoomStatus.DIRTY);
+        bookingRequest.setCheckIn(Date.from(LocalDate.now().plusDays(7).atStartOfDay(ZoneId.systemDefault()).toInstant()));
+        bookingRequest.setCheckOut(Date.from(LocalDate.now().plusDays(9).atStartOfDay(ZoneId.systemDefault()).toInstant()));
+        when(roomRepo.findByRoomNoIn(any())).thenReturn(List.of(room));
+        when(userRepo.findByIdentityNumber(bookingRequest.getIdentityNumber())).thenReturn(Optional.of(user));
+        when(bookingMapper.toEntity(bookingRequest)).thenReturn(booking);
+        when(bookingRepo.save(any(Booking.class))).thenReturn(booking);
+        when(bookingMapper.toDto(booking)).thenReturn(bookingResponse);
+
+        // Act
+        BookingResponse result = bookingService.save(bookingRequest);
+
+        // Assert
+        assertEquals(bookingResponse.getBookingCode(), result.getBookingCode());
+        verify(bookingdetailService).save(any(BookingdetailDTO.class));
+    }
+
     @Test
     void save_WithNonExistentRoom_ShouldThrowException() {
         // Arrange
@@ -227,6 +275,7 @@ class BookingServiceTest {
         // Assert
         verify(bookingdetailService).delete(booking.getId(), RoomStatus.AVAILABLE);
         verify(bookingRepo).delete(booking);
+        verify(inHouseRegistry).removeBooking(booking.getId());
     }
 
     @Test
@@ -0,0 +1,92 @@
+package com.cnpm.managehotel.service;
+
+import com.cnpm.managehotel.constant.HousekeepingStatus;
+import com.cnpm.managehotel.entity.HousekeepingTask;
+import com.cnpm.managehotel.housekeeping.HousekeepingQueue;
+import com.cnpm.managehotel.housekeeping.QueuedTask;
+import com.cnpm.managehotel.repository.HousekeepingTaskRepo;
+import com.cnpm.managehotel.repository.RoomRepo;
+import com.cnpm.managehotel.service.impl.HousekeepingServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class HousekeepingServiceTest {
+
+    private static final Instant NOW = Instant.parse("2026-03-01T08:00:00Z");
+
+    @Mock
+    private HousekeepingTaskRepo housekeepingTaskRepo;
+
+    @Mock
+    private HousekeepingQueue housekeepingQueue;
+
+    @Mock
+    private RoomRepo roomRepo;
+
+    @Mock
+    private RoomStatusService roomStatusService;
+
+    @InjectMocks
+    private HousekeepingServiceImpl housekeepingService;
+
+    @Test
+    void claim_CandidateLockedByAnotherNode_ShouldPutItBackAndClaimTheNext() {
+        // Arrange
+        QueuedTask locked = queued(1L, 101);
+        QueuedTask free = queued(2L, 102);
+        when(housekeepingQueue.poll()).thenReturn(locked, free);
+        when(housekeepingTaskRepo.lockPending(1L)).thenReturn(Optional.empty());
+        when(housekeepingTaskRepo.existsByIdAndStatus(1L, HousekeepingStatus.PENDING)).thenReturn(true);
+        when(housekeepingTaskRepo.lockPending(2L)).thenReturn(Optional.of(task(2L, 102)));
+
+        // Act
+        HousekeepingTask claimed = housekeepingService.claim("maid@gmail.com");
+
+        // Assert
+        assertEquals(2L, claimed.getId());
+        assertEquals(HousekeepingStatus.CLAIMED, claimed.getStatus());
+        verify(housekeepingQueue).requeue(List.of(locked));
+        verify(housekeepingQueue).restoreOnRollback(free);
+    }
+
+    @Test
+    void claim_CandidateNoLongerPending_ShouldDropIt() {
+        // Arrange
+        QueuedTask gone = queued(1L, 101);
+        QueuedTask free = queued(2L, 102);
+        when(housekeepingQueue.poll()).thenReturn(gone, free);
+        when(housekeepingTaskRepo.lockPending(1L)).thenReturn(Optional.empty());
+        when(housekeepingTaskRepo.existsByIdAndStatus(1L, HousekeepingStatus.PENDING)).thenReturn(false);
+        when(housekeepingTaskRepo.lockPending(2L)).thenReturn(Optional.of(task(2L, 102)));
+
+        // Act
+        housekeepingService.claim("maid@gmail.com");
+
+        // Assert
+        verify(housekeepingQueue).requeue(List.of());
+    }
+
+    private static QueuedTask queued(Long taskId, int roomNo) {
+        return new QueuedTask(taskId, roomNo + 0L, roomNo, null, NOW);
+    }
+
+    private static HousekeepingTask task(Long id, int roomNo) {
+        return HousekeepingTask.builder()
+                .id(id)
+                .roomId(roomNo + 0L)
+                .roomNo(roomNo)
+                .status(HousekeepingStatus.PENDING)
+                .build();
+    }
+}
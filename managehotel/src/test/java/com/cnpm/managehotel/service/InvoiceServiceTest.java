@@ -1,5 +1,7 @@
 package com.cnpm.managehotel.service;
 
+import com.cnpm.managehotel.catalog.CatalogCache;
+import com.cnpm.managehotel.catalog.CatalogProduct;
 import com.cnpm.managehotel.dto.response.InvoiceResponse;
 import com.cnpm.managehotel.dto.response.ServiceResponse;
 import com.cnpm.managehotel.entity.*;
@@ -44,6 +46,9 @@ class InvoiceServiceTest {
     @Mock
     private InvoiceRepo invoiceRepo;
 
+    @Mock
+    private CatalogCache catalogCache;
+
     @Mock
     private BookingMapper bookingMapper;
 
@@ -105,9 +110,10 @@ class InvoiceServiceTest {
     @Test
     void preview_WithValidBookingCode_ShouldReturnInvoiceResponse() {
         // Arrange
-        when(bookingRepo.findByBookingCode("BK-12345678")).thenReturn(Optional.of(booking));
+        when(bookingRepo.findWithUserByBookingCode("BK-12345678")).thenReturn(Optional.of(booking));
         when(bookingdetailRepo.findByBookingId(booking.getId())).thenReturn(Arrays.asList(bookingDetail));
         when(serviceRepo.findByBookingId(booking.getId())).thenReturn(Arrays.asList(service));
+        when(catalogCache.getProduct(product.getId())).thenReturn(CatalogProduct.of(product));
         when(invoiceRepo.save(any(Invoice.class))).thenReturn(new Invoice());
 
         // Act
@@ -126,7 +132,7 @@ class InvoiceServiceTest {
         assertEquals(350000, response.getTotalAmount());
         assertEquals("Unpaid", response.getPaymentStatus());
 
-        verify(bookingRepo).findByBookingCode("BK-12345678");
+        verify(bookingRepo).findWithUserByBookingCode("BK-12345678");
         verify(bookingdetailRepo).findByBookingId(booking.getId());
         verify(serviceRepo).findByBookingId(booking.getId());
         verify(invoiceRepo).save(any(Invoice.class));
@@ -135,21 +141,21 @@ class InvoiceServiceTest {
     @Test
     void preview_WithNonExistentBookingCode_ShouldThrowException() {
         // Arrange
-        when(bookingRepo.findByBookingCode("INVALID-CODE")).thenReturn(Optional.empty());
+        when(bookingRepo.findWithUserByBookingCode("INVALID-CODE")).thenReturn(Optional.empty());
 
         // Act & Assert
         AppException exception = assertThrows(AppException.class,
                 () -> invoiceService.preview("INVALID-CODE"));
         assertEquals(ErrorCode.BOOKING_NOT_FOUND, exception.getErrorCode());
 
-        verify(bookingRepo).findByBookingCode("INVALID-CODE");
+        verify(bookingRepo).findWithUserByBookingCode("INVALID-CODE");
         verifyNoInteractions(bookingdetailRepo, serviceRepo, invoiceRepo);
     }
 
     @Test
     void preview_WithNoServices_ShouldCalculateOnlyRoomTotal() {
         // Arrange
-        when(bookingRepo.findByBookingCode("BK-12345678")).thenReturn(Optional.of(booking));
+        when(bookingRepo.findWithUserByBookingCode("BK-12345678")).thenReturn(Optional.of(booking));
         when(bookingdetailRepo.findByBookingId(booking.getId())).thenReturn(Arrays.asList(bookingDetail));
         when(serviceRepo.findByBookingId(booking.getId())).thenReturn(List.of());
         when(invoiceRepo.save(any(Invoice.class))).thenReturn(new Invoice());
@@ -164,7 +170,7 @@ class InvoiceServiceTest {
         assertEquals(300000, response.getTotalAmount());
         assertTrue(response.getServices().isEmpty());
 
-        verify(bookingRepo).findByBookingCode("BK-12345678");
+        verify(bookingRepo).findWithUserByBookingCode("BK-12345678");
         verify(bookingdetailRepo).findByBookingId(booking.getId());
         verify(serviceRepo).findByBookingId(booking.getId());
         verify(invoiceRepo).save(any(Invoice.class));
@@ -184,10 +190,11 @@ class InvoiceServiceTest {
         bookingDetail2.setRoom(room2);
         bookingDetail2.setUnit(2);
 
-        when(bookingRepo.findByBookingCode("BK-12345678")).thenReturn(Optional.of(booking));
+        when(bookingRepo.findWithUserByBookingCode("BK-12345678")).thenReturn(Optional.of(booking));
         when(bookingdetailRepo.findByBookingId(booking.getId()))
                 .thenReturn(Arrays.asList(bookingDetail, bookingDetail2));
         when(serviceRepo.findByBookingId(booking.getId())).thenReturn(Arrays.asList(service));
+        when(catalogCache.getProduct(product.getId())).thenReturn(CatalogProduct.of(product));
         when(invoiceRepo.save(any(Invoice.class))).thenReturn(new Invoice());
 
         // Act
@@ -200,7 +207,7 @@ class InvoiceServiceTest {
         assertEquals(50000, response.getServiceTotal());
         assertEquals(750000, response.getTotalAmount());
 
-        verify(bookingRepo).findByBookingCode("BK-12345678");
+        verify(bookingRepo).findWithUserByBookingCode("BK-12345678");
         verify(bookingdetailRepo).findByBookingId(booking.getId());
         verify(serviceRepo).findByBookingId(booking.getId());
         verify(invoiceRepo).save(any(Invoice.class));
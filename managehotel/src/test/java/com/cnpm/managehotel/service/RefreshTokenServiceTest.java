@@ -0,0 +1,108 @@
+package com.cnpm.managehotel.service;
+
+import com.cnpm.managehotel.entity.RefreshToken;
+import com.cnpm.managehotel.entity.User;
+import com.cnpm.managehotel.exception.AppException;
+import com.cnpm.managehotel.exception.ErrorCode;
+import com.cnpm.managehotel.repository.RefreshTokenRepo;
+import com.cnpm.managehotel.service.impl.RefreshTokenServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenServiceTest {
+
+    @Mock
+    private RefreshTokenRepo refreshTokenRepo;
+
+    @InjectMocks
+    private RefreshTokenServiceImpl refreshTokenService;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(refreshTokenService, "refreshTokenTtl", 3600L);
+        user = User.builder().id(1L).email("staff@hotel.vn").build();
+    }
+
+    private RefreshToken issueAndCapture(String[] raw) {
+        raw[0] = refreshTokenService.issue(user, null);
+        ArgumentCaptor<RefreshToken> captor = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepo).save(captor.capture());
+        return captor.getValue();
+    }
+
+    @Test
+    void issue_ShouldStoreOnlyHashOfSecret() {
+        // Act
+        String[] raw = new String[1];
+        RefreshToken stored = issueAndCapture(raw);
+
+        // Assert
+        assertTrue(raw[0].startsWith(stored.getId() + "."));
+        assertFalse(raw[0].contains(stored.getTokenHash()));
+        assertNotNull(stored.getFamilyId());
+    }
+
+    @Test
+    void consume_FirstUse_ShouldMarkUsed() {
+        // Arrange
+        String[] raw = new String[1];
+        RefreshToken stored = issueAndCapture(raw);
+        when(refreshTokenRepo.findByIdForUpdate(stored.getId())).thenReturn(Optional.of(stored));
+
+        // Act
+        RefreshToken consumed = refreshTokenService.consume(raw[0]);
+
+        // Assert
+        assertNotNull(consumed.getUsedAt());
+        verify(refreshTokenRepo, never()).revokeFamily(anyString());
+    }
+
+    @Test
+    void consume_Reuse_ShouldRevokeWholeFamily() {
+        // Arrange
+        String[] raw = new String[1];
+        RefreshToken stored = issueAndCapture(raw);
+        when(refreshTokenRepo.findByIdForUpdate(stored.getId())).thenReturn(Optional.of(stored));
+        refreshTokenService.consume(raw[0]);
+
+        // Act & Assert
+        AppException exception = assertThrows(AppException.class, () -> refreshTokenService.consume(raw[0]));
+        assertEquals(ErrorCode.INVALID_REFRESH_TOKEN, exception.getErrorCode());
+        verify(refreshTokenRepo).revokeFamily(stored.getFamilyId());
+    }
+
+    @Test
+    void consume_WrongSecret_ShouldRejectWithoutRevoking() {
+        // Arrange
+        String[] raw = new String[1];
+        RefreshToken stored = issueAndCapture(raw);
+        when(refreshTokenRepo.findByIdForUpdate(stored.getId())).thenReturn(Optional.of(stored));
+
+        // Act & Assert
+        assertThrows(AppException.class, () -> refreshTokenService.consume(stored.getId() + ".forged"));
+        verify(refreshTokenRepo, never()).revokeFamily(anyString());
+        assertNull(stored.getUsedAt());
+    }
+
+    @Test
+    void consume_Malformed_ShouldReject() {
+        assertThrows(AppException.class, () -> refreshTokenService.consume("no-separator"));
+        verify(refreshTokenRepo, never()).findByIdForUpdate(any());
+    }
+}
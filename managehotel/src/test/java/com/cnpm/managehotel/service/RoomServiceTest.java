@@ -1,5 +1,10 @@
 package com.cnpm.managehotel.service;
 
+import com.cnpm.managehotel.catalog.RoomCatalog;
+import com.cnpm.managehotel.roomstatus.RoomStatusBoard;
+import com.cnpm.managehotel.service.HousekeepingService;
+import com.cnpm.managehotel.service.RoomStatusService;
+import com.cnpm.managehotel.catalog.RoomSummary;
 import com.cnpm.managehotel.constant.RoomStatus;
 import com.cnpm.managehotel.dto.RoomDTO;
 import com.cnpm.managehotel.entity.Room;
@@ -15,6 +20,8 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.LocalDate;
+import java.time.ZoneId;
 import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -30,6 +37,18 @@ class RoomServiceTest {
     @Mock
     private RoomMapper roomMapper;
 
+    @Mock
+    private RoomCatalog roomCatalog;
+
+    @Mock
+    private RoomStatusService roomStatusService;
+
+    @Mock
+    private RoomStatusBoard roomStatusBoard;
+
+    @Mock
+    private HousekeepingService housekeepingService;
+
     @InjectMocks
     private RoomServiceImpl roomService;
 
@@ -65,8 +84,9 @@ class RoomServiceTest {
     @Test
     void findAll_ShouldReturnAllRooms() {
         // Arrange
-        when(roomRepo.findAll()).thenReturn(roomList);
-        when(roomMapper.toListDTO(roomList)).thenReturn(roomDTOList);
+        List<RoomSummary> summaries = List.of(mock(RoomSummary.class));
+        when(roomRepo.findAllSummaries()).thenReturn(summaries);
+        when(roomMapper.toSummaryListDTO(summaries)).thenReturn(roomDTOList);
 
         // Act
         RoomDTO result = roomService.findAll();
@@ -75,25 +95,29 @@ class RoomServiceTest {
         assertNotNull(result);
         assertNotNull(result.getListResult());
         assertEquals(1, result.getListResult().size());
-        verify(roomRepo).findAll();
-        verify(roomMapper).toListDTO(roomList);
+        verify(roomRepo).findAllSummaries();
+        verify(roomRepo, never()).findAll();
+        verify(roomMapper).toSummaryListDTO(summaries);
     }
 
     @Test
     void findAllAvailable_ShouldReturnAvailableRooms() {
         // Arrange
-        Date checkinDate = new Date();
-        when(roomRepo.findAvailableRoomsAt(checkinDate)).thenReturn(roomList);
+        LocalDate checkIn = LocalDate.of(2025, 6, 1);
+        LocalDate checkOut = checkIn.plusDays(1);
+        Date checkinDate = Date.from(checkIn.atStartOfDay(ZoneId.systemDefault()).toInstant());
+        Date checkoutDate = Date.from(checkOut.atStartOfDay(ZoneId.systemDefault()).toInstant());
+        when(roomRepo.findAvailableRoomsBetween(checkIn, checkOut, LocalDate.now())).thenReturn(roomList);
         when(roomMapper.toListDTO(roomList)).thenReturn(roomDTOList);
 
         // Act
-        RoomDTO result = roomService.findAllAvailable(checkinDate);
+        RoomDTO result = roomService.findAllAvailable(checkinDate, checkoutDate);
 
         // Assert
         assertNotNull(result);
         assertNotNull(result.getListResult());
         assertEquals(1, result.getListResult().size());
-        verify(roomRepo).findAvailableRoomsAt(checkinDate);
+        verify(roomRepo).findAvailableRoomsBetween(checkIn, checkOut, LocalDate.now());
         verify(roomMapper).toListDTO(roomList);
     }
 
@@ -158,43 +182,78 @@ class RoomServiceTest {
     void delete_ValidRooms_ShouldDeleteRooms() {
         // Arrange
         int[] roomNumbers = {101};
-        List<Integer> roomNoList = Arrays.stream(roomNumbers).boxed().toList();
-        when(roomRepo.findByRoomNoIn(roomNoList)).thenReturn(roomList);
+        List<Integer> roomNoList = List.of(101);
+        when(roomRepo.findActiveRoomNos(roomNoList)).thenReturn(roomNoList);
+        when(roomRepo.findRoomNosWithBookings(roomNoList)).thenReturn(Collections.emptyList());
 
         // Act
         assertDoesNotThrow(() -> roomService.delete(roomNumbers));
 
         // Assert
-        verify(roomRepo).findByRoomNoIn(roomNoList);
-        verify(roomRepo).deleteAll(roomList);
+        verify(roomRepo).deleteByRoomNos(roomNoList);
+        verify(housekeepingService).cancelPending(roomNoList);
+        verify(roomStatusBoard).remove(101);
+        verify(roomRepo, never()).findByRoomNoIn(any());
     }
 
     @Test
     void delete_NonExistentRoom_ShouldThrowException() {
         // Arrange
         int[] roomNumbers = {999};
-        List<Integer> roomNoList = Arrays.stream(roomNumbers).boxed().toList();
-        when(roomRepo.findByRoomNoIn(roomNoList)).thenReturn(Collections.emptyList());
+        List<Integer> roomNoList = List.of(999);
+        when(roomRepo.findActiveRoomNos(roomNoList)).thenReturn(Collections.emptyList());
 
         // Act & Assert
         AppException exception = assertThrows(AppException.class, () -> roomService.delete(roomNumbers));
         assertEquals(ErrorCode.ROOM_NOT_FOUND, exception.getErrorCode());
-        verify(roomRepo).findByRoomNoIn(roomNoList);
-        verify(roomRepo, never()).deleteAll(any());
+        verify(roomRepo, never()).deleteByRoomNos(any());
     }
 
     @Test
     void delete_RoomInUse_ShouldThrowException() {
         // Arrange
-        room.setBookingDetails(List.of()); // Add a booking detail to simulate room in use
-        int[] roomNumbers = {101};
-        List<Integer> roomNoList = Arrays.stream(roomNumbers).boxed().toList();
-        when(roomRepo.findByRoomNoIn(roomNoList)).thenReturn(roomList);
+        int[] roomNumbers = {101, 102};
+        List<Integer> roomNoList = List.of(101, 102);
+        when(roomRepo.findActiveRoomNos(roomNoList)).thenReturn(roomNoList);
+        when(roomRepo.findRoomNosWithBookings(roomNoList)).thenReturn(List.of(102));
 
         // Act & Assert
         AppException exception = assertThrows(AppException.class, () -> roomService.delete(roomNumbers));
         assertEquals(ErrorCode.ROOM_IN_USE, exception.getErrorCode());
-        verify(roomRepo).findByRoomNoIn(roomNoList);
-        verify(roomRepo, never()).deleteAll(any());
+        verify(roomRepo, never()).deleteByRoomNos(any());
+    }
+
+    @Test
+    void archive_RoomWithHistory_ShouldArchiveWithoutLoadingBookings() {
+        // Arrange
+        int[] roomNumbers = {101};
+        List<Integer> roomNoList = List.of(101);
+        when(roomRepo.findActiveRoomNos(roomNoList)).thenReturn(roomNoList);
+        when(roomRepo.findRoomNosWithOpenBookings(roomNoList)).thenReturn(Collections.emptyList());
+
+        // Act
+        roomService.archive(roomNumbers);
+
+        // Assert
+        verify(roomRepo).archiveByRoomNos(eq(roomNoList), any(Date.class));
+        verify(roomRepo, never()).deleteByRoomNos(any());
+        verify(housekeepingService).cancelPending(roomNoList);
+        verify(roomStatusBoard).remove(101);
+        verify(roomCatalog).invalidate();
+    }
+
+    @Test
+    void archive_RoomWithUpcomingStay_ShouldThrowException() {
+        // Arrange
+        int[] roomNumbers = {101};
+        List<Integer> roomNoList = List.of(101);
+        when(roomRepo.findActiveRoomNos(roomNoList)).thenReturn(roomNoList);
+        when(roomRepo.findRoomNosWithOpenBookings(roomNoList)).thenReturn(roomNoList);
+
+        // Act & Assert
+        AppException exception = assertThrows(AppException.class, () -> roomService.archive(roomNumbers));
+        assertEquals(ErrorCode.ROOM_IN_USE, exception.getErrorCode());
+        verify(roomRepo, never()).archiveByRoomNos(any(), any());
+        verifyNoInteractions(housekeepingService);
     }
-} 
\ No newline at end of file
+}
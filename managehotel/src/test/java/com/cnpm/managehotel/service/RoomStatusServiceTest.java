@@ -0,0 +1,154 @@
+package com.cnpm.managehotel.service;
+
+import com.cnpm.managehotel.catalog.RoomCatalog;
+import com.cnpm.managehotel.dto.response.RoomStatusTransitionResponse;
+import com.cnpm.managehotel.constant.RoomStatus;
+import com.cnpm.managehotel.entity.Room;
+import com.cnpm.managehotel.entity.RoomStatusTransition;
+import com.cnpm.managehotel.exception.AppException;
+import com.cnpm.managehotel.exception.ErrorCode;
+import com.cnpm.managehotel.mapper.RoomStatusTransitionMapper;
+import com.cnpm.managehotel.repository.RoomRepo;
+import com.cnpm.managehotel.repository.RoomStatusTransitionRepo;
+import com.cnpm.managehotel.roomstatus.RoomStatusBoard;
+import com.cnpm.managehotel.roomstatus.RoomStatusChangedEvent;
+import com.cnpm.managehotel.roomstatus.RoomStatusEntry;
+import com.cnpm.managehotel.service.impl.RoomStatusServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RoomStatusServiceTest {
+
+    @Mock
+    private RoomRepo roomRepo;
+
+    @Mock
+    private RoomStatusTransitionRepo roomStatusTransitionRepo;
+
+    @Mock
+    private RoomStatusBoard roomStatusBoard;
+
+    @Mock
+    private RoomCatalog roomCatalog;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private RoomStatusTransitionMapper roomStatusTransitionMapper;
+
+    @InjectMocks
+    private RoomStatusServiceImpl roomStatusService;
+
+    private Room room;
+
+    @BeforeEach
+    void setUp() {
+        room = new Room();
+        room.setId(1L);
+        room.setRoomNo(101);
+        room.setStatus(RoomStatus.OCCUPIED);
+    }
+
+    @Test
+    void transition_Allowed_ShouldUpdateRoomAndRecordTransition() {
+        // Arrange
+        when(roomRepo.updateStatus(1L, RoomStatus.OCCUPIED, RoomStatus.DIRTY)).thenReturn(1);
+        when(roomStatusTransitionRepo.save(any(RoomStatusTransition.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        // Act
+        RoomStatusEntry result = roomStatusService.transition(room, RoomStatus.DIRTY, "Checked out");
+
+        // Assert
+        assertEquals(RoomStatus.DIRTY, result.getStatus());
+        assertEquals(RoomStatus.DIRTY, room.getStatus());
+
+        ArgumentCaptor<RoomStatusTransition> captor = ArgumentCaptor.forClass(RoomStatusTransition.class);
+        verify(roomStatusTransitionRepo).save(captor.capture());
+        assertEquals(RoomStatus.OCCUPIED, captor.getValue().getFromStatus());
+        assertEquals(RoomStatus.DIRTY, captor.getValue().getToStatus());
+        assertEquals("Checked out", captor.getValue().getReason());
+        verify(roomStatusBoard).apply(eq(101), eq(RoomStatus.DIRTY), any());
+        verify(roomCatalog).invalidate();
+        verify(eventPublisher).publishEvent(new RoomStatusChangedEvent(1L, 101, RoomStatus.OCCUPIED, RoomStatus.DIRTY, "Checked out"));
+    }
+
+    @Test
+    void transition_NotAllowed_ShouldThrowException() {
+        // Arrange
+        room.setStatus(RoomStatus.DIRTY);
+
+        // Act & Assert
+        AppException exception = assertThrows(AppException.class,
+                () -> roomStatusService.transition(room, RoomStatus.OCCUPIED, null));
+        assertEquals(ErrorCode.ROOM_STATUS_TRANSITION_NOT_ALLOWED, exception.getErrorCode());
+        verify(roomRepo, never()).updateStatus(any(), any(), any());
+        verifyNoInteractions(roomStatusTransitionRepo, roomStatusBoard);
+    }
+
+    @Test
+    void transition_ConcurrentChange_ShouldThrowConflict() {
+        // Arrange
+        when(roomRepo.updateStatus(1L, RoomStatus.OCCUPIED, RoomStatus.DIRTY)).thenReturn(0);
+
+        // Act & Assert
+        AppException exception = assertThrows(AppException.class,
+                () -> roomStatusService.transition(room, RoomStatus.DIRTY, null));
+        assertEquals(ErrorCode.ROOM_STATUS_CONFLICT, exception.getErrorCode());
+        assertEquals(RoomStatus.OCCUPIED, room.getStatus());
+        verifyNoInteractions(roomStatusTransitionRepo, roomStatusBoard);
+    }
+
+    @Test
+    void transition_SameStatus_ShouldDoNothing() {
+        // Act
+        RoomStatusEntry result = roomStatusService.transition(room, RoomStatus.OCCUPIED, null);
+
+        // Assert
+        assertEquals(RoomStatus.OCCUPIED, result.getStatus());
+        verifyNoInteractions(roomRepo, roomStatusTransitionRepo, roomStatusBoard, roomCatalog);
+    }
+
+    @Test
+    void transition_UnknownStatus_ShouldThrowException() {
+        // Act & Assert
+        AppException exception = assertThrows(AppException.class,
+                () -> roomStatusService.transition(room, "BROKEN", null));
+        assertEquals(ErrorCode.INVALID_ROOM_STATUS, exception.getErrorCode());
+    }
+
+    @Test
+    void findHistory_ShouldReturnResponsesNotEntities() {
+        // Arrange
+        List<RoomStatusTransition> transitions = List.of(RoomStatusTransition.builder()
+                .id(7L)
+                .roomId(1L)
+                .roomNo(101)
+                .fromStatus(RoomStatus.OCCUPIED)
+                .toStatus(RoomStatus.DIRTY)
+                .build());
+        List<RoomStatusTransitionResponse> responses = List.of(new RoomStatusTransitionResponse(
+                101, RoomStatus.OCCUPIED, RoomStatus.DIRTY, null, null, null));
+        when(roomStatusTransitionRepo.findByRoomNoOrderByChangedAtDesc(101)).thenReturn(transitions);
+        when(roomStatusTransitionMapper.toResponseList(transitions)).thenReturn(responses);
+
+        // Act
+        List<RoomStatusTransitionResponse> result = roomStatusService.findHistory(101);
+
+        // Assert
+        assertSame(responses, result);
+    }
+}
@@ -0,0 +1,182 @@
+package com.cnpm.managehotel.service;
+
+import com.cnpm.managehotel.catalog.CatalogCache;
+import com.cnpm.managehotel.catalog.CatalogProduct;
+import com.cnpm.managehotel.constant.ProductCategory;
+import com.cnpm.managehotel.dto.request.ServiceRequest;
+import com.cnpm.managehotel.dto.response.ServiceResponse;
+import com.cnpm.managehotel.entity.*;
+import com.cnpm.managehotel.exception.AppException;
+import com.cnpm.managehotel.exception.ErrorCode;
+import com.cnpm.managehotel.inventory.InventoryChangedEvent;
+import com.cnpm.managehotel.inventory.StockLevel;
+import com.cnpm.managehotel.mapper.ServiceMapper;
+import com.cnpm.managehotel.repository.BookingRepo;
+import com.cnpm.managehotel.repository.ProductRepo;
+import com.cnpm.managehotel.repository.ServiceRepo;
+import com.cnpm.managehotel.service.impl.ServiceServiceImpl;
+import com.cnpm.managehotel.stay.InHouseRegistry;
+import com.cnpm.managehotel.stay.InHouseStay;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ServiceServiceTest {
+
+    @Mock
+    private ServiceRepo serviceRepo;
+
+    @Mock
+    private ProductRepo productRepo;
+
+    @Mock
+    private BookingRepo bookingRepo;
+
+    @Mock
+    private InHouseRegistry inHouseRegistry;
+
+    @Mock
+    private CatalogCache catalogCache;
+
+    @Mock
+    private ServiceMapper serviceMapper;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private ServiceServiceImpl serviceService;
+
+    private Product water;
+    private InHouseStay room101;
+    private InHouseStay room102;
+
+    @BeforeEach
+    void setUp() {
+        Category minibar = new Category();
+        minibar.setId(ProductCategory.CONSUMABLE);
+
+        water = new Product();
+        water.setId(1L);
+        water.setTitle("Water");
+        water.setCategory(minibar);
+
+        room101 = new InHouseStay(101, 10L, "BK-101");
+        room102 = new InHouseStay(102, 11L, "BK-102");
+
+        lenient().when(serviceMapper.toEntity(any(ServiceRequest.class))).thenAnswer(inv -> {
+            ServiceRequest request = inv.getArgument(0);
+            ServiceEntity entity = new ServiceEntity();
+            entity.setAmount(request.getAmount());
+            entity.setPrice(request.getPrice());
+            return entity;
+        });
+        lenient().when(catalogCache.getProducts(any())).thenReturn(Map.of(1L, CatalogProduct.of(water)));
+        lenient().when(productRepo.getReferenceById(1L)).thenReturn(water);
+        lenient().when(bookingRepo.getReferenceById(any())).thenAnswer(inv -> {
+            Booking booking = new Booking();
+            booking.setId(inv.getArgument(0));
+            return booking;
+        });
+    }
+
+    private StockLevel stockLevel(Long id, int amount) {
+        return new StockLevel() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public int getAmount() {
+                return amount;
+            }
+        };
+    }
+
+    private ServiceRequest line(int roomNo, int amount) {
+        return ServiceRequest.builder().roomNo(roomNo).productId(1L).amount(amount).price(10000).build();
+    }
+
+    @Test
+    void saveAll_FloorSweep_ShouldDecrementOnceAndInsertInBatch() {
+        // Arrange
+        when(inHouseRegistry.findAll(any())).thenReturn(Map.of(101, room101, 102, room102));
+        when(productRepo.decrementStock(anyMap())).thenReturn(List.of());
+        when(productRepo.findStockLevels(any())).thenReturn(List.of(stockLevel(1L, 7)));
+
+        // Act
+        List<ServiceResponse> result = serviceService.saveAll(List.of(line(101, 2), line(102, 3)));
+
+        // Assert
+        assertEquals(2, result.size());
+        assertEquals("Water", result.get(0).getProductTitle());
+        assertEquals(30000, result.get(1).getTotal());
+        verify(productRepo).decrementStock(Map.of(1L, 5));
+        verify(eventPublisher).publishEvent(new InventoryChangedEvent(1L, -5, 7));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ServiceEntity>> captor = ArgumentCaptor.forClass(List.class);
+        verify(serviceRepo).insertAll(captor.capture());
+        List<ServiceEntity> inserted = captor.getValue();
+        assertEquals(10L, inserted.get(0).getBooking().getId());
+        assertEquals(11L, inserted.get(1).getBooking().getId());
+        assertNotNull(inserted.get(0).getBuyDate());
+    }
+
+    @Test
+    void saveAll_RoomWithoutActiveBooking_ShouldThrow() {
+        // Arrange
+        when(inHouseRegistry.findAll(any())).thenReturn(Map.of(101, room101));
+
+        // Act
+        AppException ex = assertThrows(AppException.class,
+                () -> serviceService.saveAll(List.of(line(101, 1), line(103, 1))));
+
+        // Assert
+        assertEquals(ErrorCode.BOOKING_NOT_FOUND, ex.getErrorCode());
+        verify(productRepo, never()).decrementStock(anyMap());
+        verify(serviceRepo, never()).insertAll(any());
+    }
+
+    @Test
+    void saveAll_NotEnoughStock_ShouldThrowAndSkipInsert() {
+        // Arrange
+        when(inHouseRegistry.findAll(any())).thenReturn(Map.of(101, room101));
+        when(productRepo.decrementStock(anyMap())).thenReturn(List.of(1L));
+
+        // Act
+        AppException ex = assertThrows(AppException.class,
+                () -> serviceService.saveAll(List.of(line(101, 50))));
+
+        // Assert
+        assertEquals(ErrorCode.NOT_ENOUGH, ex.getErrorCode());
+        verify(serviceRepo, never()).insertAll(any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void saveAll_NonPositiveAmount_ShouldThrow() {
+        // Act
+        AppException ex = assertThrows(AppException.class,
+                () -> serviceService.saveAll(List.of(line(101, 0))));
+
+        // Assert
+        assertEquals(ErrorCode.INVALID_AMOUNT, ex.getErrorCode());
+        verifyNoInteractions(inHouseRegistry, productRepo, serviceRepo, catalogCache);
+    }
+}
@@ -12,6 +12,7 @@ import com.cnpm.managehotel.repository.BookingRepo;
 import com.cnpm.managehotel.repository.InvoiceRepo;
 import com.cnpm.managehotel.repository.RoomRepo;
 import com.cnpm.managehotel.service.impl.VnPayServiceImpl;
+import com.cnpm.managehotel.stay.InHouseRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -44,6 +45,12 @@ class VnPayServiceTest {
     @Mock
     private RoomRepo roomRepo;
 
+    @Mock
+    private InHouseRegistry inHouseRegistry;
+
+    @Mock
+    private RoomStatusService roomStatusService;
+
     @InjectMocks
     private VnPayServiceImpl vnPayService;
 
@@ -169,21 +176,20 @@ class VnPayServiceTest {
         // Arrange
         request.setParameter("vnp_TxnRef", "BK-12345678");
         when(bookingRepo.findByBookingCode("BK-12345678")).thenReturn(Optional.of(booking));
+        when(invoiceRepo.findByBookingId(booking.getId())).thenReturn(Optional.of(invoice));
         when(roomRepo.findRoomsByBookingCode("BK-12345678")).thenReturn(Arrays.asList(room));
         when(bookingRepo.save(any(Booking.class))).thenReturn(booking);
-        when(roomRepo.save(any(Room.class))).thenReturn(room);
 
         // Act
         vnPayService.savePayment(request);
 
         // Assert
         assertTrue(booking.getIsPaid());
-        assertEquals(RoomStatus.AVAILABLE, room.getStatus());
 
         verify(bookingRepo).findByBookingCode("BK-12345678");
         verify(roomRepo).findRoomsByBookingCode("BK-12345678");
         verify(bookingRepo).save(booking);
-        verify(roomRepo).save(room);
+        verify(roomStatusService).transition(eq(room), eq(RoomStatus.DIRTY), anyString());
     }
 
     @Test
@@ -0,0 +1,140 @@
+package com.cnpm.managehotel.stay;
+
+import com.cnpm.managehotel.repository.BookingRepo;
+import com.cnpm.managehotel.repository.BookingdetailRepo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class InHouseRegistryTest {
+
+    @Mock
+    private BookingdetailRepo bookingdetailRepo;
+
+    @Mock
+    private BookingRepo bookingRepo;
+
+    @InjectMocks
+    private InHouseRegistry inHouseRegistry;
+
+    @BeforeEach
+    void setUp() {
+        when(bookingdetailRepo.findInHouse()).thenReturn(List.of(
+                new InHouseStay(101, 1L, "BK-OLD"),
+                new InHouseStay(101, 2L, "BK-NEW"),
+                new InHouseStay(102, 2L, "BK-NEW")));
+        inHouseRegistry.rebuild();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void find_AfterRebuild_ShouldReturnLatestStayWithoutQuery() {
+        // Act
+        Optional<InHouseStay> stay = inHouseRegistry.find(101);
+
+        // Assert
+        assertTrue(stay.isPresent());
+        assertEquals(2L, stay.get().getBookingId());
+        verify(bookingdetailRepo, never()).findInHouseByRoomNos(any());
+        verifyNoInteractions(bookingRepo);
+    }
+
+    @Test
+    void find_UnknownRoom_ShouldFallBackToDatabaseOnce() {
+        // Arrange
+        when(bookingdetailRepo.findInHouseByRoomNos(List.of(103))).thenReturn(List.of(new InHouseStay(103, 3L, "BK-3")));
+
+        // Act
+        inHouseRegistry.find(103);
+        Optional<InHouseStay> stay = inHouseRegistry.find(103);
+
+        // Assert
+        assertEquals("BK-3", stay.orElseThrow().getBookingCode());
+        verify(bookingdetailRepo, times(1)).findInHouseByRoomNos(any());
+    }
+
+    @Test
+    void findAll_ShouldLoadOnlyMissingRooms() {
+        // Arrange
+        when(bookingdetailRepo.findInHouseByRoomNos(List.of(104))).thenReturn(List.of());
+
+        // Act
+        Map<Integer, InHouseStay> stays = inHouseRegistry.findAll(List.of(101, 102, 104));
+
+        // Assert
+        assertEquals(2, stays.size());
+        assertFalse(stays.containsKey(104));
+    }
+
+    @Test
+    void removeBooking_ShouldDropAllRoomsOfBooking() {
+        // Act
+        inHouseRegistry.removeBooking(2L);
+
+        // Assert
+        assertTrue(inHouseRegistry.findAll().isEmpty());
+    }
+
+    @Test
+    void checkIn_InsideTransaction_ShouldApplyOnlyAfterCommit() {
+        // Arrange
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        inHouseRegistry.checkIn(105, 5L, "BK-5");
+
+        // Assert
+        assertEquals(2, inHouseRegistry.findAll().size());
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertEquals(3, inHouseRegistry.findAll().size());
+        assertEquals(5L, inHouseRegistry.find(105).orElseThrow().getBookingId());
+    }
+
+    @Test
+    void sync_BookingPaidOnAnotherNode_ShouldDropItsStays() {
+        // Arrange
+        when(bookingRepo.findUnpaidIds(Set.of(2L))).thenReturn(List.of());
+        when(bookingdetailRepo.findInHouseByRoomNos(List.of(101))).thenReturn(List.of());
+
+        // Act
+        inHouseRegistry.sync();
+
+        // Assert
+        assertTrue(inHouseRegistry.findAll().isEmpty());
+        assertTrue(inHouseRegistry.find(101).isEmpty());
+    }
+
+    @Test
+    void sync_UnpaidBooking_ShouldKeepItsStays() {
+        // Arrange
+        when(bookingRepo.findUnpaidIds(Set.of(2L))).thenReturn(List.of(2L));
+
+        // Act
+        inHouseRegistry.sync();
+
+        // Assert
+        assertEquals(2, inHouseRegistry.findAll().size());
+    }
+}